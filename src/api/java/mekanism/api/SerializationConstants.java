@@ -144,6 +144,10 @@ public final class SerializationConstants {
      * @since 10.7.0
      */
     public static final String CHEMICAL_TANKS = "chemical_tanks";
+    /**
+     * @since 10.7.8
+     */
+    public static final String CHUNK = "chunk";
     public static final String CHUNK_SET = "chunk_set";
     public static final String COILS = "coils";
     public static final String COLOR = "color";
@@ -296,6 +300,10 @@ public final class SerializationConstants {
     public static final String SLURRY_TANKS = "slurry_tanks";
     public static final String SORTING = "sorting";
     public static final String STABILIZER_CHUNKS_TO_LOAD = "stabilizer_chunks_to_load";
+    /**
+     * @since 10.7.8
+     */
+    public static final String STAMP = "stamp";
     public static final String STATE = "state";
     public static final String STATE_PROVIDER = "state_provider";
     public static final String STOCK_CONTROL = "stock_control";
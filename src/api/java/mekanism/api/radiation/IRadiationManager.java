@@ -98,6 +98,9 @@ public interface IRadiationManager {
      * Gets an unmodifiable table of the radiation sources tracked by this manager. This table keeps track of radiation sources on both a chunk and position based level.
      *
      * @return Unmodifiable table of radiation sources.
+     *
+     * @apiNote The returned table is a snapshot of which sources exist, and will not reflect any sources that are added or removed after it was retrieved. The
+     * magnitudes of the sources in it will still stay up to date.
      */
     Table<Chunk3D, GlobalPos, IRadiationSource> getRadiationSources();
 
@@ -126,6 +126,19 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
      */
     private IntConsumer operatingTicksChanged = ticks -> {
     };
+    /**
+     * Whether a custom {@link #postProcessOperations} has been set, in which case we always calculate the number of operations as we can't know what it depends on.
+     */
+    private boolean hasPostProcessing;
+    /**
+     * Number of operations that the last fully calculated tick was able to perform without running into any errors, or zero if the next tick has to be fully
+     * calculated. While this is set, ticks in the middle of an operation reuse this number instead of recalculating it from the inputs and outputs.
+     */
+    private int steadyOperations;
+    /**
+     * Baseline max operations that {@link #steadyOperations} was calculated with, so that we can tell if something like an upgrade changed it.
+     */
+    private int steadyBaselineMaxOperations;
 
     /**
      * @param recipe           Recipe.
@@ -249,6 +262,7 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
      */
     public CachedRecipe<RECIPE> setPostProcessOperations(Consumer<OperationTracker> postProcessOperations) {
         this.postProcessOperations = Objects.requireNonNull(postProcessOperations, "Post processing of the operation count cannot be null.");
+        this.hasPostProcessing = true;
         return this;
     }
 
@@ -287,6 +301,8 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
      */
     public void unpauseErrors() {
         pausedForErrors = false;
+        //Note: This is also called when the contents the recipe uses change, so we need to fully calculate the operations again
+        steadyOperations = 0;
     }
 
     /**
@@ -298,6 +314,7 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
         if (operatingTicks > 0 && operatingTicks < requiredTicks.getAsInt()) {
             this.operatingTicks = operatingTicks;
         }
+        steadyOperations = 0;
     }
 
     /**
@@ -312,9 +329,20 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
             return;
         }
         int operations;
-        if (canHolderFunction.getAsBoolean()) {
+        if (!canHolderFunction.getAsBoolean()) {
+            steadyOperations = 0;
+            operations = 0;
+            if (!errors.isEmpty()) {
+                updateErrors(Collections.emptySet());
+            }
+        } else if (canReuseSteadyOperations()) {
+            //Nothing has changed since the last tick, and this isn't the tick that finishes the operation, so we can skip calculating the operations again
+            operations = steadyOperations;
+        } else {
             setupVariableValues();
-            OperationTracker tracker = new OperationTracker(errors, recheckAllErrors.getAsBoolean(), baselineMaxOperations.getAsInt());
+            boolean recheckAll = recheckAllErrors.getAsBoolean();
+            int baselineMax = baselineMaxOperations.getAsInt();
+            OperationTracker tracker = new OperationTracker(errors, recheckAll, baselineMax);
             calculateOperationsThisTick(tracker);
             if (tracker.shouldContinueChecking()) {
                 postProcessOperations.accept(tracker);
@@ -330,10 +358,11 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
             if (tracker.hasErrorsToCopy()) {
                 updateErrors(tracker.errors);
             }
-        } else {
-            operations = 0;
-            if (!errors.isEmpty()) {
-                updateErrors(Collections.emptySet());
+            if (operations > 0 && errors.isEmpty() && !recheckAll && !hasPostProcessing && supportsSteadyState()) {
+                steadyOperations = operations;
+                steadyBaselineMaxOperations = baselineMax;
+            } else {
+                steadyOperations = 0;
             }
         }
         if (operations > 0) {
@@ -344,6 +373,7 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
             int ticksRequired = requiredTicks.getAsInt();
             if (operatingTicks >= ticksRequired) {
                 operatingTicks = 0;
+                steadyOperations = 0;
                 finishProcessing(operations);
                 onFinish.run();
                 resetCache();
@@ -360,12 +390,44 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
             if (operations < 0) {
                 //Reset the progress
                 operatingTicks = 0;
+                steadyOperations = 0;
                 operatingTicksChanged.accept(operatingTicks);
                 resetCache();
             }
         }
     }
 
+    /**
+     * Checks if the number of operations from the previous tick can be reused for this tick. This is the case when the previous tick was able to run without any errors,
+     * the holder hasn't notified us of any changes to the contents via {@link #unpauseErrors()}, the baseline max operations haven't changed, there is still enough
+     * energy stored to perform the operations, and this tick won't finish the operation. As finishing the operation consumes the inputs and produces the outputs, that
+     * tick is always fully calculated.
+     */
+    private boolean canReuseSteadyOperations() {
+        if (steadyOperations == 0 || operatingTicks + 1 >= requiredTicks.getAsInt() || baselineMaxOperations.getAsInt() != steadyBaselineMaxOperations) {
+            return false;
+        } else if (recheckAllErrors.getAsBoolean()) {
+            //Someone is viewing the errors, calculate them properly so that they stay up to date
+            return false;
+        }
+        long energyPerTick = perTickEnergy.getAsLong();
+        return energyPerTick == 0L || storedEnergy.getAsLong() / energyPerTick >= steadyOperations;
+    }
+
+    /**
+     * Whether this {@link CachedRecipe} is able to skip calculating the operations for ticks in the middle of an operation when nothing has changed since the previous
+     * tick.
+     *
+     * @return {@code true} if the operations can be reused between ticks.
+     *
+     * @implNote Implementations that consume resources every tick, or calculate the operations based on how far into the operation they are, should return
+     * {@code false}.
+     * @since 10.7.8
+     */
+    protected boolean supportsSteadyState() {
+        return true;
+    }
+
     /**
      * Called to allow recipes to set up any variables they will need this tick to allow them to reduce the number of places they have to recalculate/retrieve a passed in
      * value.
@@ -152,6 +152,12 @@ public class ItemStackConstantChemicalToObjectCachedRecipe<OUTPUT, RECIPE extend
         chemicalUsedSoFarChanged.accept(chemicalUsedSoFar);
     }
 
+    @Override
+    protected boolean supportsSteadyState() {
+        //We use chemicals every tick based on how far into the operation we are
+        return false;
+    }
+
     @Override
     protected void resetCache() {
         super.resetCache();
@@ -1080,6 +1080,12 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.COMMAND_RETROGEN_CHUNK_QUEUED, "Queued chunk (%1$s) in %2$s for retrogen.");
         add(MekanismLang.COMMAND_ERROR_RETROGEN_DISABLED, "Retrogen is disabled, please enable it in the config.");
         add(MekanismLang.COMMAND_ERROR_RETROGEN_FAILURE, "Failed to queue any chunks for retrogen.");
+        add(MekanismLang.COMMAND_PROFILE_START, "Started profiling Mekanism.");
+        add(MekanismLang.COMMAND_PROFILE_STOP, "Stopped profiling Mekanism after %1$s ticks.");
+        add(MekanismLang.COMMAND_PROFILE_SECTION, "%1$s: %2$s ms/tick");
+        add(MekanismLang.COMMAND_PROFILE_DUMP, "Saved profiling results to debug/%1$s.");
+        add(MekanismLang.COMMAND_ERROR_PROFILE_NOT_RUNNING, "Mekanism is not currently being profiled.");
+        add(MekanismLang.COMMAND_ERROR_PROFILE_DUMP, "Failed to save profiling results, check the log for details.");
         //Tooltip stuff
         add(MekanismLang.UNKNOWN, "Unknown");
         add(MekanismLang.MODE, "Mode: %1$s");
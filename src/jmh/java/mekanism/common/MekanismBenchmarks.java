@@ -0,0 +1,39 @@
+package mekanism.common;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for running our JMH benchmarks through the benchmark run, so that the benchmarks have access to the same loaded registries that our unit tests do.
+ * <p>
+ * Which benchmarks get run can be narrowed down by setting the {@code mekanism.benchmark.include} system property to a regex matching the benchmarks to run.
+ *
+ * @implNote As the game can only be loaded once per JVM, the benchmarks are run in the same JVM as the runner instead of JMH's default of forking a new JVM for each
+ * benchmark. This means results should only be compared against other results that were gathered the same way.
+ */
+class MekanismBenchmarks {
+
+    @Test
+    void runBenchmarks() throws IOException, RunnerException {
+        Path results = Path.of("build", "reports", "jmh", "results.json");
+        Files.createDirectories(results.getParent());
+        ChainedOptionsBuilder options = new OptionsBuilder()
+              .include(System.getProperty("mekanism.benchmark.include", ".*Benchmark"))
+              .forks(0)
+              .warmupIterations(3)
+              .measurementIterations(5)
+              //Report allocation rates along with the timings
+              .addProfiler(GCProfiler.class)
+              .resultFormat(ResultFormatType.JSON)
+              .result(results.toString());
+        new Runner(options.build()).run();
+    }
+}
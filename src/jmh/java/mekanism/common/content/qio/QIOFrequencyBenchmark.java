@@ -0,0 +1,97 @@
+package mekanism.common.content.qio;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import mekanism.api.Action;
+import mekanism.api.security.SecurityMode;
+import mekanism.common.inventory.slot.QIODriveSlot;
+import mekanism.common.registries.MekanismBlocks;
+import mekanism.common.registries.MekanismItems;
+import mekanism.common.tile.qio.TileEntityQIODriveArray;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@link QIOFrequency#massInsert(ItemStack, long, Action)} and {@link QIOFrequency#massExtract(ItemStack, long, Action)} against a frequency storing
+ * thousands of distinct item types. Each benchmark invocation sweeps over every stored type.
+ *
+ * @implNote This requires our registries to be loaded, so it has to be run through the benchmark run rather than directly via JMH's main method.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QIOFrequencyBenchmark {
+
+    private static final long AMOUNT = 16;
+
+    @Param({"1024", "8192"})
+    public int types;
+
+    private QIOFrequency frequency;
+    private ItemStack[] stacks;
+
+    @Setup
+    public void setup() {
+        frequency = new QIOFrequency("benchmark", null, SecurityMode.PUBLIC);
+        TileEntityQIODriveArray driveArray = new TileEntityQIODriveArray(BlockPos.ZERO, MekanismBlocks.QIO_DRIVE_ARRAY.defaultState());
+        List<QIODriveSlot> driveSlots = driveArray.getDriveSlots();
+        //Add an extra drive so that inserting has to decide between multiple drives
+        int drives = Math.ceilDiv(types, 8_192) + 1;
+        if (drives > driveSlots.size()) {
+            throw new IllegalStateException("A single drive array can't hold enough drives for " + types + " types");
+        }
+        for (int i = 0; i < drives; i++) {
+            QIODriveSlot slot = driveSlots.get(i);
+            //Note: As the drive array has no level the slot won't try to add itself to a frequency, so we add it manually after setting the stack
+            slot.setStack(MekanismItems.SUPERMASSIVE_QIO_DRIVE.getItemStack());
+            frequency.addDrive(slot.getKey());
+        }
+        stacks = new ItemStack[types];
+        for (int i = 0; i < types; i++) {
+            ItemStack stack = new ItemStack(Items.STONE);
+            stack.set(DataComponents.CUSTOM_NAME, Component.literal("Type " + i));
+            stacks[i] = stack;
+            //Store a single item of each type so that the sweeps don't add and remove the types themselves
+            frequency.massInsert(stack, 1, Action.EXECUTE);
+        }
+    }
+
+    @Benchmark
+    public long insertSimulate() {
+        long inserted = 0;
+        for (ItemStack stack : stacks) {
+            inserted += frequency.massInsert(stack, AMOUNT, Action.SIMULATE);
+        }
+        return inserted;
+    }
+
+    @Benchmark
+    public long extractSimulate() {
+        long extracted = 0;
+        for (ItemStack stack : stacks) {
+            extracted += frequency.massExtract(stack, AMOUNT, Action.SIMULATE);
+        }
+        return extracted;
+    }
+
+    @Benchmark
+    public long insertThenExtract() {
+        long moved = 0;
+        for (ItemStack stack : stacks) {
+            moved += frequency.massInsert(stack, AMOUNT, Action.EXECUTE);
+            moved += frequency.massExtract(stack, AMOUNT, Action.EXECUTE);
+        }
+        return moved;
+    }
+}
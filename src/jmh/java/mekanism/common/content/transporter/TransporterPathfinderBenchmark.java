@@ -0,0 +1,137 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import mekanism.common.block.transmitter.BlockLargeTransmitter;
+import mekanism.common.content.network.InventoryNetwork;
+import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder;
+import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder.DestChecker;
+import mekanism.common.registration.impl.BlockRegistryObject;
+import mekanism.common.registries.MekanismBlocks;
+import mekanism.common.tile.transmitter.TileEntityLogisticalTransporter;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@link Pathfinder} on networks of real logistical transporters, so that changes to the search can be measured without needing a world.
+ *
+ * @implNote This requires our registries to be loaded, so it has to be run through the benchmark run rather than directly via JMH's main method. As there is no world,
+ * the destination is accepted based purely on its position rather than by looking up the inventory that would be there.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransporterPathfinderBenchmark {
+
+    private static final DestChecker ANY_DESTINATION = (level, pos, tile, stack, data, side) -> true;
+
+    @Param({"16", "64"})
+    public int size;
+
+    @Param
+    public Layout layout;
+
+    private InventoryNetwork network;
+    private TransporterStack stack;
+    private ItemStack data;
+    private BlockPos start;
+    private BlockPos end;
+
+    @Setup
+    public void setup() {
+        network = new InventoryNetwork(UUID.randomUUID());
+        //Use a fixed seed so that runs are comparable
+        layout.build(network, size, new Random(size));
+        start = BlockPos.ZERO;
+        end = layout.getEnd(size);
+        //Mark the transporter next to the end as having an acceptor on that side so that it is allowed to emit into the destination
+        LogisticalTransporterBase last = network.getTransmitter(end.relative(Direction.WEST));
+        if (last == null) {
+            throw new IllegalStateException("Expected a transporter next to the end of the " + layout + " layout");
+        }
+        last.getAcceptorCache().currentAcceptorConnections |= (byte) (1 << Direction.EAST.ordinal());
+        stack = new TransporterStack();
+        data = new ItemStack(Items.STONE);
+        if (findPath() == null) {
+            throw new IllegalStateException("Expected a path to exist in the " + layout + " layout");
+        }
+    }
+
+    @Nullable
+    @Benchmark
+    public LongList findPath() {
+        //Note: The level is null as the destination checker doesn't need it, and there is no world for it to look up chunks in
+        Pathfinder pathfinder = new Pathfinder(network, null, end, start, stack, data, ANY_DESTINATION);
+        if (pathfinder.find(new Long2ObjectOpenHashMap<>())) {
+            return pathfinder.getPath();
+        }
+        return null;
+    }
+
+    private static void addTransporter(InventoryNetwork network, int x, int z, boolean cheap) {
+        //Ultimate transporters are the cheapest to path through, and basic ones are the most expensive apart from restrictive transporters
+        BlockRegistryObject<BlockLargeTransmitter<TileEntityLogisticalTransporter>, ?> block = cheap ? MekanismBlocks.ULTIMATE_LOGISTICAL_TRANSPORTER
+                                                                                                     : MekanismBlocks.BASIC_LOGISTICAL_TRANSPORTER;
+        TileEntityLogisticalTransporter tile = new TileEntityLogisticalTransporter(block, new BlockPos(x, 0, z), block.defaultState());
+        network.addTransmitter(tile.getTransmitter());
+    }
+
+    public enum Layout {
+        /**
+         * A single row of transporters from the start to the end.
+         */
+        LINE {
+            @Override
+            void build(InventoryNetwork network, int size, Random random) {
+                for (int x = 0; x < size; x++) {
+                    addTransporter(network, x, 0, true);
+                }
+            }
+
+            @Override
+            BlockPos getEnd(int size) {
+                return new BlockPos(size, 0, 0);
+            }
+        },
+        /**
+         * A square of transporters with some of them missing, and a mix of transporter tiers, which forces the search to explore many alternative routes.
+         */
+        MESH {
+            @Override
+            void build(InventoryNetwork network, int size, Random random) {
+                for (int x = 0; x < size; x++) {
+                    for (int z = 0; z < size; z++) {
+                        //Always keep the edges so that there is guaranteed to be a path, but punch holes in the rest of the mesh
+                        if (x == 0 || z == size - 1 || random.nextInt(5) != 0) {
+                            addTransporter(network, x, z, random.nextBoolean());
+                        }
+                    }
+                }
+            }
+
+            @Override
+            BlockPos getEnd(int size) {
+                return new BlockPos(size, 0, size - 1);
+            }
+        };
+
+        abstract void build(InventoryNetwork network, int size, Random random);
+
+        abstract BlockPos getEnd(int size);
+    }
+}
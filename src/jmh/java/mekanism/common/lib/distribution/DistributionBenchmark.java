@@ -0,0 +1,93 @@
+package mekanism.common.lib.distribution;
+
+import java.util.concurrent.TimeUnit;
+import mekanism.common.lib.distribution.handler.InfiniteIntegerHandler;
+import mekanism.common.lib.distribution.handler.InfiniteLongHandler;
+import mekanism.common.lib.distribution.handler.PartialIntegerHandler;
+import mekanism.common.lib.distribution.handler.PartialLongHandler;
+import mekanism.common.lib.distribution.handler.SpecificAmountIntegerHandler;
+import mekanism.common.lib.distribution.handler.SpecificAmountLongHandler;
+import mekanism.common.lib.distribution.target.IntegerTarget;
+import mekanism.common.lib.distribution.target.LongTarget;
+import mekanism.common.util.EmitUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@link EmitUtils#sendToAcceptors} against the same handlers the distribution tests use, to measure the cost of splitting between acceptors as transmitter
+ * networks would each tick.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DistributionBenchmark {
+
+    private static final Void VOID_RESOURCE = null;
+
+    @Param({"8", "64", "512"})
+    public int acceptors;
+
+    private IntegerTarget evenTarget;
+    private IntegerTarget mixedTarget;
+    private LongTarget partialTarget;
+    private final IntegerSplitInfo integerSplitInfo = new IntegerSplitInfo();
+    private final LongSplitInfo longSplitInfo = new LongSplitInfo();
+    private int integerToSend;
+    private long longToSend;
+
+    @Setup
+    public void setup() {
+        evenTarget = new IntegerTarget();
+        mixedTarget = new IntegerTarget();
+        partialTarget = new LongTarget();
+        for (int i = 0; i < acceptors; i++) {
+            evenTarget.addHandler(new InfiniteIntegerHandler());
+            //Mix in handlers that accept everything, only part of what they are offered, and only a specific amount
+            // Note: The specific amount handlers fill up during warmup, after which they behave like full acceptors
+            switch (i % 3) {
+                case 0 -> mixedTarget.addHandler(new InfiniteIntegerHandler());
+                case 1 -> mixedTarget.addHandler(new PartialIntegerHandler());
+                default -> mixedTarget.addHandler(new SpecificAmountIntegerHandler(i));
+            }
+            switch (i % 3) {
+                case 0 -> partialTarget.addHandler(new PartialLongHandler());
+                case 1 -> partialTarget.addHandler(new InfiniteLongHandler());
+                default -> partialTarget.addHandler(new SpecificAmountLongHandler(i));
+            }
+        }
+        //Send an amount that doesn't divide evenly so that the remainder has to be handled as well
+        integerToSend = 1_000 * acceptors + acceptors / 2 + 1;
+        longToSend = integerToSend;
+    }
+
+    @Benchmark
+    public int integerEven() {
+        return EmitUtils.sendToAcceptors(evenTarget, integerToSend, VOID_RESOURCE);
+    }
+
+    @Benchmark
+    public int integerMixed() {
+        return EmitUtils.sendToAcceptors(mixedTarget, integerToSend, VOID_RESOURCE);
+    }
+
+    @Benchmark
+    public int integerMixedReusedSplit() {
+        return EmitUtils.sendToAcceptors(mixedTarget, integerSplitInfo, integerToSend, VOID_RESOURCE);
+    }
+
+    @Benchmark
+    public long longPartial() {
+        return EmitUtils.sendToAcceptors(partialTarget, longToSend, VOID_RESOURCE);
+    }
+
+    @Benchmark
+    public long longPartialReusedSplit() {
+        return EmitUtils.sendToAcceptors(partialTarget, longSplitInfo, longToSend, VOID_RESOURCE);
+    }
+}
@@ -0,0 +1,257 @@
+package mekanism.common.recipe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import mekanism.api.Action;
+import mekanism.api.IContentsListener;
+import mekanism.api.chemical.BasicChemicalTank;
+import mekanism.api.chemical.IChemicalTank;
+import mekanism.api.energy.IEnergyContainer;
+import mekanism.api.fluid.IExtendedFluidTank;
+import mekanism.api.inventory.IInventorySlot;
+import mekanism.api.recipes.ItemStackChemicalToItemStackRecipe;
+import mekanism.api.recipes.ItemStackToItemStackRecipe;
+import mekanism.api.recipes.MekanismRecipe;
+import mekanism.api.recipes.PressurizedReactionRecipe;
+import mekanism.api.recipes.RotaryRecipe;
+import mekanism.api.recipes.basic.BasicCrushingRecipe;
+import mekanism.api.recipes.basic.BasicInjectingRecipe;
+import mekanism.api.recipes.basic.BasicPressurizedReactionRecipe;
+import mekanism.api.recipes.basic.BasicRotaryRecipe;
+import mekanism.api.recipes.cache.CachedRecipe;
+import mekanism.api.recipes.cache.CachedRecipe.OperationTracker.RecipeError;
+import mekanism.api.recipes.cache.OneInputCachedRecipe;
+import mekanism.api.recipes.cache.PressurizedReactionCachedRecipe;
+import mekanism.api.recipes.cache.RotaryCachedRecipe;
+import mekanism.api.recipes.cache.TwoInputCachedRecipe;
+import mekanism.api.recipes.ingredients.creator.IngredientCreatorAccess;
+import mekanism.api.recipes.inputs.InputHelper;
+import mekanism.api.recipes.outputs.OutputHelper;
+import mekanism.common.capabilities.energy.BasicEnergyContainer;
+import mekanism.common.capabilities.fluid.BasicFluidTank;
+import mekanism.common.inventory.slot.BasicInventorySlot;
+import mekanism.common.recipe.IMekanismRecipeTypeProvider;
+import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.IRecipeLookupHandler;
+import mekanism.common.recipe.lookup.monitor.RecipeCacheLookupMonitor;
+import mekanism.common.registries.MekanismChemicals;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluids;
+import net.neoforged.neoforge.fluids.FluidStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@link CachedRecipe#process()} for the main kinds of cached recipes, configured with the same callbacks our machines configure them with, against in memory
+ * slots and tanks. Each recipe is processed through a {@link RecipeCacheLookupMonitor} that the slots and tanks notify when they change, in the same way our machines
+ * wire them up. After each completed operation the inputs are refilled and the outputs are emptied, so that every invocation measures a machine that is able to keep
+ * processing.
+ * <p>
+ * With a single required tick every invocation completes an operation, while with more required ticks most invocations measure a tick in the middle of an operation.
+ *
+ * @implNote This requires our registries to be loaded, so it has to be run through the benchmark run rather than directly via JMH's main method.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CachedRecipeBenchmark {
+
+    private static final long ENERGY_PER_TICK = 10;
+    private static final int TANK_CAPACITY = 10_000;
+
+    @Param({"1", "200"})
+    public int requiredTicks;
+
+    private IEnergyContainer energyContainer;
+
+    private IInventorySlot itemInput;
+    private IInventorySlot itemOutput;
+    private IChemicalTank chemicalInput;
+    private IChemicalTank chemicalOutput;
+    private IExtendedFluidTank fluidInput;
+    private IExtendedFluidTank fluidOutput;
+
+    private final List<BenchmarkMachine<?>> machines = new ArrayList<>();
+    private BenchmarkMachine<?> crushing;
+    private BenchmarkMachine<?> injecting;
+    private BenchmarkMachine<?> rotary;
+    private BenchmarkMachine<?> reaction;
+
+    //State that is updated by the callbacks, similar to the state a machine would update
+    private boolean active;
+    private int operatingTicks;
+    private int finishedOperations;
+    private int refilledOperations;
+
+    @Setup
+    public void setup() {
+        //Note: Like our machines, changes to the inputs notify the monitors that the recipe may have changed, and changes to the outputs and energy unpause the recipes
+        IContentsListener inputListener = () -> machines.forEach(machine -> machine.monitor.onContentsChanged());
+        IContentsListener unpauseListener = () -> machines.forEach(machine -> machine.monitor.unpause());
+        energyContainer = BasicEnergyContainer.create(Long.MAX_VALUE, unpauseListener);
+        itemInput = BasicInventorySlot.at(inputListener, 0, 0);
+        itemOutput = BasicInventorySlot.at(unpauseListener, 0, 0);
+        chemicalInput = BasicChemicalTank.create(TANK_CAPACITY, inputListener);
+        chemicalOutput = BasicChemicalTank.create(TANK_CAPACITY, unpauseListener);
+        fluidInput = BasicFluidTank.create(TANK_CAPACITY, inputListener);
+        fluidOutput = BasicFluidTank.create(TANK_CAPACITY, unpauseListener);
+        refill();
+
+        crushing = new BenchmarkMachine<ItemStackToItemStackRecipe>(MekanismRecipeType.CRUSHING,
+              new BasicCrushingRecipe(IngredientCreatorAccess.item().from(Items.COBBLESTONE), new ItemStack(Items.GRAVEL)),
+              recipe -> OneInputCachedRecipe.itemToItem(recipe, () -> false,
+                    InputHelper.getInputHandler(itemInput, RecipeError.NOT_ENOUGH_INPUT),
+                    OutputHelper.getOutputHandler(itemOutput, RecipeError.NOT_ENOUGH_OUTPUT_SPACE)
+              ));
+        injecting = new BenchmarkMachine<ItemStackChemicalToItemStackRecipe>(MekanismRecipeType.INJECTING,
+              new BasicInjectingRecipe(IngredientCreatorAccess.item().from(Items.COBBLESTONE), IngredientCreatorAccess.chemicalStack().from(MekanismChemicals.HYDROGEN, 1),
+                    new ItemStack(Items.GRAVEL), false),
+              recipe -> TwoInputCachedRecipe.itemChemicalToItem(recipe, () -> false,
+                    InputHelper.getInputHandler(itemInput, RecipeError.NOT_ENOUGH_INPUT),
+                    InputHelper.getInputHandler(chemicalInput, RecipeError.NOT_ENOUGH_SECONDARY_INPUT),
+                    OutputHelper.getOutputHandler(itemOutput, RecipeError.NOT_ENOUGH_OUTPUT_SPACE)
+              ));
+        rotary = new BenchmarkMachine<RotaryRecipe>(MekanismRecipeType.ROTARY,
+              new BasicRotaryRecipe(IngredientCreatorAccess.fluid().from(Fluids.WATER, 1), MekanismChemicals.HYDROGEN.getStack(1)),
+              recipe -> new RotaryCachedRecipe(recipe, () -> false,
+                    InputHelper.getInputHandler(fluidInput, RecipeError.NOT_ENOUGH_INPUT),
+                    InputHelper.getInputHandler(chemicalInput, RecipeError.NOT_ENOUGH_INPUT),
+                    OutputHelper.getOutputHandler(chemicalOutput, RecipeError.NOT_ENOUGH_OUTPUT_SPACE),
+                    OutputHelper.getOutputHandler(fluidOutput, RecipeError.NOT_ENOUGH_OUTPUT_SPACE),
+                    () -> true
+              ));
+        reaction = new BenchmarkMachine<PressurizedReactionRecipe>(MekanismRecipeType.REACTION,
+              new BasicPressurizedReactionRecipe(IngredientCreatorAccess.item().from(Items.COBBLESTONE), IngredientCreatorAccess.fluid().from(Fluids.WATER, 10),
+                    IngredientCreatorAccess.chemicalStack().from(MekanismChemicals.HYDROGEN, 10), 0, requiredTicks, new ItemStack(Items.GRAVEL),
+                    MekanismChemicals.OXYGEN.getStack(10)),
+              recipe -> new PressurizedReactionCachedRecipe(recipe, () -> false,
+                    InputHelper.getInputHandler(itemInput, RecipeError.NOT_ENOUGH_INPUT),
+                    InputHelper.getInputHandler(fluidInput, RecipeError.NOT_ENOUGH_SECONDARY_INPUT),
+                    InputHelper.getInputHandler(chemicalInput, RecipeError.NOT_ENOUGH_SECONDARY_INPUT),
+                    OutputHelper.getOutputHandler(itemOutput, RecipeError.NOT_ENOUGH_OUTPUT_SPACE, chemicalOutput, RecipeError.NOT_ENOUGH_OUTPUT_SPACE)
+              ));
+    }
+
+    private <RECIPE extends MekanismRecipe<?>> CachedRecipe<RECIPE> configure(CachedRecipe<RECIPE> cachedRecipe) {
+        return cachedRecipe.setErrorsChanged(errors -> {
+                  //Machines only send the errors to the client when they change, so there is nothing to do here
+              })
+              .setCanHolderFunction(() -> energyContainer.getEnergy() > 0)
+              .setActive(active -> this.active = active)
+              .setEnergyRequirements(() -> ENERGY_PER_TICK, energyContainer)
+              .setRequiredTicks(() -> requiredTicks)
+              .setOnFinish(() -> finishedOperations++)
+              .setOperatingTicksChanged(ticks -> operatingTicks = ticks);
+    }
+
+    private void refill() {
+        energyContainer.setEnergy(energyContainer.getMaxEnergy());
+        itemInput.setStack(new ItemStack(Items.COBBLESTONE, 64));
+        itemOutput.setEmpty();
+        chemicalInput.setStack(MekanismChemicals.HYDROGEN.getStack(TANK_CAPACITY));
+        chemicalOutput.setEmpty();
+        fluidInput.setStack(new FluidStack(Fluids.WATER, TANK_CAPACITY));
+        fluidOutput.setEmpty();
+    }
+
+    private void topUp() {
+        if (refilledOperations == finishedOperations) {
+            //Nothing was used since the last time we topped up. Like in a world, the contents only change when an operation finishes
+            return;
+        }
+        refilledOperations = finishedOperations;
+        //Note: We only adjust the sizes where possible, rather than creating new stacks, to reduce how much of the measured time and allocations comes from the benchmark
+        energyContainer.setEnergy(energyContainer.getMaxEnergy());
+        itemInput.setStackSize(64, Action.EXECUTE);
+        itemOutput.setEmpty();
+        chemicalInput.setStackSize(TANK_CAPACITY, Action.EXECUTE);
+        chemicalOutput.setEmpty();
+        fluidInput.setStackSize(TANK_CAPACITY, Action.EXECUTE);
+        fluidOutput.setEmpty();
+    }
+
+    @Benchmark
+    public int oneInput() {
+        crushing.monitor.updateAndProcess();
+        topUp();
+        return operatingTicks;
+    }
+
+    @Benchmark
+    public int twoInput() {
+        injecting.monitor.updateAndProcess();
+        topUp();
+        return operatingTicks;
+    }
+
+    @Benchmark
+    public int rotary() {
+        rotary.monitor.updateAndProcess();
+        topUp();
+        return operatingTicks;
+    }
+
+    @Benchmark
+    public int pressurizedReaction() {
+        reaction.monitor.updateAndProcess();
+        topUp();
+        return operatingTicks;
+    }
+
+    /**
+     * Minimal recipe lookup handler that always has the same recipe, so that we can process the recipe through a real {@link RecipeCacheLookupMonitor}.
+     */
+    private class BenchmarkMachine<RECIPE extends MekanismRecipe<?>> implements IRecipeLookupHandler<RECIPE> {
+
+        private final IMekanismRecipeTypeProvider<?, RECIPE, ?> recipeType;
+        private final RECIPE recipe;
+        private final Function<RECIPE, CachedRecipe<RECIPE>> cachedRecipeCreator;
+        private final RecipeCacheLookupMonitor<RECIPE> monitor;
+
+        private BenchmarkMachine(IMekanismRecipeTypeProvider<?, RECIPE, ?> recipeType, RECIPE recipe, Function<RECIPE, CachedRecipe<RECIPE>> cachedRecipeCreator) {
+            this.recipeType = recipeType;
+            this.recipe = recipe;
+            this.cachedRecipeCreator = cachedRecipeCreator;
+            this.monitor = new RecipeCacheLookupMonitor<>(this);
+            machines.add(this);
+        }
+
+        @Nullable
+        @Override
+        public Level getLevel() {
+            return null;
+        }
+
+        @NotNull
+        @Override
+        public IMekanismRecipeTypeProvider<?, RECIPE, ?> getRecipeType() {
+            return recipeType;
+        }
+
+        @Override
+        public RECIPE getRecipe(int cacheIndex) {
+            return recipe;
+        }
+
+        @Override
+        public CachedRecipe<RECIPE> createNewCachedRecipe(@NotNull RECIPE recipe, int cacheIndex) {
+            return configure(cachedRecipeCreator.apply(recipe));
+        }
+
+        @Override
+        public void onContentsChanged() {
+        }
+    }
+}
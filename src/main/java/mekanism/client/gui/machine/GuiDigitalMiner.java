@@ -17,7 +17,7 @@ import mekanism.client.gui.element.tab.GuiVisualsTab;
 import mekanism.common.MekanismLang;
 import mekanism.common.capabilities.energy.MinerEnergyContainer;
 import mekanism.common.content.miner.MinerFilter;
-import mekanism.common.content.miner.ThreadMinerSearch.State;
+import mekanism.common.content.miner.MinerSearch.State;
 import mekanism.common.inventory.container.slot.SlotOverlay;
 import mekanism.common.inventory.container.tile.MekanismTileContainer;
 import mekanism.common.inventory.warning.WarningTracker.WarningType;
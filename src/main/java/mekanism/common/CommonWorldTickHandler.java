@@ -16,7 +16,12 @@ import mekanism.common.content.qio.QIOGlobalItemLookup;
 import mekanism.common.inventory.container.item.PortableQIODashboardContainer;
 import mekanism.common.lib.frequency.FrequencyManager;
 import mekanism.common.lib.multiblock.MultiblockManager;
+import mekanism.common.lib.profiler.MekanismProfiler;
+import mekanism.common.lib.profiler.MekanismProfiler.Section;
 import mekanism.common.lib.radiation.RadiationManager;
+import mekanism.common.network.TileUpdateScheduler;
+import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.tile.component.EjectionScheduler;
 import mekanism.common.util.WorldUtils;
 import mekanism.common.world.GenHandler;
 import net.minecraft.resources.ResourceKey;
@@ -160,9 +165,13 @@ public class CommonWorldTickHandler {
     @SubscribeEvent
     public void worldUnloadEvent(LevelEvent.Unload event) {
         LevelAccessor world = event.getLevel();
-        if (!world.isClientSide() && world instanceof Level level && chunkVersions != null) {
-            //When a world unloads, free up memory tracking the versions of the chunks in it
-            chunkVersions.remove(level.dimension().location());
+        if (!world.isClientSide() && world instanceof Level level) {
+            if (chunkVersions != null) {
+                //When a world unloads, free up memory tracking the versions of the chunks in it
+                chunkVersions.remove(level.dimension().location());
+            }
+            EjectionScheduler.unload(level);
+            TileUpdateScheduler.unload(level);
         }
     }
 
@@ -176,17 +185,36 @@ public class CommonWorldTickHandler {
         }
     }
 
+    @SubscribeEvent
+    public void onTick(ServerTickEvent.Pre event) {
+        if (flushTagAndRecipeCaches) {
+            //Build the recipe caches before any machines tick, rather than having the first machine to look up a recipe of each type wait on it
+            MekanismRecipeType.initCaches(event.getServer().overworld());
+        }
+    }
+
     @SubscribeEvent
     public void onTick(ServerTickEvent.Post event) {
         boolean tickingNormally = event.getServer().tickRateManager().runsNormally();
+        MekanismProfiler.onServerTick();
         FrequencyManager.tick(tickingNormally);
+        long start = MekanismProfiler.begin();
         RadiationManager.get().tickServer(tickingNormally);
+        MekanismProfiler.end(Section.RADIATION, "sources", null, start);
     }
 
     @SubscribeEvent
     public void onTick(LevelTickEvent.Post event) {
         if (event.getLevel() instanceof ServerLevel world) {
+            long start = MekanismProfiler.begin();
             RadiationManager.get().tickServerWorld(world);
+            MekanismProfiler.end(Section.RADIATION, "world", world.dimension().location(), start);
+            start = MekanismProfiler.begin();
+            EjectionScheduler.flush(world);
+            MekanismProfiler.end(Section.TILES, "ejection", world.dimension().location(), start);
+            start = MekanismProfiler.begin();
+            TileUpdateScheduler.flush(world);
+            MekanismProfiler.end(Section.TILES, "updates", world.dimension().location(), start);
             //Note: We flush the tag and recipe cache, and also perform retrogen, regardless of if the ticks are frozen or not
             if (flushTagAndRecipeCaches) {
                 //Loop all open containers and if it is a portable qio dashboard force refresh the window's recipes
@@ -37,6 +37,7 @@ import mekanism.common.content.gear.ModuleDispenseBehavior;
 import mekanism.common.content.gear.ModuleHelper;
 import mekanism.common.content.matrix.MatrixMultiblockData;
 import mekanism.common.content.matrix.MatrixValidator;
+import mekanism.common.content.miner.MinerSearch;
 import mekanism.common.content.network.ChemicalNetwork.ChemicalTransferEvent;
 import mekanism.common.content.network.EnergyNetwork.EnergyTransferEvent;
 import mekanism.common.content.network.FluidNetwork.FluidTransferEvent;
@@ -47,7 +48,6 @@ import mekanism.common.content.sps.SPSValidator;
 import mekanism.common.content.tank.TankCache;
 import mekanism.common.content.tank.TankMultiblockData;
 import mekanism.common.content.tank.TankValidator;
-import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.integration.MekanismHooks;
 import mekanism.common.item.block.machine.ItemBlockFluidTank.BasicCauldronInteraction;
@@ -57,16 +57,19 @@ import mekanism.common.item.interfaces.IHasConditionalAttributes;
 import mekanism.common.item.loot.MekanismLootFunctions;
 import mekanism.common.item.predicate.MekanismItemPredicates;
 import mekanism.common.lib.MekAnnotationScanner;
+import mekanism.common.lib.MekanismSavedData;
 import mekanism.common.lib.Version;
 import mekanism.common.lib.frequency.FrequencyManager;
 import mekanism.common.lib.frequency.FrequencyType;
 import mekanism.common.lib.inventory.personalstorage.PersonalStorageManager;
 import mekanism.common.lib.multiblock.MultiblockCache;
 import mekanism.common.lib.multiblock.MultiblockManager;
+import mekanism.common.lib.profiler.MekanismProfiler;
 import mekanism.common.lib.radiation.RadiationManager;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
 import mekanism.common.network.PacketHandler;
 import mekanism.common.network.PacketUtils;
+import mekanism.common.network.TileUpdateScheduler;
 import mekanism.common.network.to_client.transmitter.PacketChemicalNetworkContents;
 import mekanism.common.network.to_client.transmitter.PacketFluidNetworkContents;
 import mekanism.common.network.to_client.transmitter.PacketNetworkScale;
@@ -96,6 +99,7 @@ import mekanism.common.registries.MekanismRecipeSerializersInternal;
 import mekanism.common.registries.MekanismRobitSkins;
 import mekanism.common.registries.MekanismSounds;
 import mekanism.common.registries.MekanismTileEntityTypes;
+import mekanism.common.tile.component.EjectionScheduler;
 import mekanism.common.tile.component.TileComponentChunkLoader;
 import mekanism.common.tile.machine.TileEntityOredictionificator.ODConfigValueInvalidationListener;
 import mekanism.common.util.RegistryUtils;
@@ -194,6 +198,7 @@ public class Mekanism {
         NeoForge.EVENT_BUS.addListener(this::onModifyItemAttributes);
         NeoForge.EVENT_BUS.addListener(this::onWorldLoad);
         NeoForge.EVENT_BUS.addListener(this::onWorldUnload);
+        NeoForge.EVENT_BUS.addListener(this::onWorldSave);
         NeoForge.EVENT_BUS.addListener(this::registerCommands);
         NeoForge.EVENT_BUS.addListener(this::serverStopped);
         NeoForge.EVENT_BUS.addListener(EventPriority.LOWEST, this::addReloadListenersLowest);
@@ -297,6 +302,8 @@ public class Mekanism {
 
     private void serverStopped(ServerStoppedEvent event) {
         //Clear all cache data, wait until server stopper though so that we make sure saving can use any data it needs
+        //Make sure any data that is still being written finishes being written before a different world may try to read it
+        MekanismSavedData.finishWriting();
         playerState.clear(false);
         activeVibrators.clear();
         worldTickHandler.resetChunkData();
@@ -309,8 +316,11 @@ public class Mekanism {
         MultiblockManager.reset();
         FrequencyManager.reset();
         TransporterManager.reset();
-        PathfinderCache.reset();
         TransmitterNetworkRegistry.reset();
+        MinerSearch.reset();
+        MekanismProfiler.reset();
+        EjectionScheduler.reset();
+        TileUpdateScheduler.reset();
         GenHandler.reset();
         PersonalStorageManager.reset();
     }
@@ -422,6 +432,13 @@ public class Mekanism {
         playerState.init(event.getLevel());
     }
 
+    private void onWorldSave(LevelEvent.Save event) {
+        if (event.getLevel() instanceof ServerLevel) {
+            //Our saved data gets written while the rest of the level is saved, make sure it is done before the save is considered complete
+            MekanismSavedData.waitForPendingWrites();
+        }
+    }
+
     private void onWorldUnload(LevelEvent.Unload event) {
         // Make sure the global fake player drops its reference to the World
         // when the server shuts down
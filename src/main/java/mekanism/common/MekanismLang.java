@@ -188,6 +188,12 @@ public enum MekanismLang implements ILangEntry {
     COMMAND_RETROGEN_CHUNK_QUEUED("command", "retrogen.chunk_queued"),
     COMMAND_ERROR_RETROGEN_DISABLED("command", "error.retrogen.disabled"),
     COMMAND_ERROR_RETROGEN_FAILURE("command", "error.retrogen.failure"),
+    COMMAND_PROFILE_START("command", "profile.start"),
+    COMMAND_PROFILE_STOP("command", "profile.stop"),
+    COMMAND_PROFILE_SECTION("command", "profile.section"),
+    COMMAND_PROFILE_DUMP("command", "profile.dump"),
+    COMMAND_ERROR_PROFILE_NOT_RUNNING("command", "error.profile.not_running"),
+    COMMAND_ERROR_PROFILE_DUMP("command", "error.profile.dump"),
     //Transmission types
     TRANSMISSION_TYPE_ENERGY("transmission", "energy"),
     TRANSMISSION_TYPE_FLUID("transmission", "fluids"),
@@ -42,8 +42,11 @@ public record DriveContents(Object2LongSortedMap<UUID> namedItemMap) {
             return EMPTY;
         }
         Object2LongSortedMap<UUID> namedItemMap = new Object2LongLinkedOpenHashMap<>(itemMap.size());
-        for (Object2LongMap.Entry<HashedItem> entry : data.getItemMap().object2LongEntrySet()) {
-            namedItemMap.put(QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(entry.getKey()), entry.getLongValue());
+        for (Object2LongMap.Entry<HashedItem> entry : itemMap.object2LongEntrySet()) {
+            HashedItem type = entry.getKey();
+            //Note: Check if the type already has a UUID first, as unlike getOrTrackUUID, doing so doesn't require wrapping the type
+            UUID uuid = QIOGlobalItemLookup.INSTANCE.getUUIDForType(type);
+            namedItemMap.put(uuid == null ? QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(type) : uuid, entry.getLongValue());
         }
         return new DriveContents(namedItemMap);
     }
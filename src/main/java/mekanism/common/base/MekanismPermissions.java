@@ -43,6 +43,11 @@ public class MekanismPermissions {
     public static final CommandPermissionNode COMMAND_DEBUG = nodeOpCommand("debug");
     public static final CommandPermissionNode COMMAND_FORCE_RETROGEN = nodeOpCommand("force_retrogen");
 
+    public static final CommandPermissionNode COMMAND_PROFILE = nodeOpCommand("profile");
+    public static final CommandPermissionNode COMMAND_PROFILE_DUMP = nodeSubCommand(COMMAND_PROFILE, "dump");
+    public static final CommandPermissionNode COMMAND_PROFILE_START = nodeSubCommand(COMMAND_PROFILE, "start");
+    public static final CommandPermissionNode COMMAND_PROFILE_STOP = nodeSubCommand(COMMAND_PROFILE, "stop");
+
     public static final CommandPermissionNode COMMAND_RADIATION = nodeOpCommand("radiation");
     public static final CommandPermissionNode COMMAND_RADIATION_ADD = nodeSubCommand(COMMAND_RADIATION, "add");
     public static final CommandPermissionNode COMMAND_RADIATION_ADD_ENTITY = nodeSubCommand(COMMAND_RADIATION, "add_entity");
@@ -17,6 +17,10 @@ public class ProxyHeatHandler extends ProxyHandler implements IHeatHandler {
         this.heatHandler = heatHandler;
     }
 
+    public ISidedHeatHandler getInternalHandler() {
+        return heatHandler;
+    }
+
     @Override
     public int getHeatCapacitorCount() {
         return heatHandler.getHeatCapacitorCount(side);
@@ -19,6 +19,10 @@ public class ProxyItemHandler extends ProxyHandler implements IItemHandlerModifi
         this.inventory = inventory;
     }
 
+    public ISidedItemHandler getInternalHandler() {
+        return inventory;
+    }
+
     @Override
     public int getSlots() {
         return inventory.getSlots(side);
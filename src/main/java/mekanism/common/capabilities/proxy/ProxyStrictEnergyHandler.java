@@ -18,6 +18,10 @@ public class ProxyStrictEnergyHandler extends ProxyHandler implements IStrictEne
         this.energyHandler = energyHandler;
     }
 
+    public ISidedStrictEnergyHandler getInternalHandler() {
+        return energyHandler;
+    }
+
     @Override
     public int getEnergyContainerCount() {
         return energyHandler.getEnergyContainerCount(side);
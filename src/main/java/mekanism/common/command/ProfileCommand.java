@@ -0,0 +1,79 @@
+package mekanism.common.command;
+
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import mekanism.api.text.EnumColor;
+import mekanism.common.Mekanism;
+import mekanism.common.MekanismLang;
+import mekanism.common.base.MekanismPermissions;
+import mekanism.common.lib.profiler.MekanismProfiler;
+import mekanism.common.lib.profiler.MekanismProfiler.Section;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.neoforged.fml.loading.FMLPaths;
+
+public class ProfileCommand {
+
+    private static final SimpleCommandExceptionType NOT_RUNNING = new SimpleCommandExceptionType(MekanismLang.COMMAND_ERROR_PROFILE_NOT_RUNNING.translate());
+    private static final SimpleCommandExceptionType DUMP_FAILED = new SimpleCommandExceptionType(MekanismLang.COMMAND_ERROR_PROFILE_DUMP.translate());
+
+    private ProfileCommand() {
+    }
+
+    static ArgumentBuilder<CommandSourceStack, ?> register() {
+        return Commands.literal("profile")
+              .requires(MekanismPermissions.COMMAND_PROFILE)
+              .then(Commands.literal("start")
+                    .requires(MekanismPermissions.COMMAND_PROFILE_START)
+                    .executes(ctx -> {
+                        MekanismProfiler.start();
+                        ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_PROFILE_START.translateColored(EnumColor.GRAY), true);
+                        return 0;
+                    })
+              ).then(Commands.literal("stop")
+                    .requires(MekanismPermissions.COMMAND_PROFILE_STOP)
+                    .executes(ctx -> {
+                        if (!MekanismProfiler.isEnabled()) {
+                            throw NOT_RUNNING.create();
+                        }
+                        MekanismProfiler.stop();
+                        CommandSourceStack source = ctx.getSource();
+                        int ticks = MekanismProfiler.getTicks();
+                        source.sendSuccess(() -> MekanismLang.COMMAND_PROFILE_STOP.translateColored(EnumColor.GRAY, EnumColor.INDIGO, ticks), true);
+                        int result = dump(source);
+                        MekanismProfiler.reset();
+                        return result;
+                    })
+              ).then(Commands.literal("dump")
+                    .requires(MekanismPermissions.COMMAND_PROFILE_DUMP)
+                    .executes(ctx -> {
+                        if (!MekanismProfiler.isEnabled()) {
+                            throw NOT_RUNNING.create();
+                        }
+                        return dump(ctx.getSource());
+                    })
+              );
+    }
+
+    private static int dump(CommandSourceStack source) throws CommandSyntaxException {
+        Path file;
+        try {
+            file = MekanismProfiler.dump(FMLPaths.GAMEDIR.get().resolve("debug"));
+        } catch (IOException e) {
+            Mekanism.logger.error("Failed to save Mekanism profiling results.", e);
+            throw DUMP_FAILED.create();
+        }
+        for (Map.Entry<Section, Double> entry : MekanismProfiler.getSectionTotals().entrySet()) {
+            String time = String.format(Locale.ROOT, "%.3f", entry.getValue());
+            source.sendSuccess(() -> MekanismLang.COMMAND_PROFILE_SECTION.translateColored(EnumColor.GRAY, EnumColor.INDIGO, entry.getKey().getName(), EnumColor.INDIGO, time), false);
+        }
+        String fileName = file.getFileName().toString();
+        source.sendSuccess(() -> MekanismLang.COMMAND_PROFILE_DUMP.translateColored(EnumColor.GRAY, EnumColor.INDIGO, fileName), true);
+        return 0;
+    }
+}
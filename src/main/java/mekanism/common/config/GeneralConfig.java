@@ -33,6 +33,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedBooleanValue logPackets;
     public final CachedBooleanValue allowChunkloading;
     public final CachedIntValue blockDeactivationDelay;
+    public final CachedIntValue containerSyncInterval;
     public final CachedBooleanValue strictUnboxing;
     public final CachedConfigValue<List<? extends String>> cardboardModBlacklist;
     public final CachedBooleanValue transmitterAlloyUpgrade;
@@ -49,6 +50,12 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue fluidAutoEjectRate;
     public final CachedLongValue chemicalAutoEjectRate;
     public final CachedDoubleValue dumpExcessKeepRatio;
+    //Transmitter Networks
+    public final CachedBooleanValue parallelNetworkPlanning;
+    public final CachedIntValue parallelNetworkThreshold;
+    public final CachedIntValue parallelNetworkThreads;
+    public final CachedBooleanValue transporterBulkLanes;
+    public final CachedIntValue transporterBulkLaneLength;
     //Dynamic Tank
     public final CachedIntValue dynamicTankFluidPerTank;
     public final CachedLongValue dynamicTankChemicalPerTank;
@@ -76,6 +83,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue minerMaxRadius;
     public final CachedIntValue minerTicksPerMine;
     public final CachedBooleanValue easyMinerFilters;
+    public final CachedIntValue minerSearchThreads;
     //Laser
     public final CachedBooleanValue aestheticWorldDamage;
     public final CachedIntValue laserRange;
@@ -92,6 +100,8 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedLongValue entangloporterEnergyBuffer;
     public final CachedIntValue entangloporterFluidBuffer;
     public final CachedLongValue entangloporterChemicalBuffer;
+    //QIO
+    public final CachedIntValue qioViewerUpdateInterval;
     //Security
     public final CachedBooleanValue allowProtection;
     public final CachedBooleanValue opsBypassRestrictions;
@@ -131,6 +141,8 @@ public class GeneralConfig extends BaseMekanismConfig {
               .define("allowChunkloading", true));
         blockDeactivationDelay = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_DEACTIVATION_DELAY.applyToBuilder(builder)
               .defineInRange("blockDeactivationDelay", 3 * SharedConstants.TICKS_PER_SECOND, 0, SharedConstants.TICKS_PER_MINUTE));
+        containerSyncInterval = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_CONTAINER_SYNC_INTERVAL.applyToBuilder(builder)
+              .defineInRange("containerSyncInterval", 1, 1, SharedConstants.TICKS_PER_SECOND));
         aestheticWorldDamage = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_AESTHETIC_DAMAGE.applyToBuilder(builder)
               .define("aestheticWorldDamage", true));
         transmitterAlloyUpgrade = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_ALLOY_UPGRADING.applyToBuilder(builder)
@@ -181,6 +193,20 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("dumpExcessKeepRatio", 0.85D, 0.001D, 1D));
         builder.pop();
 
+        MekanismConfigTranslations.GENERAL_NETWORKS.applyToBuilder(builder).push("transmitter_networks");
+        parallelNetworkPlanning = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_NETWORKS_PARALLEL.applyToBuilder(builder)
+              .define("parallelPlanning", false));
+        parallelNetworkThreshold = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_NETWORKS_PARALLEL_THRESHOLD.applyToBuilder(builder)
+              .defineInRange("parallelThreshold", 64, 2, Integer.MAX_VALUE));
+        parallelNetworkThreads = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_NETWORKS_PARALLEL_THREADS.applyToBuilder(builder)
+              .worldRestart()
+              .defineInRange("parallelThreads", 0, 0, 256));
+        transporterBulkLanes = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_NETWORKS_BULK_LANES.applyToBuilder(builder)
+              .define("transporterBulkLanes", false));
+        transporterBulkLaneLength = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_NETWORKS_BULK_LANE_LENGTH.applyToBuilder(builder)
+              .defineInRange("transporterBulkLaneLength", 8, 1, 1_024));
+        builder.pop();
+
         MekanismConfigTranslations.GENERAL_PREFILLED_TANKS.applyToBuilder(builder).push("prefilled");
         prefilledFluidTanks = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_PREFILLED_TANKS_FLUID.applyToBuilder(builder)
               .define("fluidTanks", true));
@@ -233,6 +259,9 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("ticksPerMine", 80, 1, Integer.MAX_VALUE));
         easyMinerFilters = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_MINER_EASY_FILTERS.applyToBuilder(builder)
               .define("easyMinerFilters", false));
+        minerSearchThreads = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_MINER_SEARCH_THREADS.applyToBuilder(builder)
+              .worldRestart()
+              .defineInRange("searchThreads", 0, 0, 256));
         builder.pop();
 
         MekanismConfigTranslations.GENERAL_LASER.applyToBuilder(builder).push("laser");
@@ -270,6 +299,11 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("chemicalBuffer", ChemicalTankTier.ULTIMATE.getBaseStorage(), 1, Long.MAX_VALUE));
         builder.pop();
 
+        MekanismConfigTranslations.GENERAL_QIO.applyToBuilder(builder).push("qio");
+        qioViewerUpdateInterval = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_QIO_VIEWER_UPDATE_INTERVAL.applyToBuilder(builder)
+              .defineInRange("viewerUpdateInterval", 5, 1, SharedConstants.TICKS_PER_SECOND * 5));
+        builder.pop();
+
         MekanismConfigTranslations.GENERAL_SECURITY.applyToBuilder(builder).push("security");
         allowProtection = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_SECURITY_ENABLED.applyToBuilder(builder)
               .define("allowProtection", true));
@@ -115,6 +115,9 @@ public enum MekanismConfigTranslations implements IConfigTranslation {
           "How many ticks must pass until a block's active state is synced with the client when the block stops being active. This prevents rapid state changes "
           + "that can cause lag. Note: Mekanism's blocks always sync immediately when they go from inactive to active; this only controls the time it takes to go from "
           + "active to inactive."),
+    GENERAL_CONTAINER_SYNC_INTERVAL("general.misc.container_sync_interval", "Container Sync Interval",
+          "How often in ticks the values shown in Mekanism's GUIs, such as stored energy and recipe progress, are checked for changes and synced to the players "
+          + "viewing them. Changes that happen in between are combined into a single update."),
     GENERAL_AESTHETIC_DAMAGE("general.misc.aesthetic_damage", "Aesthetic World Damage", "If enabled, lasers can break blocks and the flamethrower can start fires."),
     GENERAL_ALLOY_UPGRADING("general.misc.alloy_upgrading", "Alloy Transmitter Upgrading",
           "Allow upgrading Universal Cables, Mechanical Pipes, Pressurized Tubes, Logistical Transporters, and Thermodynamic Conductors by right clicking them "
@@ -155,6 +158,21 @@ public enum MekanismConfigTranslations implements IConfigTranslation {
     GENERAL_AUTO_EJECT_RATE_CHEMICAL("general.auto_eject.rate.chemical", "Chemical Rate", "Rate in mB/t at which chemicals gets auto ejected from block entities."),
     GENERAL_AUTO_EJECT_EXCESS("general.auto_eject.excess", "Excess Percentage", "The percentage of a tank's capacity to leave contents in when set to dumping excess."),
 
+    GENERAL_NETWORKS("general.networks", "Transmitter Networks", "Settings for configuring how transmitter networks are ticked", true),
+    GENERAL_NETWORKS_PARALLEL("general.networks.parallel", "Parallel Planning",
+          "If enabled, energy, fluid, and chemical networks that do not share any acceptors with other networks will calculate which acceptors can receive "
+          + "contents on a worker pool, before the actual transfer is applied on the server thread in the same order as when this is disabled. Note: Only networks whose "
+          + "acceptors are all Mekanism blocks are planned in parallel, as other blocks may not support being queried off of the server thread."),
+    GENERAL_NETWORKS_PARALLEL_THRESHOLD("general.networks.parallel.threshold", "Parallel Threshold",
+          "The minimum number of transmitter networks that must exist before they will be planned in parallel."),
+    GENERAL_NETWORKS_PARALLEL_THREADS("general.networks.parallel.threads", "Parallel Threads",
+          "The number of worker threads to use for planning transmitter networks. Set to zero to use one less than the number of available processors."),
+    GENERAL_NETWORKS_BULK_LANES("general.networks.bulk_lanes", "Transporter Bulk Lanes",
+          "If enabled, stacks of the same item that are following the same path through a logistical transporter will be combined into a single stack (up to the "
+          + "item's max stack size) when they have a long way left to travel. This reduces the number of stacks the transporters have to move and sync to clients."),
+    GENERAL_NETWORKS_BULK_LANE_LENGTH("general.networks.bulk_lanes.length", "Bulk Lane Length",
+          "The minimum number of transporters a stack must have left to travel through before it can be combined with other stacks."),
+
     GENERAL_PREFILLED_TANKS("general.prefilled_tanks", "Prefilled Tanks", "Settings for configuring Prefilled Tanks", true),
     GENERAL_PREFILLED_TANKS_FLUID("general.prefilled_tanks.fluid", "Fluid Tanks",
           "Add filled variants of creative fluid tanks to creative/recipe viewers for all registered fluids."),
@@ -200,6 +218,8 @@ public enum MekanismConfigTranslations implements IConfigTranslation {
     GENERAL_MINER_EASY_FILTERS("general.miner.easy_filters", "Easy Miner Filters",
           "Allows dragging items from recipe viewers into the target slot of Digital Miner filters. This allows selecting specific blocks without having to acquire "
           + "an instance of the block first."),
+    GENERAL_MINER_SEARCH_THREADS("general.miner.search_threads", "Search Threads",
+          "The number of worker threads shared by all Digital Miners for searching the blocks to mine. Set to zero to use half the number of available processors."),
 
     GENERAL_LASER("general.laser", "Laser Settings", "Settings for configuring Lasers", true),
     GENERAL_LASER_RANGE("general.laser.range", "Range", "How far in blocks a laser can travel."),
@@ -230,6 +250,11 @@ public enum MekanismConfigTranslations implements IConfigTranslation {
     GENERAL_QE_BUFFER_CHEMICAL("general.qe.buffer.chemical", "Chemical Buffer",
           "Maximum chemical buffer (mb) of an Entangoloporter frequency - i.e. the maximum transfer per tick per frequency. Default is the ultimate chemical tank's capacity."),
 
+    GENERAL_QIO("general.qio", "QIO Settings", "Settings for configuring Mekanism's QIO", true),
+    GENERAL_QIO_VIEWER_UPDATE_INTERVAL("general.qio.viewer_update_interval", "Item Viewer Update Interval",
+          "How often in ticks changes to the items stored in a QIO frequency are sent to players viewing its items. Changes that happen in between are combined "
+          + "into a single update."),
+
     GENERAL_SECURITY("general.security", "Block security/protection Settings", "Settings for configuring Mekanism's security system", true),
     GENERAL_SECURITY_ENABLED("general.security.enabled", "Allow Protection",
           "Enable the security system. This allows players to prevent other players from accessing their machines. Does NOT affect Frequencies."),
@@ -103,6 +103,19 @@ public class MinerRegionCache implements BlockGetter, CollisionGetter {
         }
     }
 
+    /**
+     * @return The chunk at the given chunk coordinates, or {@code null} if it is outside the region or failed to load.
+     */
+    @Nullable
+    public ChunkAccess getLoadedChunk(int chunkX, int chunkZ) {
+        int i = chunkX - this.centerX;
+        int j = chunkZ - this.centerZ;
+        if (i >= 0 && i < this.chunks.length && j >= 0 && j < this.chunks[i].length) {
+            return this.chunks[i][j];
+        }
+        return null;
+    }
+
     @Override
     public WorldBorder getWorldBorder() {
         return this.level.getWorldBorder();
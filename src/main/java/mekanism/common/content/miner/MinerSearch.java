@@ -0,0 +1,361 @@
+package mekanism.common.content.miner;
+
+import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ByteMap;
+import it.unimi.dsi.fastutil.objects.Reference2ByteOpenHashMap;
+import java.util.BitSet;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.api.text.IHasTextComponent.IHasEnumNameTextComponent;
+import mekanism.api.text.ILangEntry;
+import mekanism.common.Mekanism;
+import mekanism.common.MekanismLang;
+import mekanism.common.block.BlockBounding;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.tags.MekanismTags;
+import mekanism.common.tile.machine.TileEntityDigitalMiner;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.ByIdMap;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.BedBlock;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.DoorBlock;
+import net.minecraft.world.level.block.DoublePlantBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BedPart;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.level.block.state.properties.DoubleBlockHalf;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Searches a Digital Miner's region for the blocks it should mine.
+ * <p>
+ * The region is split up into the chunk sections it overlaps, which are then scanned in parallel on a worker pool that is shared by all miners. Sections that only
+ * contain air, or whose palette doesn't contain any states the miner would mine, are skipped without looking at any of their blocks. Once all sections have been
+ * scanned, the per section results are merged into the per chunk bit sets the miner uses, and handed to the miner on the server thread.
+ */
+public class MinerSearch {
+
+    private static final byte NOT_TARGET = 1;
+    private static final byte TARGET = 2;
+
+    @Nullable
+    private static ExecutorService executor;
+
+    private final TileEntityDigitalMiner tile;
+    private final Queue<SectionResult> results = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger remainingSections = new AtomicInteger();
+    private final AtomicInteger found = new AtomicInteger();
+    private volatile boolean cancelled;
+    public volatile State state = State.IDLE;
+
+    public MinerSearch(TileEntityDigitalMiner tile) {
+        this.tile = tile;
+    }
+
+    /**
+     * Shuts down the shared worker pool, cancelling any searches that are still running.
+     */
+    public static void reset() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private static ExecutorService getExecutor() {
+        if (executor == null) {
+            int threads = MekanismConfig.general.minerSearchThreads.get();
+            if (threads == 0) {
+                threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+            }
+            AtomicInteger threadCount = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(threads, r -> {
+                Thread thread = new Thread(r, "Mekanism Miner Search #" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    /**
+     * @return The number of blocks found so far.
+     */
+    public int getFound() {
+        return found.get();
+    }
+
+    /**
+     * Cancels the search if it is still running. The miner will not be updated with the results of a cancelled search.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Starts searching the miner's region.
+     *
+     * @param server      Server to hand the results back to the miner on.
+     * @param regionCache Cache of the chunks in the miner's region.
+     */
+    public void start(MinecraftServer server, MinerRegionCache regionCache) {
+        state = State.SEARCHING;
+        if (!tile.getInverse() && !tile.getFilterManager().hasEnabledFilters()) {
+            state = State.FINISHED;
+            return;
+        }
+        SearchRegion region = createRegion();
+        int minChunkX = SectionPos.blockToSectionCoord(region.start.getX());
+        int maxChunkX = SectionPos.blockToSectionCoord(region.start.getX() + region.diameter - 1);
+        int minChunkZ = SectionPos.blockToSectionCoord(region.start.getZ());
+        int maxChunkZ = SectionPos.blockToSectionCoord(region.start.getZ() + region.diameter - 1);
+        int minSectionY = SectionPos.blockToSectionCoord(region.start.getY());
+        int maxSectionY = SectionPos.blockToSectionCoord(region.maxY);
+        remainingSections.set((maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1) * (maxSectionY - minSectionY + 1));
+        ExecutorService executor = getExecutor();
+        try {
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                    for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+                        int x = chunkX, z = chunkZ, y = sectionY;
+                        executor.execute(() -> searchSection(server, regionCache, region, x, y, z));
+                    }
+                }
+            }
+        } catch (RejectedExecutionException e) {
+            //Only happens if the pool was shut down because the server is stopping
+            cancel();
+        }
+    }
+
+    private void searchSection(MinecraftServer server, MinerRegionCache regionCache, SearchRegion region, int chunkX, int sectionY, int chunkZ) {
+        if (cancelled || tile.isRemoved()) {
+            //Make sure the miner is still valid and something hasn't gone wrong
+            return;
+        }
+        try {
+            ChunkAccess chunk = regionCache.getLoadedChunk(chunkX, chunkZ);
+            if (chunk != null) {
+                int sectionIndex = chunk.getSectionIndexFromSectionY(sectionY);
+                if (sectionIndex >= 0 && sectionIndex < chunk.getSectionsCount()) {
+                    BitSet bits = searchSection(regionCache, region, chunk.getSection(sectionIndex), chunkX, sectionY, chunkZ);
+                    if (bits != null) {
+                        found.addAndGet(bits.cardinality());
+                        results.add(new SectionResult(ChunkPos.asLong(chunkX, chunkZ), SectionPos.sectionToBlockCoord(chunkX),
+                              SectionPos.sectionToBlockCoord(sectionY), SectionPos.sectionToBlockCoord(chunkZ), bits));
+                    }
+                }
+            }
+        } catch (Exception e) {
+            Mekanism.logger.error("Failed to search chunk section [{}, {}, {}] for Digital Miner at {}", chunkX, sectionY, chunkZ, region.minerPos, e);
+        }
+        if (remainingSections.decrementAndGet() == 0 && !cancelled) {
+            Long2ObjectMap<BitSet> oresToMine = mergeResults(region);
+            server.execute(() -> {
+                if (!cancelled) {
+                    state = State.FINISHED;
+                    if (tile.searcher == this && !tile.isRemoved()) {
+                        //Only update search if we are still valid and didn't get replaced due to a reset call
+                        tile.updateFromSearch(oresToMine, found.get());
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Searches the part of the miner's region that is in the given chunk on the calling thread. This is used to refresh the targets of a single chunk without having
+     * to search the entire region again.
+     *
+     * @param level Level the chunk is in.
+     * @param chunk Chunk to search.
+     *
+     * @return The positions in the chunk that should be mined, indexed the same way as {@link TileEntityDigitalMiner#getOffsetForIndex(BlockPos, int, int)}.
+     */
+    public BitSet searchChunk(BlockGetter level, ChunkAccess chunk) {
+        BitSet chunkBits = new BitSet();
+        if (!tile.getInverse() && !tile.getFilterManager().hasEnabledFilters()) {
+            return chunkBits;
+        }
+        SearchRegion region = createRegion();
+        ChunkPos chunkPos = chunk.getPos();
+        int minSectionY = SectionPos.blockToSectionCoord(region.start.getY());
+        int maxSectionY = SectionPos.blockToSectionCoord(region.maxY);
+        for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+            int sectionIndex = chunk.getSectionIndexFromSectionY(sectionY);
+            if (sectionIndex >= 0 && sectionIndex < chunk.getSectionsCount()) {
+                BitSet bits = searchSection(level, region, chunk.getSection(sectionIndex), chunkPos.x, sectionY, chunkPos.z);
+                if (bits != null) {
+                    addSection(region, chunkBits, chunkPos.getMinBlockX(), SectionPos.sectionToBlockCoord(sectionY), chunkPos.getMinBlockZ(), bits);
+                }
+            }
+        }
+        return chunkBits;
+    }
+
+    private SearchRegion createRegion() {
+        return new SearchRegion(tile.getStartingPos(), tile.getDiameter(), tile.getMaxY(), tile.getBlockPos());
+    }
+
+    /**
+     * @return The positions in the section that should be mined, indexed relative to the section, or {@code null} if there are none.
+     */
+    @Nullable
+    private BitSet searchSection(BlockGetter level, SearchRegion region, LevelChunkSection section, int chunkX, int sectionY, int chunkZ) {
+        if (section.hasOnlyAir()) {
+            return null;
+        }
+        //Note: We cache whether states are targets per section, as the states a section contains are generally a small subset of all states
+        Reference2ByteMap<BlockState> targetStates = new Reference2ByteOpenHashMap<>();
+        if (!section.getStates().maybeHas(state -> isTarget(targetStates, state))) {
+            //None of the states in the palette are ones we want to mine, skip checking the individual blocks
+            return null;
+        }
+        int sectionX = SectionPos.sectionToBlockCoord(chunkX);
+        int sectionMinY = SectionPos.sectionToBlockCoord(sectionY);
+        int sectionZ = SectionPos.sectionToBlockCoord(chunkZ);
+        int minX = Math.max(region.start.getX(), sectionX), maxX = Math.min(region.start.getX() + region.diameter - 1, sectionX + SectionPos.SECTION_MAX_INDEX);
+        int minY = Math.max(region.start.getY(), sectionMinY), maxY = Math.min(region.maxY, sectionMinY + SectionPos.SECTION_MAX_INDEX);
+        int minZ = Math.max(region.start.getZ(), sectionZ), maxZ = Math.min(region.start.getZ() + region.diameter - 1, sectionZ + SectionPos.SECTION_MAX_INDEX);
+        BlockPos.MutableBlockPos testPos = new BlockPos.MutableBlockPos();
+        BitSet bits = null;
+        for (int y = minY; y <= maxY; y++) {
+            if (cancelled) {
+                return null;
+            }
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int x = minX; x <= maxX; x++) {
+                    BlockState state = section.getBlockState(x - sectionX, y - sectionMinY, z - sectionZ);
+                    if (isTarget(targetStates, state)) {
+                        testPos.set(x, y, z);
+                        if (!region.minerPos.equals(testPos) && state.getDestroySpeed(level, testPos) >= 0) {
+                            //Skip the miner itself, and unbreakable blocks
+                            if (bits == null) {
+                                bits = new BitSet(SectionPos.SECTION_SIZE * SectionPos.SECTION_SIZE * SectionPos.SECTION_SIZE);
+                            }
+                            bits.set(SectionPos.sectionRelativePos(testPos));
+                        }
+                    }
+                }
+            }
+        }
+        return bits;
+    }
+
+    private boolean isTarget(Reference2ByteMap<BlockState> targetStates, BlockState state) {
+        byte target = targetStates.getByte(state);
+        if (target == 0) {
+            target = isTarget(state) ? TARGET : NOT_TARGET;
+            targetStates.put(state, target);
+        }
+        return target == TARGET;
+    }
+
+    private boolean isTarget(BlockState state) {
+        if (state.isAir() || state.is(MekanismTags.Blocks.MINER_BLACKLIST) || shouldSkipState(state)) {
+            //Skip air, blacklisted blocks, and special cased block states
+            return false;
+        }
+        Block block = state.getBlock();
+        if (block instanceof BlockBounding || MekanismUtils.isLiquidBlock(block)) {
+            //Skip any bounding blocks, and liquids
+            return false;
+        } else if (tile.isReplaceTarget(block.asItem())) {
+            //If it is a replace target just mark it as never being accepted
+            return false;
+        }
+        //Ensure that the inverse mode is the opposite of the filter match
+        return tile.getInverse() != tile.getFilterManager().anyEnabledMatch(state, MinerFilter::canFilter);
+    }
+
+    /**
+     * Merges the results of all the sections into bit sets per chunk, indexed the same way as {@link TileEntityDigitalMiner#getOffsetForIndex(BlockPos, int, int)}.
+     */
+    private Long2ObjectMap<BitSet> mergeResults(SearchRegion region) {
+        Long2ObjectMap<BitSet> oresToMine = new Long2ObjectOpenHashMap<>();
+        for (SectionResult result; (result = results.poll()) != null; ) {
+            addSection(region, oresToMine.computeIfAbsent(result.chunk, k -> new BitSet()), result.x, result.y, result.z, result.bits);
+        }
+        return oresToMine;
+    }
+
+    private static void addSection(SearchRegion region, BitSet chunkBits, int sectionX, int sectionY, int sectionZ, BitSet sectionBits) {
+        int diameter = region.diameter;
+        BlockPos start = region.start;
+        for (int bit = sectionBits.nextSetBit(0); bit >= 0; bit = sectionBits.nextSetBit(bit + 1)) {
+            int x = sectionX + SectionPos.sectionRelativeX((short) bit) - start.getX();
+            int y = sectionY + SectionPos.sectionRelativeY((short) bit) - start.getY();
+            int z = sectionZ + SectionPos.sectionRelativeZ((short) bit) - start.getZ();
+            chunkBits.set((y * diameter + z) * diameter + x);
+        }
+    }
+
+    /**
+     * Special cased vanilla blocks that only have one state actually have the drop and the other one just causes it to break. This includes things like two tall flowers,
+     * beds, and doors. If a data pack modifies the loot table so that the "secondary" block also provides drops those will then be handled by the fallback we have for
+     * collecting any drops that happen from breaking the block.
+     */
+    private static boolean shouldSkipState(BlockState state) {
+        if (state.getBlock() instanceof BedBlock) {
+            return state.getValue(BlockStateProperties.BED_PART) == BedPart.FOOT;
+        } else if (state.getBlock() instanceof DoorBlock || state.getBlock() instanceof DoublePlantBlock) {
+            return state.getValue(BlockStateProperties.DOUBLE_BLOCK_HALF) == DoubleBlockHalf.UPPER;
+        }
+        return false;
+    }
+
+    /**
+     * Snapshot of the miner's region taken when the search is started, so that the worker threads don't have to query the miner for it.
+     */
+    private record SearchRegion(BlockPos start, int diameter, int maxY, BlockPos minerPos) {
+    }
+
+    /**
+     * @param x    Minimum x coordinate of the section.
+     * @param y    Minimum y coordinate of the section.
+     * @param z    Minimum z coordinate of the section.
+     * @param bits Positions to mine in the section, indexed by {@link SectionPos#sectionRelativePos(BlockPos)}.
+     */
+    private record SectionResult(long chunk, int x, int y, int z, BitSet bits) {
+    }
+
+    @NothingNullByDefault
+    public enum State implements IHasEnumNameTextComponent {
+        IDLE(MekanismLang.MINER_IDLE),
+        SEARCHING(MekanismLang.MINER_SEARCHING),
+        PAUSED(MekanismLang.MINER_PAUSED),
+        FINISHED(MekanismLang.MINER_READY);
+
+        public static final IntFunction<State> BY_ID = ByIdMap.continuous(State::ordinal, values(), ByIdMap.OutOfBoundsStrategy.WRAP);
+        public static final StreamCodec<ByteBuf, State> STREAM_CODEC = ByteBufCodecs.idMapper(BY_ID, State::ordinal);
+
+        private final ILangEntry langEntry;
+
+        State(ILangEntry langEntry) {
+            this.langEntry = langEntry;
+        }
+
+        @Override
+        public Component getTextComponent() {
+            return langEntry.translate();
+        }
+    }
+}
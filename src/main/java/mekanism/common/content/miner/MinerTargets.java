@@ -0,0 +1,119 @@
+package mekanism.common.content.miner;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Helpers for persisting the blocks a Digital Miner still has to mine, so that it can resume mining after being reloaded without having to search its entire region
+ * again.
+ */
+public final class MinerTargets {
+
+    /**
+     * Stamp that represents not knowing what state a chunk was in when the targets were saved.
+     */
+    public static final long NO_STAMP = 0;
+
+    private MinerTargets() {
+    }
+
+    /**
+     * Encodes the given bits as runs of set bits. Each run is stored as the number of clear bits since the end of the previous run, followed by the length of the run,
+     * both as var ints. As the blocks a miner targets are either sparse (ores), or in large contiguous groups (inverse mode), this is far smaller than storing the raw
+     * words of the bit set.
+     */
+    public static byte[] encode(BitSet bits) {
+        ByteArrayList data = new ByteArrayList();
+        int end = 0;
+        for (int start = bits.nextSetBit(0); start >= 0; start = bits.nextSetBit(end)) {
+            writeVarInt(data, start - end);
+            end = bits.nextClearBit(start);
+            writeVarInt(data, end - start);
+        }
+        return data.toByteArray();
+    }
+
+    /**
+     * Decodes bits that were encoded with {@link #encode(BitSet)}.
+     *
+     * @param data      Encoded bits.
+     * @param totalSize Number of bits the bit set may contain, any bits past this are discarded.
+     *
+     * @return Decoded bits, or {@code null} if the data is malformed.
+     */
+    @Nullable
+    public static BitSet decode(byte[] data, int totalSize) {
+        BitSet bits = new BitSet();
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        int end = 0;
+        try {
+            while (buffer.hasRemaining()) {
+                int start = end + readVarInt(buffer);
+                int length = readVarInt(buffer);
+                if (start < end || length <= 0) {
+                    return null;
+                } else if (start >= totalSize) {
+                    break;
+                }
+                end = (int) Math.min((long) start + length, totalSize);
+                bits.set(start, end);
+            }
+        } catch (BufferUnderflowException e) {
+            return null;
+        }
+        return bits;
+    }
+
+    /**
+     * Calculates a stamp representing the contents of the sections of a chunk that overlap the given y range. The stamp is based on how many of each block state the
+     * sections contain, so while it will not catch blocks being moved around within a section, it will catch blocks being added, removed, or replaced.
+     *
+     * @param chunk Chunk to calculate the stamp for.
+     * @param minY  Minimum y level of the miner's region.
+     * @param maxY  Maximum y level of the miner's region.
+     *
+     * @return Stamp for the chunk, guaranteed to not be {@link #NO_STAMP}.
+     */
+    public static long computeStamp(ChunkAccess chunk, int minY, int maxY) {
+        long[] stamp = {1};
+        int minIndex = Math.max(0, chunk.getSectionIndex(minY));
+        int maxIndex = Math.min(chunk.getSectionsCount() - 1, chunk.getSectionIndex(maxY));
+        for (int index = minIndex; index <= maxIndex; index++) {
+            LevelChunkSection section = chunk.getSection(index);
+            if (!section.hasOnlyAir()) {
+                long sectionKey = (long) index << 32;
+                //Note: We combine the counts by adding them together so that the stamp doesn't depend on the order of the section's palette
+                section.getStates().count((state, count) -> stamp[0] += HashCommon.mix(sectionKey | Block.getId(state)) * count);
+            }
+        }
+        return stamp[0] == NO_STAMP ? 1 : stamp[0];
+    }
+
+    private static void writeVarInt(ByteArrayList data, int value) {
+        while ((value & -128) != 0) {
+            data.add((byte) (value & 127 | 128));
+            value >>>= 7;
+        }
+        data.add((byte) value);
+    }
+
+    private static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 127) << shift;
+            if ((b & 128) == 0) {
+                return value;
+            }
+        }
+        //Too many bytes, treat it as negative so that it is seen as malformed
+        return -1;
+    }
+}
@@ -20,6 +20,7 @@ import mekanism.common.capabilities.chemical.VariableCapacityChemicalTank;
 import mekanism.common.content.network.distribution.ChemicalTransmitterSaveTarget;
 import mekanism.common.content.network.distribution.ChemicalHandlerTarget;
 import mekanism.common.content.network.transmitter.PressurizedTube;
+import mekanism.common.lib.distribution.LongSplitInfo;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import mekanism.common.util.ChemicalUtil;
 import mekanism.common.util.EmitUtils;
@@ -39,6 +40,9 @@ public class ChemicalNetwork extends DynamicBufferedNetwork<IChemicalHandler, Ch
     private final List<IChemicalTank> chemicalTanks;
     public Chemical lastChemical = MekanismAPI.EMPTY_CHEMICAL;
     private long prevTransferAmount;
+    private final ChemicalHandlerTarget acceptorTarget = new ChemicalHandlerTarget();
+    private final LongSplitInfo splitInfo = new LongSplitInfo();
+    private ChemicalStack plannedChemical = ChemicalStack.EMPTY;
 
     public ChemicalNetwork(UUID networkID) {
         super(networkID);
@@ -166,20 +170,43 @@ public class ChemicalNetwork extends DynamicBufferedNetwork<IChemicalHandler, Ch
     }
 
     private long tickEmit(@NotNull ChemicalStack stack) {
-        Collection<Map<Direction, IChemicalHandler>> acceptorValues = acceptorCache.getAcceptorValues();
-        ChemicalHandlerTarget target = null;
-        for (Map<Direction, IChemicalHandler> acceptors : acceptorValues) {
+        if (!plannedChemical.equals(stack)) {
+            //Something changed since we planned which acceptors can receive the chemical (or we didn't plan), so we need to recollect them
+            collectTargets(stack);
+        }
+        discardPlannedUpdate();
+        return EmitUtils.sendToAcceptors(acceptorTarget, splitInfo, stack.getAmount(), stack);
+    }
+
+    private void collectTargets(@NotNull ChemicalStack stack) {
+        //Note: We reuse the same target each tick to avoid allocating a new one and growing its backing storage
+        acceptorTarget.clear();
+        for (Map<Direction, IChemicalHandler> acceptors : acceptorCache.getAcceptorValues()) {
             for (IChemicalHandler handler : acceptors.values()) {
                 if (ChemicalUtil.canInsert(handler, stack)) {
-                    if (target == null) {
-                        //Lazily initialize the target, which allows us to also skip attempting to start emitting
-                        target = new ChemicalHandlerTarget(acceptorValues.size() * 2);
-                    }
-                    target.addHandler(handler);
+                    acceptorTarget.addHandler(handler);
                 }
             }
         }
-        return EmitUtils.sendToAcceptors(target, stack.getAmount(), stack);
+    }
+
+    @Override
+    public boolean supportsParallelPlanning() {
+        return true;
+    }
+
+    @Override
+    public void planUpdate() {
+        if (!chemicalTank.isEmpty()) {
+            ChemicalStack stack = chemicalTank.getStack();
+            collectTargets(stack);
+            plannedChemical = stack.copy();
+        }
+    }
+
+    @Override
+    public void discardPlannedUpdate() {
+        plannedChemical = ChemicalStack.EMPTY;
     }
 
     @Override
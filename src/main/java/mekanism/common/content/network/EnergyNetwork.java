@@ -17,6 +17,7 @@ import mekanism.common.capabilities.energy.VariableCapacityEnergyContainer;
 import mekanism.common.content.network.distribution.EnergyAcceptorTarget;
 import mekanism.common.content.network.distribution.EnergyTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.UniversalCable;
+import mekanism.common.lib.distribution.LongSplitInfo;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.text.EnergyDisplay;
@@ -34,6 +35,9 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     private final List<IEnergyContainer> energyContainers;
     public final VariableCapacityEnergyContainer energyContainer;
     private long prevTransferAmount = 0L;
+    private final EnergyAcceptorTarget acceptorTarget = new EnergyAcceptorTarget();
+    private final LongSplitInfo splitInfo = new LongSplitInfo();
+    private long plannedEnergy = -1;
 
     public EnergyNetwork(UUID networkID) {
         super(networkID);
@@ -107,20 +111,43 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     }
 
     private long tickEmit(long energyToSend) {
-        Collection<Map<Direction, IStrictEnergyHandler>> acceptorValues = acceptorCache.getAcceptorValues();
-        EnergyAcceptorTarget target = null;
-        for (Map<Direction, IStrictEnergyHandler> acceptors : acceptorValues) {
+        if (plannedEnergy != energyToSend) {
+            //Something changed since we planned which acceptors can receive energy (or we didn't plan), so we need to recollect them
+            collectTargets(energyToSend);
+        }
+        discardPlannedUpdate();
+        return EmitUtils.sendToAcceptors(acceptorTarget, splitInfo, energyToSend, ENERGY);
+    }
+
+    private void collectTargets(long energyToSend) {
+        //Note: We reuse the same target each tick to avoid allocating a new one and growing its backing storage
+        acceptorTarget.clear();
+        for (Map<Direction, IStrictEnergyHandler> acceptors : acceptorCache.getAcceptorValues()) {
             for (IStrictEnergyHandler acceptor : acceptors.values()) {
                 if (acceptor.insertEnergy(energyToSend, Action.SIMULATE) < energyToSend) {
-                    if (target == null) {
-                        //Lazily initialize the target, which allows us to also skip attempting to start emitting
-                        target = new EnergyAcceptorTarget(acceptorValues.size() * 2);
-                    }
-                    target.addHandler(acceptor);
+                    acceptorTarget.addHandler(acceptor);
                 }
             }
         }
-        return EmitUtils.sendToAcceptors(target, energyToSend, ENERGY);
+    }
+
+    @Override
+    public boolean supportsParallelPlanning() {
+        return true;
+    }
+
+    @Override
+    public void planUpdate() {
+        long energy = energyContainer.getEnergy();
+        if (energy != 0L) {
+            collectTargets(energy);
+            plannedEnergy = energy;
+        }
+    }
+
+    @Override
+    public void discardPlannedUpdate() {
+        plannedEnergy = -1;
     }
 
     @Override
@@ -16,6 +16,7 @@ import mekanism.common.capabilities.fluid.VariableCapacityFluidTank;
 import mekanism.common.content.network.distribution.FluidHandlerTarget;
 import mekanism.common.content.network.distribution.FluidTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.MechanicalPipe;
+import mekanism.common.lib.distribution.IntegerSplitInfo;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.FluidUtils;
@@ -36,6 +37,9 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
     @NotNull
     public FluidStack lastFluid = FluidStack.EMPTY;
     private int prevTransferAmount;
+    private final FluidHandlerTarget acceptorTarget = new FluidHandlerTarget();
+    private final IntegerSplitInfo splitInfo = new IntegerSplitInfo();
+    private FluidStack plannedFluid = FluidStack.EMPTY;
 
     //TODO: Make fluid storage support storing as longs?
     private int intCapacity;
@@ -128,6 +132,12 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
         intCapacity = MathUtils.clampToInt(getCapacity());
     }
 
+    @Override
+    protected synchronized void removeCapacity(MechanicalPipe transmitter) {
+        super.removeCapacity(transmitter);
+        intCapacity = MathUtils.clampToInt(getCapacity());
+    }
+
     @Override
     public synchronized void updateCapacity() {
         super.updateCapacity();
@@ -150,20 +160,43 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
     }
 
     private int tickEmit(@NotNull FluidStack fluidToSend) {
-        Collection<Map<Direction, IFluidHandler>> acceptorValues = acceptorCache.getAcceptorValues();
-        FluidHandlerTarget target = null;
-        for (Map<Direction, IFluidHandler> acceptors : acceptorValues) {
+        if (!FluidStack.matches(plannedFluid, fluidToSend)) {
+            //Something changed since we planned which acceptors can receive fluid (or we didn't plan), so we need to recollect them
+            collectTargets(fluidToSend);
+        }
+        discardPlannedUpdate();
+        return EmitUtils.sendToAcceptors(acceptorTarget, splitInfo, fluidToSend.getAmount(), fluidToSend);
+    }
+
+    private void collectTargets(@NotNull FluidStack fluidToSend) {
+        //Note: We reuse the same target each tick to avoid allocating a new one and growing its backing storage
+        acceptorTarget.clear();
+        for (Map<Direction, IFluidHandler> acceptors : acceptorCache.getAcceptorValues()) {
             for (IFluidHandler acceptor : acceptors.values()) {
                 if (FluidUtils.canFill(acceptor, fluidToSend)) {
-                    if (target == null) {
-                        //Lazily initialize the target, which allows us to also skip attempting to start emitting
-                        target = new FluidHandlerTarget(acceptorValues.size() * 2);
-                    }
-                    target.addHandler(acceptor);
+                    acceptorTarget.addHandler(acceptor);
                 }
             }
         }
-        return EmitUtils.sendToAcceptors(target, fluidToSend.getAmount(), fluidToSend);
+    }
+
+    @Override
+    public boolean supportsParallelPlanning() {
+        return true;
+    }
+
+    @Override
+    public void planUpdate() {
+        if (!fluidTank.isEmpty()) {
+            FluidStack fluid = fluidTank.getFluid();
+            collectTargets(fluid);
+            plannedFluid = fluid.copy();
+        }
+    }
+
+    @Override
+    public void discardPlannedUpdate() {
+        plannedFluid = FluidStack.EMPTY;
     }
 
     @Override
@@ -1,6 +1,8 @@
 package mekanism.common.content.network;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
@@ -13,6 +15,7 @@ import mekanism.api.RelativeSide;
 import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.content.transporter.InsertPredictionCache;
 import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.content.transporter.TransporterPathfinder;
@@ -33,6 +36,10 @@ import org.jetbrains.annotations.NotNull;
 
 public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetwork, LogisticalTransporterBase> {
 
+    private final PathfinderCache pathCache = new PathfinderCache();
+    private final InsertPredictionCache predictionCache = new InsertPredictionCache();
+    private final LongList addedTransporters = new LongArrayList();
+
     public InventoryNetwork(UUID networkID) {
         super(networkID);
     }
@@ -45,17 +52,21 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
     public List<AcceptorData> calculateAcceptors(TransitRequest request, TransporterStack stack, Long2ObjectMap<ChunkAccess> chunkMap,
           Map<GlobalPos, Set<TransporterStack>> additionalFlowingStacks, LogisticalTransporterBase start) {
         List<AcceptorData> toReturn = new ArrayList<>();
+        //Note: What is known about the destinations is cached for the rest of the tick, so that other requests made this tick don't have to simulate it again
+        predictionCache.refresh(getWorld().getGameTime());
         for (Long2ObjectMap.Entry<Map<Direction, IItemHandler>> entry : acceptorCache.getAcceptorEntrySet()) {
             long pos = entry.getLongKey();
             if (pos != stack.homeLocation) {
                 BlockPos blockPos = BlockPos.of(pos);
                 BlockEntity acceptor = WorldUtils.getTileEntity(getWorld(), chunkMap, blockPos);
-                Map<TransitResponse, AcceptorData> dataMap = new HashMap<>();
-                GlobalPos position = GlobalPos.of(getWorld().dimension(), blockPos);
+                //Note: Most destinations are only connected on a single side, so we lazily initialize these
+                Map<TransitResponse, AcceptorData> dataMap = null;
+                GlobalPos position = null;
+                AcceptorData firstData = null;
                 for (Map.Entry<Direction, IItemHandler> acceptorEntry : entry.getValue().entrySet()) {
                     IItemHandler handler = acceptorEntry.getValue();
                     Direction side = acceptorEntry.getKey();
-                    PathfinderCache.CachedPath cachedPath = PathfinderCache.getSingleCache(start, blockPos, side);
+                    PathfinderCache.CachedPath cachedPath = pathCache.getSingleCache(start.getBlockPos(), blockPos, side);
                     if (cachedPath != null && !TransporterPathfinder.checkPath(this, cachedPath.path(), stack)) {
                         continue;//invalid path, no need to simulate
                     }
@@ -70,16 +81,34 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
                             }
                         }
                     }
-                    TransitResponse response = TransporterManager.getPredictedInsert(position, side, handler, request, additionalFlowingStacks);
+                    if (position == null) {
+                        position = GlobalPos.of(getWorld().dimension(), blockPos);
+                    }
+                    TransitResponse response = TransporterManager.getPredictedInsert(position, side, handler, request, additionalFlowingStacks, predictionCache);
                     if (!response.isEmpty()) {
                         Direction opposite = side.getOpposite();
                         //If the response isn't empty, check if we already have acceptor data for
                         // a matching response at the destination
-                        AcceptorData data = dataMap.get(response);
+                        AcceptorData data;
+                        if (firstData == null) {
+                            data = null;
+                        } else if (dataMap == null) {
+                            data = firstData.getResponse().equals(response) ? firstData : null;
+                        } else {
+                            data = dataMap.get(response);
+                        }
                         if (data == null) {
                             //If we don't, add a new acceptor data for the response and position with side
                             data = new AcceptorData(blockPos, response, opposite);
-                            dataMap.put(response, data);
+                            if (firstData == null) {
+                                firstData = data;
+                            } else {
+                                if (dataMap == null) {
+                                    dataMap = new HashMap<>();
+                                    dataMap.put(firstData.getResponse(), firstData);
+                                }
+                                dataMap.put(response, data);
+                            }
                             toReturn.add(data);
                             //Note: In theory this shouldn't cause any issues if some exposed slots overlap but are for
                             // different acceptor data/sides as our predicted insert takes into account all en-route
@@ -97,18 +126,53 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
         return toReturn;
     }
 
+    public PathfinderCache getPathCache() {
+        return pathCache;
+    }
+
+    public InsertPredictionCache getPredictionCache() {
+        return predictionCache;
+    }
+
+    @Override
+    protected void addTransmitterFromCommit(LogisticalTransporterBase transmitter) {
+        super.addTransmitterFromCommit(transmitter);
+        addedTransporters.add(transmitter.getWorldPositionLong());
+    }
+
     @Override
     public void commit() {
         super.commit();
-        // update the cache when the network has been changed (called when transmitters are added)
-        PathfinderCache.onChanged(this);
+        if (!addedTransporters.isEmpty()) {
+            // update the cache when transmitters have been added to the network, as they may provide shorter paths
+            pathCache.transportersAdded(addedTransporters);
+            addedTransporters.clear();
+        }
+    }
+
+    @Override
+    protected void transmittersRemoved(Collection<LogisticalTransporterBase> removed) {
+        super.transmittersRemoved(removed);
+        // remove any cached paths that go through transmitters that were removed
+        for (LogisticalTransporterBase transporter : removed) {
+            pathCache.transporterRemoved(transporter.getWorldPositionLong());
+        }
+    }
+
+    @Override
+    public void acceptorChanged(LogisticalTransporterBase transmitter, Direction side) {
+        super.acceptorChanged(transmitter, side);
+        // the transmitter's connection to the acceptor may have changed, which affects the paths that end at it
+        pathCache.transporterChanged(transmitter.getWorldPositionLong());
     }
 
     @Override
     public void deregister() {
         super.deregister();
-        // update the cache when the network has been removed (when transmitters are removed)
-        PathfinderCache.onChanged(this);
+        // clear the cache when the network has been removed
+        pathCache.clear();
+        addedTransporters.clear();
+        predictionCache.clear();
     }
 
     @Override
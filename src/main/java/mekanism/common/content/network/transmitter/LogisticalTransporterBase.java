@@ -6,6 +6,7 @@ import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.longs.Long2ReferenceMap;
 import it.unimi.dsi.fastutil.longs.Long2ReferenceRBTreeMap;
+import it.unimi.dsi.fastutil.longs.LongList;
 import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import java.util.Collection;
 import java.util.Collections;
@@ -16,6 +17,7 @@ import java.util.UUID;
 import mekanism.api.SerializationConstants;
 import mekanism.api.text.EnumColor;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.content.transporter.TransporterStack;
@@ -227,7 +229,8 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
                                     TransitResponse response = TransitRequest.simple(stack.itemStack).addToInventory(getLevel(), BlockPos.of(next), acceptor, 0,
                                           stack.getPathType().isHome());
                                     if (!response.isEmpty()) {
-                                        //We were able to add at least part of the stack to the inventory
+                                        //We were able to add at least part of the stack to the inventory, so the contents we have cached for it are no longer accurate
+                                        network.getPredictionCache().invalidate(next);
                                         ItemStack rejected = response.getRejected();
                                         if (rejected.isEmpty()) {
                                             //Nothing was rejected (it was all accepted); remove the stack from the prediction
@@ -492,8 +495,12 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
         // This code used to generate a sync message at this point, but that was a LOT
         // of bandwidth in a busy server, so by adding to needsSync, the sync will happen
         // in a batch on a per-tick basis.
-        int stackId = nextId++;
         stack.progress = progress;
+        if (MekanismConfig.general.transporterBulkLanes.get() && mergeIntoLane(stack)) {
+            //The stack was combined with one that is already travelling along the same path, so we don't need to keep track of it separately
+            return;
+        }
+        int stackId = nextId++;
         addStack(stackId, stack);
         needsSync.put(stackId, stack);
 
@@ -503,6 +510,43 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
         // a tick).
     }
 
+    /**
+     * Tries to combine the given stack with a stack in this transporter that is travelling along the same path, so that long runs of transporters only have to move a
+     * single stack instead of many small ones. The combined stack's progress is the average of the progress of both stacks, weighted by how many items each of them
+     * has, so that the items that are entering don't skip ahead to the position of the stack they are combined with.
+     *
+     * @return {@code true} if the stack was combined with another stack.
+     */
+    private boolean mergeIntoLane(TransporterStack stack) {
+        if (transit.isEmpty() || !stack.initiatedPath || !stack.getPathType().hasTarget()) {
+            return false;
+        }
+        LongList path = stack.getPath();
+        //Note: The path is ordered from the destination back to the start, so our index is the number of transporters left to travel through
+        if (stack.getPathIndex(getWorldPositionLong()) < MekanismConfig.general.transporterBulkLaneLength.get()) {
+            //Only combine stacks on long runs, so that stacks that are close to their destination keep their exact positions
+            return false;
+        }
+        ItemStack itemStack = stack.itemStack;
+        for (ObjectIterator<Int2ObjectMap.Entry<TransporterStack>> iterator = transit.int2ObjectEntrySet().fastIterator(); iterator.hasNext(); ) {
+            Int2ObjectMap.Entry<TransporterStack> entry = iterator.next();
+            TransporterStack lane = entry.getValue();
+            if (lane.initiatedPath && lane.getPathType() == stack.getPathType() && lane.color == stack.color && lane.homeLocation == stack.homeLocation &&
+                lane.itemStack.getCount() + itemStack.getCount() <= lane.itemStack.getMaxStackSize() && ItemStack.isSameItemSameComponents(lane.itemStack, itemStack) &&
+                lane.getPath().equals(path)) {
+                //Remove the entering stack from the prediction tracker, as its items are now tracked as part of the lane
+                TransporterManager.remove(getLevel(), stack);
+                int laneCount = lane.itemStack.getCount();
+                int total = laneCount + itemStack.getCount();
+                lane.progress = (int) (((long) lane.progress * laneCount + (long) stack.progress * itemStack.getCount()) / total);
+                lane.itemStack = lane.itemStack.copyWithCount(total);
+                needsSync.put(entry.getIntKey(), lane);
+                return true;
+            }
+        }
+        return false;
+    }
+
     @FunctionalInterface
     public interface PathCalculator<BE extends BlockEntity> {
 
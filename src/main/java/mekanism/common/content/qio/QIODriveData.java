@@ -18,6 +18,10 @@ public class QIODriveData {
     private final int typeCapacity;
     private final Object2LongMap<HashedItem> itemMap = new Object2LongOpenHashMap<>();
     private long itemCount;
+    /**
+     * Whether the contents of this drive have changed since they were last saved to the drive stack.
+     */
+    private boolean dirty;
 
     public QIODriveData(QIODriveKey key) {
         this.key = key;
@@ -44,6 +48,7 @@ public class QIODriveData {
         if (action.execute()) {
             itemMap.put(type, stored + toAdd);
             itemCount += toAdd;
+            dirty = true;
             key.updateMetadata(this);
             key.dataUpdate();
         }
@@ -61,12 +66,27 @@ public class QIODriveData {
                 itemMap.removeLong(type);
             }
             itemCount -= removed;
+            dirty = true;
             key.updateMetadata(this);
             key.dataUpdate();
         }
         return removed;
     }
 
+    /**
+     * Saves the contents of this drive to the drive stack.
+     *
+     * @param force {@code true} to save the contents even if they haven't changed since they were last saved.
+     */
+    public void save(boolean force) {
+        if (force || dirty) {
+            //Note: We only encode the contents when they change, as encoding large drives is expensive, and the drives get saved by every holder in the frequency
+            key.updateMetadata(this);
+            key.save(this);
+            dirty = false;
+        }
+    }
+
     public long getStored(HashedItem type) {
         return itemMap.getOrDefault(type, 0L);
     }
@@ -5,9 +5,16 @@ import com.google.common.collect.SetMultimap;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMaps;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -35,6 +42,7 @@ import mekanism.api.text.EnumColor;
 import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.Mekanism;
 import mekanism.common.base.TagCache;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.qio.QIODriveData.QIODriveKey;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.lib.WildcardMatcher;
@@ -43,11 +51,11 @@ import mekanism.common.lib.frequency.Frequency;
 import mekanism.common.lib.frequency.FrequencyType;
 import mekanism.common.lib.frequency.IColorableFrequency;
 import mekanism.common.lib.inventory.HashedItem;
-import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.lib.security.SecurityFrequency;
 import mekanism.common.network.to_client.qio.PacketUpdateItemViewer;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.SharedConstants;
+import net.minecraft.core.RegistryAccess;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.server.level.ServerPlayer;
@@ -55,7 +63,6 @@ import net.minecraft.util.RandomSource;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.neoforged.neoforge.common.util.Lazy;
 import net.neoforged.neoforge.network.PacketDistributor;
 import org.jetbrains.annotations.Nullable;
 
@@ -102,11 +109,22 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     private final SetMultimap<String, String> modIDWildcardCache = HashMultimap.create();
     private final Set<String> failedWildcardModIDs = new HashSet<>();
 
-    private final Set<UUID> updatedItems = new HashSet<>();
+    /**
+     * Types that changed since we last sent an update to the players viewing the items. We keep track of the type data that changed rather than looking it up when
+     * sending the update, so that we still know the id and the count the viewers have for types that have been removed. Keyed by the id of the type.
+     */
+    private final Int2ObjectMap<QIOItemTypeData> updatedItems = new Int2ObjectOpenHashMap<>();
     private final Set<ServerPlayer> playersViewingItems = new HashSet<>();
+    //Reusable lists for building updates to send to the players viewing the items
+    private final List<QIOItemTypeData> addedViewerItems = new ArrayList<>();
+    private final List<QIOItemTypeData> changedViewerItems = new ArrayList<>();
+    private final LongList viewerItemChanges = new LongArrayList();
+    private final IntList removedViewerItems = new IntArrayList();
 
     /** If we need to send a packet to viewing clients with changed item data. */
     private boolean needsUpdate;
+    /** Ticks since we last sent an update to the players viewing the items, used to combine changes that happen in quick succession into a single update. */
+    private int ticksSinceViewerUpdate;
     /** If we have new item changes that haven't been saved. */
     private boolean isDirty;
 
@@ -228,8 +246,8 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         //Fuzzy item lookup has no wildcard cache related to it
         fuzzyItemLookupMap.computeIfAbsent(stack.getItem(), item -> new HashSet<>()).add(type);
         QIOItemTypeData data = new QIOItemTypeData(type);
-        //Ensure we have a matching uuid for this item
-        data.getItemUUID();
+        //Ensure we have a matching id and uuid for this item
+        data.getItemId();
         return data;
     }
 
@@ -410,6 +428,20 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public void openItemViewer(ServerPlayer player) {
+        //Note: The player opening the viewer was just sent the current state of the items, so we make sure they don't receive any pending changes
+        // that are from before they opened it
+        playersViewingItems.remove(player);
+        if (playersViewingItems.isEmpty()) {
+            //We don't track changes while nobody is viewing the items, so the counts we last sent to viewers are stale; update them to the current counts
+            for (QIOItemTypeData data : itemDataMap.values()) {
+                data.viewerCount = data.count;
+            }
+            updatedItems.clear();
+            needsUpdate = false;
+        } else if (needsUpdate) {
+            //Bring the players that are already viewing the items up to date with the current state
+            sendViewerUpdate();
+        }
         playersViewingItems.add(player);
     }
 
@@ -489,31 +521,11 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             }
         }
 
-        if (!updatedItems.isEmpty() || needsUpdate) {
-            //Only calculate the packet and the update map if there are actually players viewing this frequency,
-            // otherwise we can just skip looking up UUIDs and counts
-            Lazy<PacketUpdateItemViewer> lazyPacket = Lazy.of(() -> {
-                Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>(updatedItems.size());
-                for (UUID uuid : updatedItems) {
-                    HashedItem type = QIOGlobalItemLookup.INSTANCE.getTypeByUUID(uuid);
-                    if (type != null) {//The type should never be null as we create a UUID if there isn't one before adding but validate it
-                        QIOItemTypeData data = itemDataMap.get(type);
-                        map.put(new UUIDAwareHashedItem(type, uuid), data == null ? 0 : data.count);
-                    }
-                }
-                return new PacketUpdateItemViewer(totalCountCapacity, totalTypeCapacity, map);
-            });
-            for (Iterator<ServerPlayer> viewingIterator = playersViewingItems.iterator(); viewingIterator.hasNext(); ) {
-                ServerPlayer player = viewingIterator.next();
-                if (player.containerMenu instanceof QIOItemViewerContainer) {
-                    PacketDistributor.sendToPlayer(player, lazyPacket.get());
-                } else {
-                    //flush players that somehow didn't send a container close packet
-                    viewingIterator.remove();
-                }
-            }
-            updatedItems.clear();
-            needsUpdate = false;
+        if (ticksSinceViewerUpdate < MekanismConfig.general.qioViewerUpdateInterval.get()) {
+            ticksSinceViewerUpdate++;
+        }
+        if (needsUpdate && ticksSinceViewerUpdate >= MekanismConfig.general.qioViewerUpdateInterval.get()) {
+            sendViewerUpdate();
         }
         // if something has changed, we'll subsequently randomly run a save operation in the next 100 ticks.
         // the random factor helps us avoid bogging down the CPU by saving all QIO frequencies at once
@@ -587,6 +599,58 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         return code;
     }
 
+    /**
+     * Sends the changes since the last update to all the players viewing the items.
+     */
+    private void sendViewerUpdate() {
+        PacketUpdateItemViewer packet = null;
+        for (Iterator<ServerPlayer> viewingIterator = playersViewingItems.iterator(); viewingIterator.hasNext(); ) {
+            ServerPlayer player = viewingIterator.next();
+            if (player.containerMenu instanceof QIOItemViewerContainer) {
+                if (packet == null) {
+                    //Only calculate the packet if there are actually players still viewing this frequency
+                    packet = createViewerUpdate(player.registryAccess());
+                }
+                PacketDistributor.sendToPlayer(player, packet);
+            } else {
+                //flush players that somehow didn't send a container close packet
+                viewingIterator.remove();
+            }
+        }
+        updatedItems.clear();
+        needsUpdate = false;
+        ticksSinceViewerUpdate = 0;
+    }
+
+    private PacketUpdateItemViewer createViewerUpdate(RegistryAccess registryAccess) {
+        for (QIOItemTypeData changed : updatedItems.values()) {
+            QIOItemTypeData current = itemDataMap.get(changed.itemType);
+            if (current == null) {
+                if (changed.viewerCount > 0) {
+                    //The type was removed, and the viewers know about it
+                    removedViewerItems.add(changed.getItemId());
+                }
+                changed.viewerCount = 0;
+            } else {
+                if (current != changed || current.viewerCount == 0) {
+                    //The viewers don't know about the type, or it got removed and then added back, so we need to send it in full
+                    addedViewerItems.add(current);
+                } else if (current.count != current.viewerCount) {
+                    changedViewerItems.add(current);
+                    viewerItemChanges.add(current.count - current.viewerCount);
+                }
+                current.viewerCount = current.count;
+            }
+        }
+        PacketUpdateItemViewer packet = PacketUpdateItemViewer.create(registryAccess, totalCountCapacity, totalTypeCapacity, addedViewerItems, changedViewerItems,
+              viewerItemChanges, removedViewerItems);
+        addedViewerItems.clear();
+        changedViewerItems.clear();
+        viewerItemChanges.clear();
+        removedViewerItems.clear();
+        return packet;
+    }
+
     public void addDrive(QIODriveKey key) {
         if (key.getDriveStack().getItem() instanceof IQIODriveItem) {
             // if a drive in this position is already in the system, we remove it before adding this one
@@ -600,8 +664,9 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             driveMap.put(key, data);
             for (Object2LongMap.Entry<HashedItem> entry : data.getItemMap().object2LongEntrySet()) {
                 HashedItem storedKey = entry.getKey();
-                itemDataMap.computeIfAbsent(storedKey, this::createTypeDataForAbsent).addFromDrive(data, entry.getLongValue());
-                markForUpdate(storedKey);
+                QIOItemTypeData itemData = itemDataMap.computeIfAbsent(storedKey, this::createTypeDataForAbsent);
+                itemData.addFromDrive(data, entry.getLongValue());
+                markForUpdate(itemData);
             }
             setNeedsUpdate();
         }
@@ -621,7 +686,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
                     itemData.containingDrives.remove(key);
                     itemData.count -= value;
                     totalCount -= value;
-                    markForUpdate(storedKey);
+                    markForUpdate(itemData);
                     // remove this entry from the item data map if it's now empty
                     if (itemData.containingDrives.isEmpty() || itemData.count == 0) {
                         removeItemData(storedKey);
@@ -635,38 +700,28 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         totalTypeCapacity -= data.getTypeCapacity();
         driveMap.remove(key);
         // save the item list onto the physical drive
-        key.updateMetadata(data);
-        key.save(data);
+        data.save(true);
     }
 
     public void saveAll() {
-        for (Entry<QIODriveKey, QIODriveData> entry : driveMap.entrySet()) {
-            QIODriveKey key = entry.getKey();
-            QIODriveData value = entry.getValue();
-            key.updateMetadata(value);
-            key.save(value);
+        for (QIODriveData data : driveMap.values()) {
+            data.save(false);
         }
     }
 
-    private void setNeedsUpdate(@Nullable HashedItem changedItem) {
+    private void setNeedsUpdate(@Nullable QIOItemTypeData changedItem) {
         isDirty = true;
         if (!playersViewingItems.isEmpty()) {//Skip marking for update if there are no players viewing the items
             needsUpdate = true;
             if (changedItem != null) {
-                UUID uuid = QIOGlobalItemLookup.INSTANCE.getUUIDForType(changedItem);
-                if (uuid != null) {
-                    updatedItems.add(uuid);
-                }
+                updatedItems.putIfAbsent(changedItem.getItemId(), changedItem);
             }
         }
     }
 
-    private void markForUpdate(HashedItem changedItem) {
+    private void markForUpdate(QIOItemTypeData changedItem) {
         if (!playersViewingItems.isEmpty()) {//Skip marking for update if there are no players viewing the items
-            UUID uuid = QIOGlobalItemLookup.INSTANCE.getUUIDForType(changedItem);
-            if (uuid != null) {
-                updatedItems.add(uuid);
-            }
+            updatedItems.putIfAbsent(changedItem.getItemId(), changedItem);
         }
     }
 
@@ -679,9 +734,12 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         private final Set<QIODriveKey> containingDrives = new HashSet<>();
         private final HashedItem itemType;
 
-        @Nullable
-        private UUID itemUUID;
+        private int itemId = QIOGlobalItemLookup.NO_ID;
         private long count = 0;
+        /**
+         * The count the players viewing the items were last sent for this type.
+         */
+        private long viewerCount = 0;
 
         public QIOItemTypeData(HashedItem itemType) {
             this.itemType = itemType;
@@ -718,7 +776,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
                 // update internal/core values
                 count += amount - toAdd;
                 totalCount += amount - toAdd;
-                setNeedsUpdate(itemType);
+                setNeedsUpdate(this);
             }
             return toAdd;
         }
@@ -748,7 +806,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             if (action.execute()) {
                 count -= removed;
                 totalCount -= removed;
-                setNeedsUpdate(itemType);
+                setNeedsUpdate(this);
             }
             return removed;
         }
@@ -762,12 +820,20 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             return count;
         }
 
-        public UUID getItemUUID() {
-            if (itemUUID == null) {
-                //Lazily cache what the uuid for the stack is
-                itemUUID = QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(itemType);
+        /**
+         * @return The id of this type in the {@link QIOGlobalItemLookup}, which is what we use to refer to the type when syncing changes to the players viewing the
+         * items.
+         */
+        public int getItemId() {
+            if (itemId == QIOGlobalItemLookup.NO_ID) {
+                //Lazily cache what the id for the stack is
+                itemId = QIOGlobalItemLookup.INSTANCE.getOrTrackId(itemType);
             }
-            return itemUUID;
+            return itemId;
+        }
+
+        public UUID getItemUUID() {
+            return QIOGlobalItemLookup.INSTANCE.getUUIDById(getItemId());
         }
 
         public HashedItem getItemType() {
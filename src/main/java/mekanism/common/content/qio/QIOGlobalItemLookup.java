@@ -1,9 +1,11 @@
 package mekanism.common.content.qio;
 
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import mekanism.api.SerializationConstants;
@@ -24,6 +26,10 @@ public class QIOGlobalItemLookup {
 
     public static final QIOGlobalItemLookup INSTANCE = new QIOGlobalItemLookup();
     private static final String DATA_HANDLER_NAME = "qio_type_cache";
+    /**
+     * Id that is returned when a type or UUID is not being tracked.
+     */
+    public static final int NO_ID = -1;
 
     private QIOGlobalItemLookup() {
     }
@@ -33,11 +39,15 @@ public class QIOGlobalItemLookup {
      */
     @Nullable
     private QIOGlobalItemLookupDataHandler dataHandler;
-    //TODO - 1.19: Do we need to worry about synchronization for this map?
-    //keep track of a UUID for each hashed item. Note every hashed item in this can be assumed to be serializable
-    // we only don't store them as such for the generic so that we don't have to create extra objects for purposes
-    // of getting the uuid for a given item type
-    private BiMap<UUID, HashedItem> itemCache = HashBiMap.create();
+    //TODO - 1.19: Do we need to worry about synchronization for these maps?
+    //keep track of a dense id and a UUID for each hashed item. The UUIDs are what get persisted, and the ids are only valid until the server stops, which allows us
+    // to refer to types with a single int, and to look up the type and UUID for an id by indexing into a list.
+    // Note every hashed item in this can be assumed to be serializable, we only don't store them as such for the generic so that we don't have to create extra
+    // objects for purposes of getting the id for a given item type
+    private Object2IntMap<HashedItem> idsByType = createIdMap();
+    private Object2IntMap<UUID> idsByUUID = createIdMap();
+    private List<HashedItem> typesById = new ObjectArrayList<>();
+    private List<UUID> uuidsById = new ObjectArrayList<>();
     /**
      * Map of "No longer valid" -> "New Id"
      */
@@ -51,33 +61,73 @@ public class QIOGlobalItemLookup {
         return mergedIds.getOrDefault(uuid, uuid);
     }
 
+    private static <KEY> Object2IntMap<KEY> createIdMap() {
+        Object2IntMap<KEY> map = new Object2IntOpenHashMap<>();
+        map.defaultReturnValue(NO_ID);
+        return map;
+    }
+
     @Nullable
     public UUID getUUIDForType(HashedItem item) {
-        return itemCache.inverse().get(item);
+        int id = idsByType.getInt(item);
+        return id == NO_ID ? null : uuidsById.get(id);
     }
 
     /**
      * @apiNote Only call this with non-raw hashed items
      */
     public UUID getOrTrackUUID(HashedItem item) {
+        return uuidsById.get(getOrTrackId(item));
+    }
+
+    /**
+     * Gets the id of the given type, starting to track the type if it isn't tracked yet. Ids are dense and only stay the same until the server stops, so they must not
+     * be persisted.
+     *
+     * @apiNote Only call this with non-raw hashed items
+     */
+    public int getOrTrackId(HashedItem item) {
         //TODO - 1.19: Do we want this/other methods to error if we are called before the save data is loaded?
-        //Note: Unlike for getUUIDForType we have to wrap the hashed item into a SerializedHashedItem here in case it isn't present
-        // as we want to make sure only serialized hashed items are put into the map
-        SerializedHashedItem serializable = new SerializedHashedItem(item);
-        BiMap<HashedItem, UUID> inverseCache = itemCache.inverse();
-        UUID uuid = inverseCache.get(serializable);
-        if (uuid == null) {
-            //Calculate and return a new UUID and mark the save data as dirty
-            uuid = UUID.randomUUID();
-            itemCache.put(uuid, serializable);
-            markDirty();
+        int id = idsByType.getInt(item);
+        if (id == NO_ID) {
+            //Note: Unlike for getUUIDForType we have to wrap the hashed item into a SerializedHashedItem here in case it isn't present
+            // as we want to make sure only serialized hashed items are put into the map. We also check if the wrapped item is present
+            // in case we were given a hashed item that hashes differently such as a UUIDAwareHashedItem
+            SerializedHashedItem serializable = new SerializedHashedItem(item);
+            id = idsByType.getInt(serializable);
+            if (id == NO_ID) {
+                //Calculate a new UUID and mark the save data as dirty
+                id = track(UUID.randomUUID(), serializable);
+                markDirty();
+            }
         }
-        return uuid;
+        return id;
+    }
+
+    private int track(UUID uuid, SerializedHashedItem item) {
+        int id = typesById.size();
+        typesById.add(item);
+        uuidsById.add(uuid);
+        idsByType.put(item, id);
+        idsByUUID.put(uuid, id);
+        return id;
+    }
+
+    /**
+     * @apiNote Only call this with ids that were returned by {@link #getOrTrackId(HashedItem)}.
+     */
+    public UUID getUUIDById(int id) {
+        return uuidsById.get(id);
     }
 
     @Nullable
     public HashedItem getTypeByUUID(@Nullable UUID uuid) {
-        return uuid == null ? null : itemCache.get(uuid);
+        return uuid == null ? null : getTypeById(idsByUUID.getInt(uuid));
+    }
+
+    @Nullable
+    public HashedItem getTypeById(int id) {
+        return id < 0 || id >= typesById.size() ? null : typesById.get(id);
     }
 
     private void markDirty() {
@@ -100,7 +150,10 @@ public class QIOGlobalItemLookup {
     public void reset() {
         //Reset instance as we may have massively different sizes for different worlds,
         // so we want to free up as much memory as we can
-        itemCache = HashBiMap.create();
+        idsByType = createIdMap();
+        idsByUUID = createIdMap();
+        typesById = new ObjectArrayList<>();
+        uuidsById = new ObjectArrayList<>();
         dataHandler = null;
     }
 
@@ -139,22 +192,18 @@ public class QIOGlobalItemLookup {
                     // want to make sure that we save it with the proper corresponding data
                     //TODO: Eventually we may want to keep the NBT so that if the mod gets added back it exists again
                     SerializedHashedItem item = new SerializedHashedItem(stack);
-                    try {
-                        QIOGlobalItemLookup.INSTANCE.itemCache.put(uuid, item);
-                    } catch (IllegalArgumentException e) {
-                        UUID winningId = QIOGlobalItemLookup.INSTANCE.itemCache.inverse().get(item);
-                        if (winningId == null) {
-                            Mekanism.logger.error("Failed to resolve conflict for UUID ({}) for item {} with components: {}. Skipping", uuid, stack.getItem(),
-                                  stack.getComponentsPatch());
-                        } else {
-                            Mekanism.logger.warn("Adding alias between UUID ({}) to ({}) for item {} with components: {}", uuid, winningId, stack.getItem(),
-                                  stack.getComponentsPatch());
-                            //Try to add it as an alias
-                            if (QIOGlobalItemLookup.INSTANCE.mergedIds.isEmpty()) {
-                                QIOGlobalItemLookup.INSTANCE.mergedIds = new HashMap<>();
-                            }
-                            QIOGlobalItemLookup.INSTANCE.mergedIds.put(uuid, winningId);
+                    int existingId = QIOGlobalItemLookup.INSTANCE.idsByType.getInt(item);
+                    if (existingId == NO_ID) {
+                        QIOGlobalItemLookup.INSTANCE.track(uuid, item);
+                    } else {
+                        UUID winningId = QIOGlobalItemLookup.INSTANCE.uuidsById.get(existingId);
+                        Mekanism.logger.warn("Adding alias between UUID ({}) to ({}) for item {} with components: {}", uuid, winningId, stack.getItem(),
+                              stack.getComponentsPatch());
+                        //Add it as an alias
+                        if (QIOGlobalItemLookup.INSTANCE.mergedIds.isEmpty()) {
+                            QIOGlobalItemLookup.INSTANCE.mergedIds = new HashMap<>();
                         }
+                        QIOGlobalItemLookup.INSTANCE.mergedIds.put(uuid, winningId);
                     }
                 }
             }
@@ -187,10 +236,12 @@ public class QIOGlobalItemLookup {
                 }
                 nbt.put(SerializationConstants.ALIASES, aliases);
             }
-            if (!QIOGlobalItemLookup.INSTANCE.itemCache.isEmpty()) {
+            List<HashedItem> typesById = QIOGlobalItemLookup.INSTANCE.typesById;
+            if (!typesById.isEmpty()) {
                 CompoundTag items = new CompoundTag();
-                for (Map.Entry<UUID, HashedItem> entry : QIOGlobalItemLookup.INSTANCE.itemCache.entrySet()) {
-                    items.put(entry.getKey().toString(), ((SerializedHashedItem) entry.getValue()).getNbtRepresentation(provider));
+                List<UUID> uuidsById = QIOGlobalItemLookup.INSTANCE.uuidsById;
+                for (int id = 0, size = typesById.size(); id < size; id++) {
+                    items.put(uuidsById.get(id).toString(), ((SerializedHashedItem) typesById.get(id)).getNbtRepresentation(provider));
                 }
                 nbt.put(SerializationConstants.ITEMS, items);
             }
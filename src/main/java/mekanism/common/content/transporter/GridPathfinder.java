@@ -0,0 +1,276 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.Arrays;
+import mekanism.common.util.EnumUtils;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * World independent A* search over block positions. Implementations provide what node (if any) exists at a given position, whether a node can be traversed to from
+ * another node, and whether a given position is the destination.
+ * <p>
+ * Alternatively, {@link #explore(BlockPos, double)} can be used to find the cheapest path from a position to every node around it in a single search, which is
+ * cheaper than searching for each destination individually when there are many destinations.
+ *
+ * @param <NODE> Type of the nodes that make up the graph.
+ */
+public abstract class GridPathfinder<NODE> {
+
+    private final OpenQueue openQueue = new OpenQueue();
+    private final Long2LongMap navMap = new Long2LongOpenHashMap();
+    private final Long2DoubleOpenHashMap gScore = new Long2DoubleOpenHashMap();
+    private final Long2DoubleOpenHashMap fScore = new Long2DoubleOpenHashMap();
+
+    /**
+     * Gets the node at the given position.
+     *
+     * @return The node or {@code null} if there is no node at the given position.
+     */
+    @Nullable
+    protected abstract NODE getNode(BlockPos pos);
+
+    /**
+     * Checks if we can travel from one node to another.
+     *
+     * @param to        Node we are trying to travel to.
+     * @param direction Direction we are traveling in.
+     * @param from      Node we are traveling from.
+     */
+    protected abstract boolean canTraverse(@Nullable NODE to, Direction direction, @Nullable NODE from);
+
+    /**
+     * Gets the cost of traveling into the given node.
+     *
+     * @implNote This is only called for nodes that {@link #canTraverse(Object, Direction, Object)} returned {@code true} for.
+     */
+    protected abstract double getCost(@NotNull NODE node);
+
+    /**
+     * Checks if the neighbor of the given position is the destination, and if the path can end there. If it is, implementations should store any information about
+     * the path they need, as the search ends as soon as this returns {@code true}.
+     *
+     * @param pos       Position the path currently ends at.
+     * @param node      Node at the position the path currently ends at.
+     * @param direction Direction the neighbor is in.
+     * @param neighbor  Position of the neighbor.
+     */
+    protected abstract boolean isDestination(BlockPos pos, @Nullable NODE node, Direction direction, BlockPos neighbor);
+
+    /**
+     * Searches for a path from the start position to the end position.
+     *
+     * @return {@code true} if {@link #isDestination(BlockPos, Object, Direction, BlockPos)} accepted a path.
+     */
+    protected boolean search(BlockPos start, BlockPos end) {
+        long startLong = start.asLong();
+        gScore.put(startLong, 0D);
+        //Note: This is gScore + estimate, but given our gScore starts at zero we just skip getting it back out
+        double totalDistance = WorldUtils.distanceBetween(start, end);
+        fScore.put(startLong, totalDistance);
+        openQueue.enqueue(startLong, totalDistance);
+        boolean hasValidDirection = false;
+        NODE startNode = getNode(start);
+        BlockPos.MutableBlockPos neighbor = new BlockPos.MutableBlockPos();
+        for (Direction direction : EnumUtils.DIRECTIONS) {
+            neighbor.setWithOffset(start, direction);
+            if (canTraverse(getNode(neighbor), direction, startNode)) {
+                //If we can travel to the neighbor, mark that we have a valid path we can take
+                hasValidDirection = true;
+                break;
+            } else if (isDestination(start, startNode, direction, neighbor)) {
+                //Otherwise, if we are neighboring our destination, and we can end the path there just exit early and return that this is the best path
+                return true;
+            }
+        }
+        if (!hasValidDirection) {
+            //If there is no valid direction that we can go just exit
+            return false;
+        }
+        //If the blocks are very close together, allow for path finding up to four blocks away
+        double maxSearchDistance = Math.max(2 * totalDistance, 4);
+        while (!openQueue.isEmpty()) {
+            double lowestFScore = openQueue.firstScore();
+            long currentNodeLong = openQueue.dequeue();
+            if (lowestFScore != fScore.get(currentNodeLong)) {
+                //A cheaper path to the node was found after this entry was queued, so the node was queued again with the lower score
+                continue;
+            }
+            BlockPos currentPos = BlockPos.of(currentNodeLong);
+            if (WorldUtils.distanceBetween(start, currentPos) > maxSearchDistance) {
+                //If it is too far away for us to keep considering then continue on and see if we have another path that may be valid
+                // Even if it currently has a bit higher of a score
+                continue;
+            }
+            NODE currentNode = getNode(currentPos);
+            double currentScore = gScore.get(currentNodeLong);
+            for (Direction direction : EnumUtils.DIRECTIONS) {
+                neighbor.setWithOffset(currentPos, direction);
+                NODE neighborNode = getNode(neighbor);
+                if (canTraverse(neighborNode, direction, currentNode)) {
+                    //If we can travel to the neighbor
+                    visitNeighbor(currentNodeLong, currentScore, neighbor, neighborNode, end);
+                } else if (isDestination(currentPos, currentNode, direction, neighbor)) {
+                    //Else if the neighbor is the destination, and we can end the path there
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the cheapest path from the start position to every node that can be reached from it, without expanding any nodes that are further than the given distance
+     * from the start. Afterward, {@link #hasReached(long)}, {@link #getGScore(long)}, and {@link #reconstructPath(long)} can be used to look up the path to any of the
+     * nodes.
+     *
+     * @param start             Position to start from.
+     * @param maxSearchDistance Maximum distance from the start that nodes will be expanded at.
+     */
+    protected void explore(BlockPos start, double maxSearchDistance) {
+        long startLong = start.asLong();
+        gScore.put(startLong, 0D);
+        fScore.put(startLong, 0D);
+        openQueue.enqueue(startLong, 0);
+        BlockPos.MutableBlockPos neighbor = new BlockPos.MutableBlockPos();
+        while (!openQueue.isEmpty()) {
+            double lowestScore = openQueue.firstScore();
+            long currentNodeLong = openQueue.dequeue();
+            if (lowestScore != fScore.get(currentNodeLong)) {
+                //Stale entry, the node was queued again with a lower score
+                continue;
+            }
+            BlockPos currentPos = BlockPos.of(currentNodeLong);
+            if (WorldUtils.distanceBetween(start, currentPos) > maxSearchDistance) {
+                continue;
+            }
+            NODE currentNode = getNode(currentPos);
+            double currentScore = gScore.get(currentNodeLong);
+            for (Direction direction : EnumUtils.DIRECTIONS) {
+                neighbor.setWithOffset(currentPos, direction);
+                NODE neighborNode = getNode(neighbor);
+                if (canTraverse(neighborNode, direction, currentNode)) {
+                    //Note: We don't have a single destination to estimate the remaining distance to, so this is just Dijkstra's algorithm
+                    visitNeighbor(currentNodeLong, currentScore, neighbor, neighborNode, null);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param end Destination to estimate the remaining distance to, or {@code null} to not estimate the remaining distance.
+     */
+    private void visitNeighbor(long currentNodeLong, double currentScore, BlockPos neighbor, NODE neighborNode, @Nullable BlockPos end) {
+        long neighborLong = neighbor.asLong();
+        double tentativeG = currentScore + getCost(neighborNode);
+        if (!gScore.containsKey(neighborLong) || tentativeG < gScore.get(neighborLong)) {
+            navMap.put(neighborLong, currentNodeLong);
+            gScore.put(neighborLong, tentativeG);
+            //Put the gScore plus estimate in the final score
+            double score = end == null ? tentativeG : tentativeG + WorldUtils.distanceBetween(neighbor, end);
+            fScore.put(neighborLong, score);
+            openQueue.enqueue(neighborLong, score);
+        }
+    }
+
+    /**
+     * Checks if a path to the given position was found by {@link #explore(BlockPos, double)}.
+     */
+    protected boolean hasReached(long pos) {
+        return gScore.containsKey(pos);
+    }
+
+    /**
+     * Gets the cost of the cheapest path found so far to the given position.
+     */
+    protected double getGScore(long pos) {
+        return gScore.get(pos);
+    }
+
+    /**
+     * Reconstructs the path that was taken to get to the given position, ordered from the given position back to the start.
+     */
+    protected LongList reconstructPath(long pos) {
+        LongList path = new LongArrayList();
+        do {
+            path.add(pos);
+            pos = navMap.getOrDefault(pos, Long.MAX_VALUE);
+        } while (pos != Long.MAX_VALUE);
+        return path;
+    }
+
+    /**
+     * Binary heap of the nodes that still need to be checked, ordered by their score. Rather than updating a node's position in the heap when a cheaper path to it is
+     * found, the node is added again with the new score, and the stale entry is skipped when it is reached.
+     */
+    private static class OpenQueue {
+
+        private long[] nodes = new long[16];
+        private double[] scores = new double[16];
+        private int size;
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        public void enqueue(long node, double score) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                scores = Arrays.copyOf(scores, size * 2);
+            }
+            int index = size++;
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (scores[parent] <= score) {
+                    break;
+                }
+                nodes[index] = nodes[parent];
+                scores[index] = scores[parent];
+                index = parent;
+            }
+            nodes[index] = node;
+            scores[index] = score;
+        }
+
+        /**
+         * @apiNote Only call this if the queue is not empty.
+         */
+        public double firstScore() {
+            return scores[0];
+        }
+
+        /**
+         * @apiNote Only call this if the queue is not empty.
+         */
+        public long dequeue() {
+            long first = nodes[0];
+            int last = --size;
+            long node = nodes[last];
+            double score = scores[last];
+            int index = 0;
+            int half = last >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                if (child + 1 < last && scores[child + 1] < scores[child]) {
+                    child++;
+                }
+                if (score <= scores[child]) {
+                    break;
+                }
+                nodes[index] = nodes[child];
+                scores[index] = scores[child];
+                index = child;
+            }
+            nodes[index] = node;
+            scores[index] = score;
+            return first;
+        }
+    }
+}
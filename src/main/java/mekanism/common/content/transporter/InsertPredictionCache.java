@@ -0,0 +1,112 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import mekanism.common.content.transporter.TransporterManager.InventoryInfo;
+import mekanism.common.lib.inventory.HashedItem;
+import net.minecraft.core.Direction;
+import net.neoforged.neoforge.items.IItemHandler;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Cache of what is known about the destinations of an inventory network during a single tick, so that when many requests are made in the same tick (such as by busy
+ * sorters) the stacks that are in flight to each destination only have to be simulated once, and destinations that are known to not accept an item don't have to be
+ * simulated again.
+ * <p>
+ * The contents of the destinations may be changed by other networks or machines during the tick without this network being notified. Snapshots of a destination are
+ * therefore only reused while the stacks in the destination are still the same instances with the same sizes, and the same stacks are flowing towards it. If a
+ * destination doesn't match its snapshot, we stop taking snapshots of it for the rest of the tick, as it is either busy or returns copies of its stacks.
+ * <p>
+ * Everything is discarded when the tick changes. Individual destinations are invalidated when a transporter inserts into them, and what is known about a destination
+ * not accepting items is discarded if any items stop flowing towards it, as that may have made room for more items. Negative results are not validated against the
+ * contents of the destination, so at worst a destination that had room made in it by something else is skipped until the next tick.
+ */
+public class InsertPredictionCache {
+
+    private final Long2ObjectMap<Map<Direction, DestinationState>> destinations = new Long2ObjectOpenHashMap<>();
+    private long tick = -1;
+
+    /**
+     * Clears the cache if the tick has changed since it was last used.
+     */
+    public void refresh(long gameTime) {
+        if (tick != gameTime) {
+            tick = gameTime;
+            destinations.clear();
+        }
+    }
+
+    /**
+     * Invalidates everything that is known about the destination at the given position, called when the contents of the destination have been changed.
+     */
+    public void invalidate(long pos) {
+        destinations.remove(pos);
+    }
+
+    public void clear() {
+        destinations.clear();
+        tick = -1;
+    }
+
+    DestinationState getState(long pos, Direction side, int flowingCount) {
+        DestinationState state = destinations.computeIfAbsent(pos, p -> new EnumMap<>(Direction.class)).computeIfAbsent(side, s -> new DestinationState());
+        if (flowingCount < state.flowingCount) {
+            //Some items are no longer flowing to the destination, which means there may be room for items that there wasn't room for before
+            state.full = false;
+            state.rejecting.clear();
+        }
+        state.flowingCount = flowingCount;
+        return state;
+    }
+
+    static class DestinationState {
+
+        private final Set<HashedItem> rejecting = new ObjectOpenHashSet<>();
+        @Nullable
+        private InventoryInfo snapshot;
+        private long snapshotFlowingVersion;
+        private boolean unstable;
+        private int flowingCount;
+        boolean full;
+
+        /**
+         * Gets a copy of the snapshot of the destination after the stacks flowing towards it have been simulated, that can be modified by simulations without affecting
+         * later requests.
+         *
+         * @return A copy of the snapshot, or {@code null} if there is no snapshot, or it no longer matches the destination.
+         */
+        @Nullable
+        InventoryInfo getSnapshot(IItemHandler handler, long flowingVersion) {
+            if (snapshot == null) {
+                return null;
+            } else if (snapshotFlowingVersion != flowingVersion) {
+                snapshot = null;
+                return null;
+            } else if (!snapshot.matches(handler)) {
+                snapshot = null;
+                unstable = true;
+                return null;
+            }
+            return snapshot.copy();
+        }
+
+        void setSnapshot(InventoryInfo inventoryInfo, long flowingVersion) {
+            if (!unstable) {
+                snapshot = inventoryInfo.copy();
+                snapshotFlowingVersion = flowingVersion;
+            }
+        }
+
+        boolean isRejecting(HashedItem type) {
+            return rejecting.contains(type);
+        }
+
+        void markRejecting(HashedItem type) {
+            rejecting.add(type);
+        }
+    }
+}
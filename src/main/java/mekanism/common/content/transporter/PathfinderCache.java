@@ -1,47 +1,72 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.LongList;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import java.util.HashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.UUID;
-import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder;
+import mekanism.common.tier.TransporterTier;
+import mekanism.common.util.EnumUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import org.jetbrains.annotations.Nullable;
 
+/**
+ * Cache of the paths that have been found from transporters to destinations in a single inventory network.
+ * <p>
+ * Rather than clearing every cached path whenever the network changes, only the paths that may have been affected by the change are removed. These are the paths that
+ * go through a transporter that was removed or changed, and the paths that a transporter that was added or changed could provide a cheaper alternative to.
+ */
 public class PathfinderCache {
 
-    private PathfinderCache() {
-    }
+    /**
+     * Maximum number of checks to perform when transporters are added before we just clear the entire cache instead.
+     */
+    private static final int MAX_SHORTCUT_CHECKS = 1 << 16;
 
-    private static final Map<UUID, Map<PathData, CachedPath>> cachedPaths = new Object2ObjectOpenHashMap<>();
+    private final Map<PathData, CachedPath> cachedPaths = new Object2ObjectOpenHashMap<>();
+    /**
+     * Cached paths keyed by the positions of the transporters they go through.
+     */
+    private final Long2ObjectMap<Set<PathData>> pathsThrough = new Long2ObjectOpenHashMap<>();
 
-    public static void onChanged(InventoryNetwork... networks) {
-        for (InventoryNetwork network : networks) {
-            cachedPaths.remove(network.getUUID());
-        }
+    public CachedPath addCachedPath(LogisticalTransporterBase start, BlockPos destination, Pathfinder pathfinder) {
+        return addCachedPath(start.getBlockPos(), destination, pathfinder.getSide(), pathfinder.getPath(), pathfinder.getFinalScore());
     }
 
-    public static CachedPath addCachedPath(LogisticalTransporterBase start, BlockPos destination, Pathfinder pathfinder) {
-        CachedPath cachedPath = new CachedPath(pathfinder.getPath(), pathfinder.getFinalScore());
-        PathData data = new PathData(start.getBlockPos(), destination, pathfinder.getSide());
-        cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new HashMap<>()).put(data, cachedPath);
+    /**
+     * @param start       Position of the transporter the path starts at.
+     * @param destination Position of the destination.
+     * @param side        Side of the last transporter that the destination is on.
+     * @param path        Path from the destination back to the start, both inclusive.
+     * @param cost        Cost of the path.
+     */
+    public CachedPath addCachedPath(BlockPos start, BlockPos destination, Direction side, LongList path, double cost) {
+        CachedPath cachedPath = new CachedPath(path, cost);
+        PathData data = new PathData(start, destination, side);
+        CachedPath previous = cachedPaths.put(data, cachedPath);
+        if (previous != null) {
+            unindex(data, previous);
+        }
+        //Note: The first element of the path is the destination rather than a transporter, so we don't index it
+        for (int i = 1, size = path.size(); i < size; i++) {
+            pathsThrough.computeIfAbsent(path.getLong(i), pos -> new ObjectOpenHashSet<>()).add(data);
+        }
         return cachedPath;
     }
 
     @Nullable
-    public static CachedPath getCache(LogisticalTransporterBase start, BlockPos end, Set<Direction> sides) {
+    public CachedPath getCache(BlockPos start, BlockPos end, Set<Direction> sides) {
         CachedPath ret = null;
-        UUID uuid = start.getTransmitterNetwork().getUUID();
-        Map<PathData, CachedPath> pathMap = cachedPaths.get(uuid);
-        if (pathMap != null) {
-            BlockPos startPos = start.getBlockPos();
+        if (!cachedPaths.isEmpty()) {
             for (Direction side : sides) {
-                CachedPath test = pathMap.get(new PathData(startPos, end, side));
+                CachedPath test = cachedPaths.get(new PathData(start, end, side));
                 if (test != null) {
                     if (ret == null || test.cost() < ret.cost()) {
                         ret = test;
@@ -53,18 +78,100 @@ public class PathfinderCache {
     }
 
     @Nullable
-    public static CachedPath getSingleCache(LogisticalTransporterBase start, BlockPos end, Direction side) {
-        UUID uuid = start.getTransmitterNetwork().getUUID();
-        Map<PathData, CachedPath> pathMap = cachedPaths.get(uuid);
-        if (pathMap != null) {
-            BlockPos startPos = start.getBlockPos();
-            return pathMap.get(new PathData(startPos, end, side));
+    public CachedPath getSingleCache(BlockPos start, BlockPos end, Direction side) {
+        if (cachedPaths.isEmpty()) {
+            return null;
+        }
+        return cachedPaths.get(new PathData(start, end, side));
+    }
+
+    /**
+     * Removes any cached paths that go through the given position.
+     */
+    public void transporterRemoved(long pos) {
+        Set<PathData> affected = pathsThrough.remove(pos);
+        if (affected != null) {
+            for (PathData data : affected) {
+                CachedPath path = cachedPaths.remove(data);
+                if (path != null) {
+                    unindex(data, path);
+                }
+            }
         }
-        return null;
     }
 
-    public static void reset() {
+    /**
+     * Removes any cached paths that may have a cheaper alternative going through one of the given positions. As every transporter costs at least the cost of the fastest
+     * tier to travel through, a path that goes through a position can't cost less than the manhattan distance from the start to the position plus the manhattan distance
+     * from the position to the destination, multiplied by that cost. This means that only the paths that are more expensive than that lower bound need to be found again.
+     */
+    public void transportersAdded(LongList positions) {
+        if (cachedPaths.isEmpty() || positions.isEmpty()) {
+            return;
+        } else if ((long) cachedPaths.size() * positions.size() > MAX_SHORTCUT_CHECKS) {
+            //Lots of transporters were added, it is cheaper to just find all the paths again
+            clear();
+            return;
+        }
+        double minHopCost = getMinimumHopCost();
+        List<PathData> removed = new ArrayList<>();
+        for (Map.Entry<PathData, CachedPath> entry : cachedPaths.entrySet()) {
+            PathData data = entry.getKey();
+            double cost = entry.getValue().cost();
+            for (int i = 0, size = positions.size(); i < size; i++) {
+                long pos = positions.getLong(i);
+                if ((manhattanDistance(data.startTransporter(), pos) + manhattanDistance(data.end(), pos)) * minHopCost < cost) {
+                    removed.add(data);
+                    break;
+                }
+            }
+        }
+        for (PathData data : removed) {
+            unindex(data, cachedPaths.remove(data));
+        }
+    }
+
+    /**
+     * Removes any cached paths that may have been affected by the transporter at the given position changing, such as its color or connections changing.
+     */
+    public void transporterChanged(long pos) {
+        transporterRemoved(pos);
+        transportersAdded(LongList.of(pos));
+    }
+
+    /**
+     * Gets the lowest cost any transporter can have to travel through. This is normally the cost of an ultimate transporter, but as the speeds of the tiers are
+     * configurable, a lower tier may be configured to be faster.
+     *
+     * @see mekanism.common.content.network.transmitter.LogisticalTransporterBase#getCost()
+     */
+    private static double getMinimumHopCost() {
+        double minCost = 1;
+        int ultimateSpeed = TransporterTier.ULTIMATE.getSpeed();
+        for (TransporterTier tier : EnumUtils.TRANSPORTER_TIERS) {
+            minCost = Math.min(minCost, ultimateSpeed / (double) tier.getSpeed());
+        }
+        return minCost;
+    }
+
+    public void clear() {
         cachedPaths.clear();
+        pathsThrough.clear();
+    }
+
+    private void unindex(PathData data, CachedPath cachedPath) {
+        LongList path = cachedPath.path();
+        for (int i = 1, size = path.size(); i < size; i++) {
+            long pos = path.getLong(i);
+            Set<PathData> paths = pathsThrough.get(pos);
+            if (paths != null && paths.remove(data) && paths.isEmpty()) {
+                pathsThrough.remove(pos);
+            }
+        }
+    }
+
+    private static int manhattanDistance(BlockPos pos, long other) {
+        return Math.abs(pos.getX() - BlockPos.getX(other)) + Math.abs(pos.getY() - BlockPos.getY(other)) + Math.abs(pos.getZ() - BlockPos.getZ(other));
     }
 
     public record CachedPath(LongList path, double cost) {
@@ -72,4 +179,4 @@ public class PathfinderCache {
 
     private record PathData(BlockPos startTransporter, BlockPos end, Direction endSide) {
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,13 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import mekanism.common.content.transporter.InsertPredictionCache.DestinationState;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.ItemData;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
@@ -16,6 +19,7 @@ import net.minecraft.core.GlobalPos;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.neoforged.neoforge.items.IItemHandler;
+import org.jetbrains.annotations.Nullable;
 
 public class TransporterManager {
 
@@ -24,25 +28,55 @@ public class TransporterManager {
 
     //todo determine if a custom pos record is better storing the long
     private static final Map<GlobalPos, Set<TransporterStack>> flowingStacks = new Object2ObjectOpenHashMap<>();
+    /**
+     * Version of the stacks flowing towards each position, changed whenever a stack starts or stops flowing towards the position. Positions without any flowing stacks
+     * have no version, and versions are never reused, so that two equal versions mean the same stacks are flowing towards the position.
+     */
+    private static final Object2LongMap<GlobalPos> flowingVersions = new Object2LongOpenHashMap<>();
+    private static long lastFlowingVersion;
 
     public static void reset() {
         flowingStacks.clear();
+        flowingVersions.clear();
     }
 
     public static void add(Level world, TransporterStack stack) {
-        flowingStacks.computeIfAbsent(GlobalPos.of(world.dimension(), BlockPos.of(stack.getDest())), k -> new HashSet<>()).add(stack);
+        GlobalPos pos = GlobalPos.of(world.dimension(), BlockPos.of(stack.getDest()));
+        if (flowingStacks.computeIfAbsent(pos, k -> new HashSet<>()).add(stack)) {
+            flowingVersions.put(pos, ++lastFlowingVersion);
+        }
     }
 
     public static void remove(Level world, TransporterStack stack) {
         if (stack.hasPath() && stack.getPathType().hasTarget()) {
             GlobalPos pos = GlobalPos.of(world.dimension(), BlockPos.of(stack.getDest()));
             Set<TransporterStack> transporterStacks = flowingStacks.get(pos);
-            if (transporterStacks != null && transporterStacks.remove(stack) && transporterStacks.isEmpty()) {
-                flowingStacks.remove(pos);
+            if (transporterStacks != null && transporterStacks.remove(stack)) {
+                if (transporterStacks.isEmpty()) {
+                    flowingStacks.remove(pos);
+                    flowingVersions.removeLong(pos);
+                } else {
+                    flowingVersions.put(pos, ++lastFlowingVersion);
+                }
             }
         }
     }
 
+    /**
+     * Gets the number of stacks that are currently flowing towards the given position.
+     */
+    public static int getFlowingCount(GlobalPos position) {
+        Set<TransporterStack> transporterStacks = flowingStacks.get(position);
+        return transporterStacks == null ? 0 : transporterStacks.size();
+    }
+
+    /**
+     * Gets the version of the stacks that are currently flowing towards the given position, or {@code 0} if there are none.
+     */
+    public static long getFlowingVersion(GlobalPos position) {
+        return flowingVersions.getLong(position);
+    }
+
     public static boolean didEmit(ItemStack stack, ItemStack returned) {
         return returned.isEmpty() || returned.getCount() < stack.getCount();
     }
@@ -190,19 +224,55 @@ public class TransporterManager {
      */
     public static TransitResponse getPredictedInsert(GlobalPos position, Direction side, IItemHandler handler, TransitRequest request,
           Map<GlobalPos, Set<TransporterStack>> additionalFlowingStacks) {
-        InventoryInfo inventoryInfo = new InventoryInfo(handler);
-        //Before we see if this item can fit in the destination, we must first check the stacks that are
-        // en-route. Note that we also have to simulate the current inventory after each stack; we'll keep
-        // track of the initial size of the inventory and then simulate each in-flight addition. If any
-        // in-flight stack can't be inserted, then we can fail fast.
-        //Note: that stackSizes for inventoryInfo is updated each time
-        if (!predictFlowing(position, side, handler, inventoryInfo, flowingStacks) || !predictFlowing(position, side, handler, inventoryInfo, additionalFlowingStacks)) {
+        return getPredictedInsert(position, side, handler, request, additionalFlowingStacks, null);
+    }
+
+    /**
+     * Gets the {@link TransitResponse} of what items we expect to be able to get used/inserted into the item handler at a given position, taking into account any already
+     * "in-flight" items that are being transferred to the handler.
+     *
+     * @param position                Position of the target
+     * @param side                    Side of the target we are connecting to
+     * @param handler                 The item handler the target has
+     * @param request                 Transit request
+     * @param additionalFlowingStacks Any additional stacks to treat as flowing and in transit for simulation uses.
+     * @param cache                   Cache of what is known about the target this tick, or {@code null} to not use a cache.
+     *
+     * @return {@link TransitResponse} of expected items to use
+     */
+    public static TransitResponse getPredictedInsert(GlobalPos position, Direction side, IItemHandler handler, TransitRequest request,
+          Map<GlobalPos, Set<TransporterStack>> additionalFlowingStacks, @Nullable InsertPredictionCache cache) {
+        //Note: We can't make use of the cache if there are additional stacks flowing to the target, as they are not known by the cache
+        DestinationState state = cache == null || additionalFlowingStacks.containsKey(position) ? null
+                                                                                                   : cache.getState(position.pos().asLong(), side, getFlowingCount(position));
+        if (state != null && state.full) {
+            //We already know that the in-flight items will fill up the target
             return request.getEmptyResponse();
         }
+        long flowingVersion = state == null ? 0 : getFlowingVersion(position);
+        //Note: The snapshot is only used if the current contents of the target still match it, as they may have been changed by things other than this network
+        InventoryInfo inventoryInfo = state == null ? null : state.getSnapshot(handler, flowingVersion);
+        if (inventoryInfo == null) {
+            inventoryInfo = new InventoryInfo(handler);
+            //Before we see if this item can fit in the destination, we must first check the stacks that are
+            // en-route. Note that we also have to simulate the current inventory after each stack; we'll keep
+            // track of the initial size of the inventory and then simulate each in-flight addition. If any
+            // in-flight stack can't be inserted, then we can fail fast.
+            //Note: that stackSizes for inventoryInfo is updated each time
+            if (!predictFlowing(position, side, handler, inventoryInfo, flowingStacks) || !predictFlowing(position, side, handler, inventoryInfo, additionalFlowingStacks)) {
+                if (state != null) {
+                    state.full = true;
+                }
+                return request.getEmptyResponse();
+            }
+            if (state != null) {
+                state.setSnapshot(inventoryInfo, flowingVersion);
+            }
+        }
 
         //Now for each of the items in the request, simulate the insert, using the state from all the in-flight
         // items to ensure we have an accurate model of what will happen in the future.
-        return getPredictedInsert(inventoryInfo, handler, request);
+        return getPredictedInsert(inventoryInfo, handler, request, state);
     }
 
     private static boolean predictFlowing(GlobalPos position, Direction side, IItemHandler handler, InventoryInfo inventoryInfo,
@@ -245,13 +315,18 @@ public class TransporterManager {
      * @param inventoryInfo The current state of handler's target inventory
      * @param handler       The item handler the target has
      * @param request       Transit request
+     * @param state         Cached state of the target, or {@code null} if the target's state isn't being cached.
      *
      * @return {@link TransitResponse} of expected items to use
      */
-    private static TransitResponse getPredictedInsert(InventoryInfo inventoryInfo, IItemHandler handler, TransitRequest request) {
+    private static TransitResponse getPredictedInsert(InventoryInfo inventoryInfo, IItemHandler handler, TransitRequest request, @Nullable DestinationState state) {
         //For each of the items in the request, simulate the insert. We try each stack in the
         // request; it might be possible to not send the first item, but the second could work, etc.
         for (ItemData data : request) {
+            if (state != null && state.isRejecting(data.getItemType())) {
+                //We already know there is no room for this type of item
+                continue;
+            }
             //Create a sending ItemStack with the hashed item type and total item count within the request
             ItemStack stack = data.getStack();
             int numToSend = data.getTotalCount();
@@ -259,6 +334,9 @@ public class TransporterManager {
             int numLeftOver = simulateInsert(handler, inventoryInfo, stack, numToSend, false);
             //If leftovers is unchanged from the simulation, there's no room at all; move on to the next stack
             if (numLeftOver == numToSend) {
+                if (state != null) {
+                    state.markRejecting(data.getItemType());
+                }
                 continue;
             }
             //Otherwise, construct the appropriately size stack to send and return that
@@ -277,7 +355,7 @@ public class TransporterManager {
      * @return {@link TransitResponse} of expected items to use
      */
     public static TransitResponse getPredictedInsert(IItemHandler handler, TransitRequest request) {
-        return getPredictedInsert(new InventoryInfo(handler), handler, request);
+        return getPredictedInsert(new InventoryInfo(handler), handler, request, null);
     }
 
     /**
@@ -285,9 +363,10 @@ public class TransporterManager {
      * has to call it anyway to get the stack size). This cache allows potentially expensive {@link IItemHandler#getStackInSlot(int)} implementations to only have to be
      * called once instead of potentially many times as well as allowing for lazily caching slot limits.
      */
-    private static class InventoryInfo {
+    static class InventoryInfo {
 
         private final ItemStack[] inventory;
+        private final ItemStack[] actualInventory;
         private final int[] stackSizes;
         private final int[] actualStackSizes;
         private final int[] slotLimits;
@@ -295,7 +374,7 @@ public class TransporterManager {
 
         public InventoryInfo(IItemHandler handler) {
             slots = handler.getSlots();
-            inventory = new ItemStack[slots];
+            actualInventory = new ItemStack[slots];
             stackSizes = new int[slots];
             actualStackSizes = new int[slots];
             //Slot limits are lazily initialized
@@ -303,9 +382,45 @@ public class TransporterManager {
             Arrays.fill(slotLimits, -1);
             for (int i = 0; i < slots; i++) {
                 ItemStack stack = handler.getStackInSlot(i);
-                inventory[i] = stack;
+                actualInventory[i] = stack;
                 actualStackSizes[i] = stackSizes[i] = stack.getCount();
             }
+            inventory = actualInventory.clone();
+        }
+
+        private InventoryInfo(InventoryInfo other) {
+            slots = other.slots;
+            inventory = other.inventory.clone();
+            stackSizes = other.stackSizes.clone();
+            //Note: The actual contents are never modified, and the slot limits don't change, so we can share them between copies
+            actualInventory = other.actualInventory;
+            actualStackSizes = other.actualStackSizes;
+            slotLimits = other.slotLimits;
+        }
+
+        /**
+         * Creates a copy of this inventory info that can be simulated into without affecting this inventory info.
+         */
+        public InventoryInfo copy() {
+            return new InventoryInfo(this);
+        }
+
+        /**
+         * Checks if the contents of the handler are still the contents this inventory info was created from.
+         *
+         * @implNote Stacks are compared by instance and size, so handlers that return copies from {@link IItemHandler#getStackInSlot(int)} never match.
+         */
+        public boolean matches(IItemHandler handler) {
+            if (handler.getSlots() != slots) {
+                return false;
+            }
+            for (int i = 0; i < slots; i++) {
+                ItemStack stack = handler.getStackInSlot(i);
+                if (stack != actualInventory[i] || stack.getCount() != actualStackSizes[i]) {
+                    return false;
+                }
+            }
+            return true;
         }
 
         public int getSlotLimit(IItemHandler handler, int slot) {
@@ -316,4 +431,4 @@ public class TransporterManager {
             return limit;
         }
     }
-}
\ No newline at end of file
+}
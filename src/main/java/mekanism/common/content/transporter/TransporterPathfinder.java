@@ -1,15 +1,10 @@
 package mekanism.common.content.transporter;
 
-import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
-import it.unimi.dsi.fastutil.longs.Long2LongMap;
-import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongList;
 import it.unimi.dsi.fastutil.longs.LongLists;
-import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
-import it.unimi.dsi.fastutil.longs.LongSet;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
@@ -21,6 +16,7 @@ import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.InventoryNetwork.AcceptorData;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.PathfinderCache.CachedPath;
+import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder.DestChecker;
 import mekanism.common.content.transporter.TransporterStack.Path;
 import mekanism.common.lib.SidedBlockPos;
 import mekanism.common.lib.inventory.IAdvancedTransportEjector;
@@ -42,6 +38,8 @@ import org.jetbrains.annotations.Nullable;
 
 public final class TransporterPathfinder {
 
+    private static final DestChecker INSERT_CHECKER = (level, pos, tile, s, resp, side) -> TransporterUtils.canInsert(level, pos, tile, s.color, resp, side, false);
+
     private TransporterPathfinder() {
     }
 
@@ -54,11 +52,33 @@ public final class TransporterPathfinder {
         Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
         List<AcceptorData> acceptors = network.calculateAcceptors(request, stack, chunkMap, additionalFlowingStacks, start);
         List<Destination> paths = new ArrayList<>();
+        List<AcceptorData> uncached = new ArrayList<>();
+        PathfinderCache pathCache = network.getPathCache();
         for (AcceptorData data : acceptors) {
-            Destination path = getPath(network, data, start, stack, min, chunkMap);
+            if (data.getResponse().getSendingAmount() >= min) {
+                CachedPath test = pathCache.getCache(start.getBlockPos(), data.getLocation(), data.getSides());
+                if (test != null && checkPath(network, test.path(), stack)) {
+                    paths.add(new Destination(test, data.getResponse()));
+                } else {
+                    uncached.add(data);
+                }
+            }
+        }
+        if (uncached.size() == 1) {
+            Destination path = findPath(network, uncached.getFirst(), start, stack, chunkMap);
             if (path != null) {
                 paths.add(path);
             }
+        } else if (!uncached.isEmpty()) {
+            //If there are multiple destinations we don't have a path to, rather than searching for each one individually, find the paths to all of them at once
+            NetworkExplorer explorer = new NetworkExplorer(network, start, stack, chunkMap);
+            explorer.explore(uncached);
+            for (AcceptorData data : uncached) {
+                Destination path = explorer.getDestination(data);
+                if (path != null) {
+                    paths.add(path);
+                }
+            }
         }
         Collections.sort(paths);
         return paths;
@@ -79,21 +99,14 @@ public final class TransporterPathfinder {
     }
 
     @Nullable
-    private static Destination getPath(InventoryNetwork network, AcceptorData data, LogisticalTransporterBase start, TransporterStack stack, int min,
+    private static Destination findPath(InventoryNetwork network, AcceptorData data, LogisticalTransporterBase start, TransporterStack stack,
           Long2ObjectMap<ChunkAccess> chunkMap) {
         TransitResponse response = data.getResponse();
-        if (response.getSendingAmount() >= min) {
-            BlockPos dest = data.getLocation();
-            CachedPath test = PathfinderCache.getCache(start, dest, data.getSides());
-            if (test != null && checkPath(network, test.path(), stack)) {
-                return new Destination(test, response);
-            }
-            Pathfinder p = new Pathfinder(network, start.getLevel(), dest, start.getBlockPos(), stack, response.getStack(),
-                  (level, pos, tile, s, resp, side) -> TransporterUtils.canInsert(level, pos, tile, s.color, resp, side, false));
-            p.find(chunkMap);
-            if (p.hasPath()) {
-                return new Destination(PathfinderCache.addCachedPath(start, dest, p), response);
-            }
+        BlockPos dest = data.getLocation();
+        Pathfinder p = new Pathfinder(network, start.getLevel(), dest, start.getBlockPos(), stack, response.getStack(), INSERT_CHECKER);
+        p.find(chunkMap);
+        if (p.hasPath()) {
+            return new Destination(network.getPathCache().addCachedPath(start, dest, p), response);
         }
         return null;
     }
@@ -360,13 +373,8 @@ public final class TransporterPathfinder {
         }
     }
 
-    public static class Pathfinder {
+    public static class Pathfinder extends GridPathfinder<LogisticalTransporterBase> {
 
-        private final LongSet openSet = new LongOpenHashSet();
-        private final LongSet closedSet = new LongOpenHashSet();
-        private final Long2LongMap navMap = new Long2LongOpenHashMap();
-        private final Long2DoubleOpenHashMap gScore = new Long2DoubleOpenHashMap();
-        private final Long2DoubleOpenHashMap fScore = new Long2DoubleOpenHashMap();
         private final InventoryNetwork network;
         private final BlockPos start;
         private final BlockPos finalNode;
@@ -375,6 +383,7 @@ public final class TransporterPathfinder {
         private final ItemStack data;
         private final DestChecker destChecker;
         private final Level world;
+        private Long2ObjectMap<ChunkAccess> chunkMap;
         private double finalScore;
         private Direction side;
         private LongList results = new LongArrayList();
@@ -391,81 +400,24 @@ public final class TransporterPathfinder {
         }
 
         public boolean find(Long2ObjectMap<ChunkAccess> chunkMap) {
-            openSet.add(start.asLong());
-            gScore.put(start.asLong(), 0D);
-            //Note: This is gScore + estimate, but given our gScore starts at zero we just skip getting it back out
-            double totalDistance = WorldUtils.distanceBetween(start, finalNode);
-            fScore.put(start.asLong(), totalDistance);
-            boolean hasValidDirection = false;
-            LogisticalTransporterBase startTransmitter = network.getTransmitter(start);
-            BlockPos.MutableBlockPos neighbor = new BlockPos.MutableBlockPos();
-            for (Direction direction : EnumUtils.DIRECTIONS) {
-                neighbor.setWithOffset(start, direction);
-                LogisticalTransporterBase neighborTransmitter = network.getTransmitter(neighbor);
-                if (transportStack.canInsertToTransporter(neighborTransmitter, direction, startTransmitter)) {
-                    //If we can insert into the transporter, mark that we have a valid path we can take
-                    hasValidDirection = true;
-                    break;
-                } else if (isValidDestination(start, startTransmitter, direction, neighbor, chunkMap)) {
-                    //Otherwise, if we are neighboring our destination, and we can emit to the location, or it is going back
-                    // to its home location and can connect to it just exit early and return that this is the best path
-                    return true;
-                }
-            }
-            if (!hasValidDirection) {
-                //If there is no valid direction that the stack can go just exit
-                return false;
-            }
-            //If the blocks are very close together, allow for path finding up to four blocks away
-            double maxSearchDistance = Math.max(2 * totalDistance, 4);
-            while (!openSet.isEmpty()) {
-                long currentNodeLong = Long.MAX_VALUE;
-                double lowestFScore = 0;
-                for (long node : openSet) {
-                    if (currentNodeLong == Long.MAX_VALUE || fScore.get(node) < lowestFScore) {
-                        currentNodeLong = node;
-                        lowestFScore = fScore.get(node);
-                    }
-                }
-                if (currentNodeLong == Long.MAX_VALUE) {
-                    //If we have no current node, then exit
-                    break;
-                }
-                BlockPos currentNode = BlockPos.of(currentNodeLong);
-                //Remove the current node from unchecked and add it to checked
-                openSet.remove(currentNodeLong);
-                closedSet.add(currentNodeLong);
-                if (WorldUtils.distanceBetween(start, currentNode) > maxSearchDistance) {
-                    //If it is too far away for us to keep considering then continue on and see if we have another path that may be valid
-                    // Even if it currently has a bit higher of a score
-                    continue;
-                }
-                LogisticalTransporterBase currentNodeTransmitter = network.getTransmitter(currentNode);
-                double currentScore = gScore.get(currentNodeLong);
-                for (Direction direction : EnumUtils.DIRECTIONS) {
-                    neighbor.setWithOffset(currentNode, direction);
-                    long neighborLong = neighbor.asLong();
-                    LogisticalTransporterBase neighborTransmitter = network.getTransmitter(neighbor);
-                    if (transportStack.canInsertToTransporter(neighborTransmitter, direction, currentNodeTransmitter)) {
-                        //If the neighbor is a transporter and the stack is valid for it
-                        double tentativeG = currentScore + neighborTransmitter.getCost();
-                        if (closedSet.contains(neighborLong) && tentativeG >= gScore.get(neighborLong)) {
-                            continue;
-                        }
-                        if (!openSet.contains(neighborLong) || tentativeG < gScore.get(neighborLong)) {
-                            navMap.put(neighborLong, currentNodeLong);
-                            gScore.put(neighborLong, tentativeG);
-                            //Put the gScore plus estimate in the final score
-                            fScore.put(neighborLong, tentativeG + WorldUtils.distanceBetween(neighbor, finalNode));
-                            openSet.add(neighborLong);
-                        }
-                    } else if (isValidDestination(currentNode, currentNodeTransmitter, direction, neighbor, chunkMap)) {
-                        //Else if the neighbor is the destination, and we can send to it
-                        return true;
-                    }
-                }
-            }
-            return false;
+            this.chunkMap = chunkMap;
+            return search(start, finalNode);
+        }
+
+        @Nullable
+        @Override
+        protected LogisticalTransporterBase getNode(BlockPos pos) {
+            return network.getTransmitter(pos);
+        }
+
+        @Override
+        protected boolean canTraverse(@Nullable LogisticalTransporterBase to, Direction direction, @Nullable LogisticalTransporterBase from) {
+            return transportStack.canInsertToTransporter(to, direction, from);
+        }
+
+        @Override
+        protected double getCost(@NotNull LogisticalTransporterBase node) {
+            return node.getCost();
         }
 
         /**
@@ -473,8 +425,8 @@ public final class TransporterPathfinder {
          *
          * @return True if we found a valid connection to the destination and can insert into it, false otherwise
          */
-        private boolean isValidDestination(BlockPos start, @Nullable LogisticalTransporterBase startTransporter, Direction direction, BlockPos neighbor,
-              Long2ObjectMap<ChunkAccess> chunkMap) {
+        @Override
+        protected boolean isDestination(BlockPos start, @Nullable LogisticalTransporterBase startTransporter, Direction direction, BlockPos neighbor) {
             //Check to make sure that it is the destination
             if (startTransporter != null && neighbor.equals(finalNode)) {
                 BlockEntity neighborTile = WorldUtils.getTileEntity(world, chunkMap, neighbor);
@@ -485,8 +437,8 @@ public final class TransporterPathfinder {
                         // we can connect to it (normal, push, or pull (should always be pull as otherwise canEmitTo would have been true)),
                         // then this is the proper path, so we mark it as so and return true indicating that we found and marked the ideal path
                         side = direction;
-                        results = reconstructPath(navMap, start.asLong());
-                        finalScore = gScore.get(start.asLong()) + WorldUtils.distanceBetween(start, finalNode);
+                        results = reconstructPath(start.asLong());
+                        finalScore = getGScore(start.asLong()) + WorldUtils.distanceBetween(start, finalNode);
                         return true;
                     }
                 }
@@ -494,15 +446,6 @@ public final class TransporterPathfinder {
             return false;
         }
 
-        private LongList reconstructPath(Long2LongMap navMap, long nextNode) {
-            LongList path = new LongArrayList();
-            do {
-                path.add(nextNode);
-                nextNode = navMap.getOrDefault(nextNode, Long.MAX_VALUE);
-            } while (nextNode != Long.MAX_VALUE);
-            return path;
-        }
-
         public boolean hasPath() {
             return !results.isEmpty();
         }
@@ -529,4 +472,122 @@ public final class TransporterPathfinder {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Finds the paths from a transporter to multiple destinations with a single search of the network.
+     */
+    public static class NetworkExplorer extends GridPathfinder<LogisticalTransporterBase> {
+
+        private final InventoryNetwork network;
+        private final LogisticalTransporterBase start;
+        private final BlockPos startPos;
+        private final TransporterStack transportStack;
+        private final Long2ObjectMap<ChunkAccess> chunkMap;
+
+        public NetworkExplorer(InventoryNetwork network, LogisticalTransporterBase start, TransporterStack stack, Long2ObjectMap<ChunkAccess> chunkMap) {
+            this.network = network;
+            this.start = start;
+            this.startPos = start.getBlockPos();
+            this.transportStack = stack;
+            this.chunkMap = chunkMap;
+        }
+
+        /**
+         * Explores the network far enough that a path to any of the given destinations that {@link Pathfinder} would be able to find will be found.
+         */
+        public void explore(List<AcceptorData> destinations) {
+            double maxSearchDistance = 0;
+            for (AcceptorData data : destinations) {
+                maxSearchDistance = Math.max(maxSearchDistance, getMaxSearchDistance(data.getLocation()));
+            }
+            explore(startPos, maxSearchDistance);
+        }
+
+        /**
+         * Gets the cheapest path that was found to the given destination, and adds it to the network's path cache.
+         *
+         * @return The path to the destination, or {@code null} if there is no valid path.
+         */
+        @Nullable
+        public Destination getDestination(AcceptorData data) {
+            PathEnd end = findEnd(data);
+            if (end == null) {
+                return null;
+            } else if (!isInRange(end.transporter(), data.getLocation())) {
+                //The cheapest path to the destination goes further from the start than the pathfinder would search, so there may be a more expensive path that
+                // stays within range which the pathfinder would find instead. Fall back to searching for it directly to ensure the path matches
+                return findPath(network, data, start, transportStack, chunkMap);
+            }
+            LongList results = reconstructPath(end.transporter());
+            LongList path = new LongArrayList(results.size() + 1);
+            path.add(data.getLocation().asLong());
+            path.addAll(results);
+            return new Destination(network.getPathCache().addCachedPath(startPos, data.getLocation(), end.side(), path, end.cost()), data.getResponse());
+        }
+
+        @Nullable
+        private PathEnd findEnd(AcceptorData data) {
+            BlockPos dest = data.getLocation();
+            long destLong = dest.asLong();
+            Level world = start.getLevel();
+            BlockEntity tile = WorldUtils.getTileEntity(world, chunkMap, dest);
+            ItemStack stack = data.getResponse().getStack();
+            PathEnd best = null;
+            for (Direction side : data.getSides()) {
+                long transporterPos = WorldUtils.relativePos(destLong, side.getOpposite());
+                if (hasReached(transporterPos)) {
+                    //Note: Like in the pathfinder, the cost of the path is the cost to get to the last transporter, plus the distance to the destination
+                    double cost = getGScore(transporterPos) + 1;
+                    if (best == null || cost < best.cost()) {
+                        LogisticalTransporterBase transporter = network.getTransmitter(transporterPos);
+                        if (transporter != null && INSERT_CHECKER.isValid(world, dest, tile, transportStack, stack, side) &&
+                            (transporter.canEmitTo(side) || (destLong == transportStack.homeLocation && transporter.canConnect(side)))) {
+                            best = new PathEnd(transporterPos, side, cost);
+                        }
+                    }
+                }
+            }
+            return best;
+        }
+
+        private boolean isInRange(long transporter, BlockPos dest) {
+            double maxSearchDistance = getMaxSearchDistance(dest);
+            LongList path = reconstructPath(transporter);
+            for (int i = 0, size = path.size(); i < size; i++) {
+                if (WorldUtils.distanceBetween(startPos, BlockPos.of(path.getLong(i))) > maxSearchDistance) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private double getMaxSearchDistance(BlockPos dest) {
+            //Note: This matches the distance the pathfinder will search for a path to the destination
+            return Math.max(2 * WorldUtils.distanceBetween(startPos, dest), 4);
+        }
+
+        @Nullable
+        @Override
+        protected LogisticalTransporterBase getNode(BlockPos pos) {
+            return network.getTransmitter(pos);
+        }
+
+        @Override
+        protected boolean canTraverse(@Nullable LogisticalTransporterBase to, Direction direction, @Nullable LogisticalTransporterBase from) {
+            return transportStack.canInsertToTransporter(to, direction, from);
+        }
+
+        @Override
+        protected double getCost(@NotNull LogisticalTransporterBase node) {
+            return node.getCost();
+        }
+
+        @Override
+        protected boolean isDestination(BlockPos pos, @Nullable LogisticalTransporterBase node, Direction direction, BlockPos neighbor) {
+            //Note: Exploring doesn't have a single destination, instead paths to the destinations are looked up after the network has been explored
+            return false;
+        }
+
+        private record PathEnd(long transporter, Direction side, double cost) {
+        }
+    }
+}
@@ -5,7 +5,6 @@ import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongList;
 import java.util.Collections;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.function.IntFunction;
 import mekanism.api.SerializationConstants;
@@ -17,48 +16,36 @@ import mekanism.common.content.transporter.TransporterPathfinder.IdlePathData;
 import mekanism.common.lib.inventory.IAdvancedTransportEjector;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.NBTUtils;
 import mekanism.common.util.WorldUtils;
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.GlobalPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
-import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.util.ByIdMap;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.neoforged.neoforge.network.codec.NeoForgeStreamCodecs;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class TransporterStack {
 
-    //Make sure to call updateForPos before calling this method
-    public static StreamCodec<RegistryFriendlyByteBuf, TransporterStack> STREAM_CODEC = NeoForgeStreamCodecs.composite(
-          EnumColor.OPTIONAL_STREAM_CODEC, stack -> Optional.ofNullable(stack.color),
-          ByteBufCodecs.VAR_INT, stack -> stack.progress,
-          ByteBufCodecs.VAR_LONG, stack -> stack.originalLocation,
-          Path.STREAM_CODEC, TransporterStack::getPathType,
-          ByteBufCodecs.optional(ByteBufCodecs.VAR_LONG), stack -> stack.clientNext == Long.MAX_VALUE ? Optional.empty() : Optional.of(stack.clientNext),
-          ByteBufCodecs.optional(ByteBufCodecs.VAR_LONG), stack -> stack.clientPrev == Long.MAX_VALUE ? Optional.empty() : Optional.of(stack.clientPrev),
-          ItemStack.OPTIONAL_STREAM_CODEC, stack -> stack.itemStack,
-          (color, progress, originalLocation, pathType, clientNext, clientPrev, itemStack) -> {
-              TransporterStack stack = new TransporterStack();
-              stack.color = color.orElse(null);
-              stack.progress = progress == 0 ? 5 : progress;
-              stack.originalLocation = originalLocation;
-              stack.pathType = pathType;
-              stack.clientNext = clientNext.orElse(Long.MAX_VALUE);
-              stack.clientPrev = clientPrev.orElse(Long.MAX_VALUE);
-              stack.itemStack = itemStack;
-              return stack;
-          }
-    );
+    /**
+     * Used by {@link #writeCompact(FriendlyByteBuf, long)} to represent there being no next or previous position.
+     */
+    private static final int NO_NEIGHBOR = 6;
+    /**
+     * Used by {@link #writeCompact(FriendlyByteBuf, long)} to represent the next or previous position not being adjacent to the transporter.
+     */
+    private static final int FAR_NEIGHBOR = 7;
 
     public ItemStack itemStack = ItemStack.EMPTY;
 
@@ -80,6 +67,8 @@ public class TransporterStack {
     @Nullable
     private Path pathType;
     private LongList pathToTarget = new LongArrayList();
+    //Index in the path of the last position we looked up, as stacks move along their path one position at a time
+    private int lastPathIndex = -1;
 
     public static TransporterStack readFromNBT(HolderLookup.Provider provider, CompoundTag nbtTags) {
         TransporterStack stack = new TransporterStack();
@@ -181,6 +170,7 @@ public class TransporterStack {
             TransporterManager.remove(world, this);
         }
         pathToTarget = path;
+        lastPathIndex = -1;
         pathType = type;
         if (updateFlowing && pathType.hasTarget()) {
             //Only update the actual flowing stacks if we want to modify more than our current stack
@@ -196,6 +186,27 @@ public class TransporterStack {
         return pathToTarget;
     }
 
+    /**
+     * Gets the index of the given position in this stack's path. The path is ordered from the destination back to the start, so the index is the number of positions
+     * left to travel through.
+     *
+     * @return The index of the position, or {@code -1} if the position is not part of the path.
+     *
+     * @implNote As stacks move along their path one position at a time, this checks the last looked up position and the one after it before falling back to searching
+     * the entire path.
+     */
+    public int getPathIndex(long pos) {
+        int index = lastPathIndex;
+        if (index >= 0 && index < pathToTarget.size()) {
+            if (pathToTarget.getLong(index) == pos) {
+                return index;
+            } else if (index > 0 && pathToTarget.getLong(index - 1) == pos) {
+                return lastPathIndex = index - 1;
+            }
+        }
+        return lastPathIndex = pathToTarget.indexOf(pos);
+    }
+
     public Path getPathType() {
         return pathType == null ? Path.NONE : pathType;
     }
@@ -269,12 +280,74 @@ public class TransporterStack {
         return this;
     }
 
+    /**
+     * Writes the state of this stack that the client needs to render it in the transporter at the given position. The next and previous positions are nearly always
+     * adjacent to the transporter so are written as a direction, and the original location is not written as it is only used on the server.
+     *
+     * @implNote {@link #updateForPos(long)} is expected to have been called for the given position. The type of the item is not written, so that callers can write
+     * each type once and share it between stacks of the same item.
+     */
+    public void writeCompact(FriendlyByteBuf buffer, long pos) {
+        buffer.writeVarInt(getPathType().ordinal() | (color == null ? 0 : color.ordinal() + 1) << 2);
+        buffer.writeVarInt(progress);
+        buffer.writeVarInt(itemStack.getCount());
+        int next = getNeighbor(pos, clientNext);
+        int prev = getNeighbor(pos, clientPrev);
+        buffer.writeByte(next | prev << 3);
+        if (next == FAR_NEIGHBOR) {
+            buffer.writeVarLong(clientNext);
+        }
+        if (prev == FAR_NEIGHBOR) {
+            buffer.writeVarLong(clientPrev);
+        }
+    }
+
+    /**
+     * Reads a stack that was written by {@link #writeCompact(FriendlyByteBuf, long)}.
+     *
+     * @param type Stack representing the type of the item, the count of it is ignored.
+     */
+    public static TransporterStack readCompact(FriendlyByteBuf buffer, long pos, ItemStack type) {
+        TransporterStack stack = new TransporterStack();
+        int header = buffer.readVarInt();
+        stack.pathType = Path.BY_ID.apply(header & 3);
+        int color = header >> 2;
+        stack.color = color == 0 ? null : EnumColor.BY_ID.apply(color - 1);
+        int progress = buffer.readVarInt();
+        stack.progress = progress == 0 ? 5 : progress;
+        stack.itemStack = type.copyWithCount(buffer.readVarInt());
+        int neighbors = buffer.readUnsignedByte();
+        stack.clientNext = readNeighbor(buffer, pos, neighbors & 7);
+        stack.clientPrev = readNeighbor(buffer, pos, neighbors >> 3);
+        return stack;
+    }
+
+    private static int getNeighbor(long pos, long neighbor) {
+        if (neighbor == Long.MAX_VALUE) {
+            return NO_NEIGHBOR;
+        }
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            if (BlockPos.offset(pos, side) == neighbor) {
+                return side.ordinal();
+            }
+        }
+        return FAR_NEIGHBOR;
+    }
+
+    private static long readNeighbor(FriendlyByteBuf buffer, long pos, int neighbor) {
+        return switch (neighbor) {
+            case NO_NEIGHBOR -> Long.MAX_VALUE;
+            case FAR_NEIGHBOR -> buffer.readVarLong();
+            default -> BlockPos.offset(pos, EnumUtils.DIRECTIONS[neighbor]);
+        };
+    }
+
     public long getNext(LogisticalTransporterBase transporter) {
         return transporter.isRemote() ? clientNext : getNext(transporter.getWorldPositionLong());
     }
 
     private long getNext(long pos) {
-        int index = pathToTarget.indexOf(pos) - 1;
+        int index = getPathIndex(pos) - 1;
         if (index < 0) {
             return Long.MAX_VALUE;
         }
@@ -286,7 +359,7 @@ public class TransporterStack {
     }
 
     private long getPrev(long pos) {
-        int index = pathToTarget.indexOf(pos) + 1;
+        int index = getPathIndex(pos) + 1;
         if (index < pathToTarget.size()) {
             return pathToTarget.getLong(index);
         }
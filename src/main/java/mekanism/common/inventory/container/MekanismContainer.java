@@ -12,6 +12,7 @@ import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.api.chemical.ChemicalStack;
 import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.inventory.container.slot.ArmorSlot;
 import mekanism.common.inventory.container.slot.HotBarSlot;
 import mekanism.common.inventory.container.slot.IHasExtraData;
@@ -77,6 +78,10 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
     protected final List<OffhandSlot> offhandSlots = new ArrayList<>();
     private final List<ISyncableData> trackedData = new ArrayList<>();
     private final Map<Object, List<ISyncableData>> specificTrackedData = new Object2ObjectOpenHashMap<>();
+    /**
+     * Game time at which we last checked the tracked data for changes, or {@code -1} if we haven't checked it yet.
+     */
+    private long lastSyncTime = -1;
     /**
      * Keeps track of which window the player has open. Only used on the client, so doesn't need to keep track of other players.
      *
@@ -638,23 +643,41 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
         //Note: We don't bother firing data changed listeners as we have no use for them,
         // and if someone wants to attach one to our containers they can explain what use
         // they need it for before we add a bunch of extra logic to handle them
-        if (inv.player instanceof ServerPlayer player) {
+        //Note: We only check the tracked data for changes at the configured interval, as the tracked data compares against the last value it synced,
+        // any changes that happen in between will be combined into the next update. We base this on the game time rather than on how often this is
+        // called, as vanilla also broadcasts changes when handling clicks and other packets from the player
+        if (inv.player instanceof ServerPlayer player && shouldSyncTrackedData(player.level().getGameTime())) {
             //Only check tracked data for changes if we actually have any listeners
-            List<PropertyData> dirtyData = new ArrayList<>();
+            List<PropertyData> dirtyData = null;
             RegistryAccess registryAccess = player.level().registryAccess();
             for (short i = 0; i < trackedData.size(); i++) {
                 ISyncableData data = trackedData.get(i);
                 DirtyType dirtyType = data.isDirty();
                 if (dirtyType != DirtyType.CLEAN) {
+                    if (dirtyData == null) {
+                        //Lazily initialize the list so that we don't have to create it when nothing has changed
+                        dirtyData = new ArrayList<>();
+                    }
                     dirtyData.add(data.getPropertyData(registryAccess, i, dirtyType));
                 }
             }
-            if (!dirtyData.isEmpty()) {
+            if (dirtyData != null) {
                 PacketDistributor.sendToPlayer(player, new PacketUpdateContainer((short) containerId, dirtyData));
             }
         }
     }
 
+    private boolean shouldSyncTrackedData(long gameTime) {
+        int interval = MekanismConfig.general.containerSyncInterval.get();
+        //Note: When syncing every tick we check for changes every time changes are broadcast, the same as vanilla does for its data slots.
+        // We also sync if the game time went backwards, so that we don't stop syncing entirely if it somehow gets changed
+        if (interval <= 1 || lastSyncTime == -1 || gameTime < lastSyncTime || gameTime - lastSyncTime >= interval) {
+            lastSyncTime = gameTime;
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public void sendAllDataToRemote() {
         super.sendAllDataToRemote();
@@ -1,6 +1,10 @@
 package mekanism.common.inventory.container;
 
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -8,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
 import mekanism.api.Action;
@@ -64,6 +69,11 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     public static final int SLOTS_X_MIN = 8, SLOTS_X_MAX = 16, SLOTS_Y_MIN = 2, SLOTS_Y_MAX = 48;
     public static final int SLOTS_START_Y = 43;
     private static final int DOUBLE_CLICK_TRANSFER_DURATION = SharedConstants.TICKS_PER_SECOND;
+    /**
+     * When an update changes more than one in this many of the item types we know about, we sort the lists again instead of moving each changed type to where it
+     * belongs, as at that point sorting is cheaper.
+     */
+    private static final int INCREMENTAL_UPDATE_RATIO = 8;
 
     public static int getSlotsYMax() {
         int maxY = Mth.ceil(Minecraft.getInstance().getWindow().getGuiScaledHeight() * 0.05 - 8) + 1;
@@ -71,6 +81,8 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     }
 
     protected final Map<UUIDAwareHashedItem, ItemSlotData> cachedInventory;
+    @Nullable
+    private Int2ObjectMap<ItemSlotData> slotsById;
     protected final IQIOCraftingWindowHolder craftingWindowHolder;
     protected final List<IScrollableSlot> searchList;
     protected final List<IScrollableSlot> itemList;
@@ -82,6 +94,16 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     private ListSortType sortType;
     private SortDirection sortDirection;
     protected String searchQuery;
+    /**
+     * Parsed version of {@link #searchQuery}, lazily initialized so that we only have to parse the query when it changes.
+     */
+    @Nullable
+    private ISearchQuery cachedQuery;
+    /**
+     * Slots that are in the {@link #searchList}, so that we can quickly tell if a slot that changed needs to be moved in or removed from the search results.
+     */
+    @Nullable
+    private Set<IScrollableSlot> searchMatches;
 
     private int doubleClickTransferTicks = 0;
     private int lastSlot = -1;
@@ -100,7 +122,7 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
 
         //If we are on the client, so we likely have items from the server, make sure we sort it
         if (remote && craftingWindowHolder != null) {//Crafting window holder should never be null here, but if there was an error we handle it
-            updateSort();
+            updateSort(true);
         }
     }
 
@@ -351,60 +373,182 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         return Optional.empty();
     }
 
-    public void handleUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
+    /**
+     * @param added   Types that the server didn't know we knew about along with their current count.
+     * @param changed Change in count of types we know about, keyed by the id of the type.
+     * @param removed Ids of types we know about that are no longer stored.
+     */
+    public void handleUpdate(List<ItemSlotData> added, Int2LongMap changed, IntList removed, long countCapacity, int typeCapacity) {
         cachedCountCapacity = countCapacity;
         cachedTypeCapacity = typeCapacity;
-        if (itemMap.isEmpty()) {
+        if (added.isEmpty() && changed.isEmpty() && removed.isEmpty()) {
             //No items need updating, we just changed the counts/capacities, in general this should never be the case, but in case it is
             // just short circuit a lot of logic
             return;
         }
-        boolean needsSort = sortType.usesCount();
-        for (Object2LongMap.Entry<UUIDAwareHashedItem> entry : itemMap.object2LongEntrySet()) {
-            UUIDAwareHashedItem itemKey = entry.getKey();
-            long value = entry.getLongValue();
+        boolean sortsByCount = sortType.usesCount();
+        //Note: We only need to bother resorting the lists and recalculating the sorted searches if an item was added or removed
+        // or if the sort method we have selected is affected at some level by the stored count. When only a few types changed
+        // we instead move the ones that changed to where they belong in the sorted lists
+        boolean resort = (added.size() + changed.size() + removed.size()) * INCREMENTAL_UPDATE_RATIO > itemList.size();
+        boolean needsSort = resort && sortsByCount;
+        for (ItemSlotData addedData : added) {
+            UUIDAwareHashedItem itemKey = addedData.item();
+            long value = addedData.count();
             if (value == 0) {
-                ItemSlotData oldData = cachedInventory.remove(itemKey);
-                if (oldData != null) {
-                    //If we did in fact have old data stored, remove the item from the stored total count
-                    totalItems -= oldData.count();
-                    // and remove the item from the list of items we are tracking
-                    // Note: Implementation detail is that we use a ReferenceArrayList in BulkQIOData#fromPacket to ensure that when removing
-                    // we only need to do reference equality instead of object equality
-                    //TODO: Can we somehow make removing more efficient by taking advantage of the fact that itemList is sorted?
-                    itemList.remove(oldData);
-                    //Mark that we have some items that changed and it isn't just counts that changed
-                    needsSort = true;
-                }
+                needsSort |= removeSlotData(cachedInventory.get(itemKey), resort);
             } else {
                 ItemSlotData slotData = cachedInventory.get(itemKey);
                 if (slotData == null) {
                     //If it is a new item, add the amount to the total items, and start tracking it
                     totalItems += value;
-                    slotData = new ItemSlotData(itemKey, value);
-                    itemList.add(slotData);
+                    slotData = addedData;
                     cachedInventory.put(itemKey, slotData);
-                    //Mark that we have some items that changed and it isn't just counts that changed
-                    needsSort = true;
+                    getSlotsById().put(slotData.itemId(), slotData);
+                    if (resort) {
+                        itemList.add(slotData);
+                        //Mark that we have some items that changed and it isn't just counts that changed
+                        needsSort = true;
+                    } else {
+                        addSorted(slotData);
+                    }
                 } else {
                     //If an existing item is updated, update the stored amount by the change in quantity
                     totalItems += value - slotData.count();
-                    slotData.count = value;
+                    updateCount(slotData, value, resort || !sortsByCount);
                 }
             }
         }
+        for (Int2LongMap.Entry entry : changed.int2LongEntrySet()) {
+            ItemSlotData slotData = getSlotsById().get(entry.getIntKey());
+            //Note: The slot data should never be null as the server only sends changes for items it has already sent us
+            if (slotData != null) {
+                long delta = entry.getLongValue();
+                totalItems += delta;
+                updateCount(slotData, slotData.count + delta, resort || !sortsByCount);
+            }
+        }
+        for (int i = 0, size = removed.size(); i < size; i++) {
+            needsSort |= removeSlotData(getSlotsById().get(removed.getInt(i)), resort);
+        }
         if (needsSort) {
-            //Note: We only need to bother resorting the lists and recalculating the sorted searches if an item was added or removed
-            // or if the sort method we have selected is affected at some level by the stored count
-            updateSort();
+            updateSort(true);
         }
     }
 
+    /**
+     * Updates the count of a slot, moving it to where it now belongs in the sorted lists if the sort method depends on the count.
+     *
+     * @param skipMove {@code true} if the slot should not be moved, either because the sort method doesn't depend on the count, or because the lists are about to be
+     *                 sorted again anyway.
+     */
+    private void updateCount(ItemSlotData slotData, long count, boolean skipMove) {
+        if (skipMove) {
+            slotData.count = count;
+        } else {
+            //Note: We have to remove the slot before changing the count, as we find where it is in the sorted lists based on the count
+            removeSorted(slotData);
+            slotData.count = count;
+            addSorted(slotData);
+        }
+    }
+
+    /**
+     * @param resort {@code true} if the lists are going to be sorted again after the update, so there is no need to keep them sorted.
+     *
+     * @return {@code true} if the item was being tracked and got removed.
+     */
+    private boolean removeSlotData(@Nullable ItemSlotData oldData, boolean resort) {
+        if (oldData != null) {
+            cachedInventory.remove(oldData.item());
+            getSlotsById().remove(oldData.itemId());
+            //If we did in fact have old data stored, remove the item from the stored total count
+            totalItems -= oldData.count();
+            // and remove the item from the list of items we are tracking
+            if (resort) {
+                // Note: Implementation detail is that we use a ReferenceArrayList in BulkQIOData#fromPacket to ensure that when removing
+                // we only need to do reference equality instead of object equality
+                itemList.remove(oldData);
+                //Mark that we have some items that changed and it isn't just counts that changed
+                return true;
+            }
+            removeSorted(oldData);
+        }
+        return false;
+    }
+
+    /**
+     * Inserts the slot into the item list where it belongs based on the current sort, and into the search results if it matches the current search.
+     */
+    private void addSorted(IScrollableSlot slot) {
+        Comparator<IScrollableSlot> comparator = sortType.getComparator(sortDirection);
+        insertSorted(itemList, slot, comparator);
+        ISearchQuery query = getSearchQuery();
+        if (query != null && searchMatches != null) {
+            Level level = getLevel();
+            if (level != null && query.test(level, inv.player, slot.getInternalStack())) {
+                insertSorted(searchList, slot, comparator);
+                searchMatches.add(slot);
+            }
+        }
+    }
+
+    /**
+     * Removes the slot from the item list and the search results, making use of the lists being sorted to find it.
+     */
+    private void removeSorted(IScrollableSlot slot) {
+        Comparator<IScrollableSlot> comparator = sortType.getComparator(sortDirection);
+        removeSorted(itemList, slot, comparator);
+        if (searchMatches != null && searchMatches.remove(slot)) {
+            removeSorted(searchList, slot, comparator);
+        }
+    }
+
+    private static void insertSorted(List<IScrollableSlot> list, IScrollableSlot slot, Comparator<IScrollableSlot> comparator) {
+        int index = Collections.binarySearch(list, slot, comparator);
+        list.add(index < 0 ? -index - 1 : index, slot);
+    }
+
+    private static void removeSorted(List<IScrollableSlot> list, IScrollableSlot slot, Comparator<IScrollableSlot> comparator) {
+        int index = Collections.binarySearch(list, slot, comparator);
+        if (index >= 0) {
+            //Multiple slots may be considered equal by the sort, so look at all the ones around the index we found for the actual slot
+            for (int i = index; i >= 0 && comparator.compare(list.get(i), slot) == 0; i--) {
+                if (list.get(i) == slot) {
+                    list.remove(i);
+                    return;
+                }
+            }
+            for (int i = index + 1, size = list.size(); i < size && comparator.compare(list.get(i), slot) == 0; i++) {
+                if (list.get(i) == slot) {
+                    list.remove(i);
+                    return;
+                }
+            }
+        }
+        //Fallback to checking the entire list in case the order of the list somehow got out of sync with the sort
+        list.remove(slot);
+    }
+
+    private Int2ObjectMap<ItemSlotData> getSlotsById() {
+        if (slotsById == null) {
+            //Lazily build the lookup, as it is only needed for applying updates from the server
+            slotsById = new Int2ObjectOpenHashMap<>(cachedInventory.size());
+            for (ItemSlotData slotData : cachedInventory.values()) {
+                slotsById.put(slotData.itemId(), slotData);
+            }
+        }
+        return slotsById;
+    }
+
     public void handleKill() {
         cachedInventory.clear();
+        slotsById = null;
         searchList.clear();
         itemList.clear();
         searchQuery = "";
+        cachedQuery = null;
+        searchMatches = null;
     }
 
     public QIOCraftingTransferHelper getTransferHelper(Player player, QIOCraftingWindow craftingWindow) {
@@ -418,7 +562,7 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         this.sortDirection = sortDirection;
         MekanismConfig.client.qioItemViewerSortDirection.set(sortDirection);
         MekanismConfig.client.save();
-        updateSort();
+        updateSort(false);
     }
 
     public SortDirection getSortDirection() {
@@ -432,7 +576,7 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         this.sortType = sortType;
         MekanismConfig.client.qioItemViewerSortType.set(sortType);
         MekanismConfig.client.save();
-        updateSort();
+        updateSort(false);
     }
 
     public ListSortType getSortType() {
@@ -507,37 +651,61 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         return stack;
     }
 
-    private void updateSort() {
+    /**
+     * @param contentsChanged {@code false} if the only thing that changed is how the items are being sorted.
+     */
+    private void updateSort(boolean contentsChanged) {
         sortType.sort(itemList, sortDirection);
-        //TODO: Would it be easier to add/remove changed things that no longer match and then just run the sort on the search list as well?
-        // Or in cases where we are just doing a resort without the search query changing, running a sort on the search list as well?
-        // This might be beneficial at the very least in cases where the search list is small, and the list of total items is large
-        //Note: Update the search as well because it is based on the sorted list so that it displays matches in sorted order
-        updateSearch(getLevel(), searchQuery, false);
+        if (contentsChanged) {
+            //Note: Update the search as well because it is based on the sorted list so that it displays matches in sorted order
+            updateSearch(getLevel(), searchQuery, false);
+        } else {
+            //The same items still match the search, so we just need to sort them the same way as the item list
+            sortType.sort(searchList, sortDirection);
+        }
     }
 
     public void updateSearch(@Nullable Level level, String queryText, boolean skipSameQuery) {
         // searches should only be updated on the client-side
         if (level == null || !level.isClientSide()) {
             return;
-        } else if (skipSameQuery && searchQuery.equals(queryText)) {
+        } else if (!searchQuery.equals(queryText)) {
+            searchQuery = queryText;
+            cachedQuery = null;
+        } else if (skipSameQuery) {
             //Short circuit and skip updating the search if we already have the results
             return;
         }
-        //TODO: Realistically we may want to be caching the ISearchQuery rather than or in addition to the query text?
-        searchQuery = queryText;
         searchList.clear();
-        if (!itemList.isEmpty() && !searchQuery.isEmpty()) {
-            //TODO: Improve how we cache to allow for some form of incremental updating based on the search text changing?
-            ISearchQuery query = SearchQueryParser.parse(searchQuery);
+        if (searchMatches != null) {
+            searchMatches.clear();
+        }
+        ISearchQuery query = getSearchQuery();
+        if (query != null && searchMatches != null) {
             for (IScrollableSlot slot : itemList) {
                 if (query.test(level, inv.player, slot.getInternalStack())) {
                     searchList.add(slot);
+                    searchMatches.add(slot);
                 }
             }
         }
     }
 
+    /**
+     * @return The parsed search query, or {@code null} if there is no search query.
+     */
+    @Nullable
+    private ISearchQuery getSearchQuery() {
+        if (searchQuery.isEmpty()) {
+            return null;
+        } else if (cachedQuery == null) {
+            cachedQuery = SearchQueryParser.parse(searchQuery);
+            //Note: The search list may have been passed to us from another container, so make sure we know which slots it contains
+            searchMatches = new ReferenceOpenHashSet<>(searchList);
+        }
+        return cachedQuery;
+    }
+
     @Override
     public void onClick(Supplier<@Nullable IScrollableSlot> slotProvider, int button, boolean hasShiftDown, ItemStack heldItem) {
         if (hasShiftDown) {
@@ -579,10 +747,17 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     public static final class ItemSlotData implements IScrollableSlot {
 
         private final UUIDAwareHashedItem item;
+        private final int itemId;
         private long count;
+        @Nullable
+        private String displayName;
 
-        public ItemSlotData(UUIDAwareHashedItem item, long count) {
+        /**
+         * @param itemId Id the server uses to refer to the item's type when sending changes, only valid for the current connection.
+         */
+        public ItemSlotData(UUIDAwareHashedItem item, int itemId, long count) {
             this.item = item;
+            this.itemId = itemId;
             this.count = count;
         }
 
@@ -601,11 +776,24 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
             return item.getUUID();
         }
 
+        public int itemId() {
+            return itemId;
+        }
+
         @Override
         public long count() {
             return count;
         }
 
+        @Override
+        public String getDisplayName() {
+            //Note: We cache the display name as it is used by most of the sort methods, and looking it up for each comparison is comparatively slow
+            if (displayName == null) {
+                displayName = IScrollableSlot.super.getDisplayName();
+            }
+            return displayName;
+        }
+
         @Override
         public boolean equals(Object obj) {
             if (obj == this) {
@@ -691,10 +879,14 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
 
         public void sort(List<IScrollableSlot> list, SortDirection direction) {
             if (!list.isEmpty()) {
-                list.sort(direction.isAscending() ? ascendingComparator : descendingComparator);
+                list.sort(getComparator(direction));
             }
         }
 
+        public Comparator<IScrollableSlot> getComparator(SortDirection direction) {
+            return direction.isAscending() ? ascendingComparator : descendingComparator;
+        }
+
         /**
          * @return true if the sort type has any level of sorting based on count
          */
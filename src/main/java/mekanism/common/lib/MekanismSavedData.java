@@ -1,19 +1,158 @@
 package mekanism.common.lib;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
+import mekanism.api.SerializationConstants;
 import mekanism.common.Mekanism;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.NbtUtils;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.world.level.saveddata.SavedData;
 import net.minecraft.world.level.storage.DimensionDataStorage;
 import net.neoforged.neoforge.server.ServerLifecycleHooks;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public abstract class MekanismSavedData extends SavedData {
 
+    /**
+     * Single thread that compresses and writes our saved data to disk, so that writes to the same file always happen in the order they were saved in.
+     */
+    @Nullable
+    private static ExecutorService writer;
+    /**
+     * The last write that was queued, as writes happen in order once it is done all writes before it are done as well.
+     */
+    @Nullable
+    private static Future<?> lastWrite;
+
     public abstract void load(@NotNull CompoundTag nbt, @NotNull HolderLookup.Provider provider);
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote The data is converted to nbt on the calling thread so that it is a snapshot of the current state, but the snapshot is then compressed and written to disk
+     * off thread, as for large amounts of data that is where most of the time saving is spent. Converting it to nbt can't be moved off thread as the data may be modified
+     * by the server thread while it is being converted. The write overlaps with the rest of the level being saved, and {@link #waitForPendingWrites()} is called once the
+     * level is done saving, so that saving only completes after the data has been written.
+     */
+    @Override
+    public void save(@NotNull File file, @NotNull HolderLookup.Provider provider) {
+        if (isDirty()) {
+            CompoundTag tag = new CompoundTag();
+            tag.put(SerializationConstants.DATA, save(new CompoundTag(), provider));
+            NbtUtils.addCurrentDataVersion(tag);
+            setDirty(false);
+            Path path = file.toPath();
+            try {
+                queueWrite(() -> write(path, tag));
+            } catch (RejectedExecutionException e) {
+                //We are in the middle of shutting down, just write it from this thread instead
+                write(path, tag);
+            }
+        }
+    }
+
+    private void write(Path path, CompoundTag tag) {
+        Path tempPath = null;
+        try {
+            //Write to a temporary file first and then replace the actual file with it, so that if we crash in the middle of writing we don't lose the old data
+            tempPath = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            try (FileOutputStream stream = new FileOutputStream(tempPath.toFile())) {
+                NbtIo.writeCompressed(tag, stream);
+                //Ensure the data actually made it to disk before we replace the old file
+                stream.getFD().sync();
+            }
+            try {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            Mekanism.logger.error("Could not save data {}", this, e);
+            if (tempPath != null) {
+                try {
+                    Files.deleteIfExists(tempPath);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private static synchronized void queueWrite(Runnable write) {
+        if (writer == null) {
+            //Note: We make this a daemon thread so that it can't keep the JVM alive. Any pending writes are waited on when levels finish saving and when the server stops
+            writer = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, "Mekanism Saved Data Writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        lastWrite = writer.submit(write);
+    }
+
+    /**
+     * Waits for any saved data that is still being written to finish being written, so that once a save completes our data is actually on disk (for example for
+     * {@code /save-all flush} or backups).
+     */
+    public static void waitForPendingWrites() {
+        Future<?> pending;
+        synchronized (MekanismSavedData.class) {
+            pending = lastWrite;
+            lastWrite = null;
+        }
+        if (pending != null) {
+            try {
+                pending.get(1, TimeUnit.MINUTES);
+            } catch (ExecutionException e) {
+                Mekanism.logger.error("Failed to write saved data.", e);
+            } catch (TimeoutException e) {
+                Mekanism.logger.error("Timed out waiting for saved data to finish being written.");
+            } catch (InterruptedException e) {
+                Mekanism.logger.error("Interrupted while waiting for saved data to finish being written.", e);
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Waits for any saved data that is still being written to finish being written, and then shuts down the writer thread.
+     */
+    public static void finishWriting() {
+        ExecutorService executor;
+        synchronized (MekanismSavedData.class) {
+            executor = writer;
+            writer = null;
+            lastWrite = null;
+        }
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                    Mekanism.logger.error("Timed out waiting for saved data to finish being written.");
+                }
+            } catch (InterruptedException e) {
+                Mekanism.logger.error("Interrupted while waiting for saved data to finish being written.", e);
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     /**
      * Note: This should only be called from the server side
      */
@@ -36,4 +175,4 @@ public abstract class MekanismSavedData extends SavedData {
     public static <DATA extends MekanismSavedData> DATA createSavedData(DimensionDataStorage dataStorage, SavedData.Factory<DATA> factory, String name) {
         return dataStorage.computeIfAbsent(factory, Mekanism.MODID + "_" + name);
     }
-}
\ No newline at end of file
+}
@@ -9,11 +9,33 @@ public class IntegerSplitInfo extends SplitInfo {
     private int sentSoFar;
     private int remainder;
 
+    /**
+     * Creates a split info with nothing to split, that is expected to be {@link #reset(int, int) reset} before being used.
+     */
+    public IntegerSplitInfo() {
+        super(0);
+    }
+
     public IntegerSplitInfo(int amountToSplit, int totalTargets) {
         super(totalTargets);
+        reset(amountToSplit, totalTargets);
+    }
+
+    /**
+     * Resets this split info so that it can be reused to split a new amount without having to allocate a new instance.
+     *
+     * @param amountToSplit The amount to split between all the targets
+     * @param totalTargets  Number of targets to split the contents among.
+     *
+     * @return this split info
+     */
+    public final IntegerSplitInfo reset(int amountToSplit, int totalTargets) {
+        resetTargets(totalTargets);
         this.amountToSplit = amountToSplit;
+        sentSoFar = 0;
         amountPerTarget = toSplitAmong == 0 ? 0 : amountToSplit / toSplitAmong;
         remainder = toSplitAmong == 0 ? 0 : amountToSplit % toSplitAmong;
+        return this;
     }
 
     @Override
@@ -7,11 +7,33 @@ public class LongSplitInfo extends SplitInfo {
     private long sentSoFar;
     private long remainder;
 
+    /**
+     * Creates a split info with nothing to split, that is expected to be {@link #reset(long, int) reset} before being used.
+     */
+    public LongSplitInfo() {
+        super(0);
+    }
+
     public LongSplitInfo(long amountToSplit, int totalTargets) {
         super(totalTargets);
+        reset(amountToSplit, totalTargets);
+    }
+
+    /**
+     * Resets this split info so that it can be reused to split a new amount without having to allocate a new instance.
+     *
+     * @param amountToSplit The amount to split between all the targets
+     * @param totalTargets  Number of targets to split the contents among.
+     *
+     * @return this split info
+     */
+    public final LongSplitInfo reset(long amountToSplit, int totalTargets) {
+        resetTargets(totalTargets);
         this.amountToSplit = amountToSplit;
+        sentSoFar = 0;
         amountPerTarget = toSplitAmong == 0 ? 0 : amountToSplit / toSplitAmong;
         remainder = toSplitAmong == 0 ? 0 : amountToSplit % toSplitAmong;
+        return this;
     }
 
     @Override
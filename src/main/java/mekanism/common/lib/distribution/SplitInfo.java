@@ -22,6 +22,17 @@ public abstract class SplitInfo {
         this.toSplitAmong = totalTargets;
     }
 
+    /**
+     * Resets the shared state of this split info so that it can be reused for another distribution.
+     *
+     * @param totalTargets Number of targets to split the contents among.
+     */
+    protected void resetTargets(int totalTargets) {
+        this.toSplitAmong = totalTargets;
+        this.amountPerChanged = false;
+        this.decrementTargets = true;
+    }
+
     /**
      * Marks the given amount as being accounted for and "sent". Decrements {@link #getUnsent() how much we have left to send} and increments
      * {@link #getTotalSent() how much we have sent}. If {@link #decrementTargets} is true, this also will reduce the number of targets to split among, and recalculate
@@ -1,10 +1,9 @@
 package mekanism.common.lib.distribution;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.List;
 
 /**
  * Keeps track of a target for emitting from various networks.
@@ -14,41 +13,59 @@ import java.util.LinkedList;
  */
 public abstract class Target<HANDLER, RESOURCE> {
 
+    private static final int[] EMPTY_INDICES = new int[0];
+    private static final long[] EMPTY_AMOUNTS = new long[0];
+
     /**
      * Collection of handlers
      */
-    protected final Collection<HANDLER> handlers;
+    protected final List<HANDLER> handlers;
     /**
-     * Collection of handler type pairs that want more than we can/are willing to provide. Value is the amount they want.
+     * Indices in {@link #handlers} of the handlers that want more than we can/are willing to provide. The amount they want is stored at the same index in
+     * {@link #neededAmounts}. These are kept as parallel primitive arrays so that a target can be reused without allocating anything per handler.
      */
-    //todo Object 2 long map? and fast iterator
-    protected final Collection<HandlerType<HANDLER>> needed;
-
-    private int handlerCount = 0;
+    private int[] neededHandlers = EMPTY_INDICES;
+    private long[] neededAmounts = EMPTY_AMOUNTS;
+    private int neededCount;
 
     protected Target() {
-        handlers = new LinkedList<>();
-        needed = new LinkedList<>();
+        handlers = new ArrayList<>();
     }
 
     protected Target(Collection<HANDLER> allHandlers) {
-        this.handlers = Collections.unmodifiableCollection(allHandlers);
-        this.needed = new ArrayList<>(allHandlers.size() / 2);
-        this.handlerCount = allHandlers.size();
+        this.handlers = new ArrayList<>(allHandlers);
     }
 
     protected Target(int expectedSize) {
         this.handlers = new ArrayList<>(expectedSize);
-        this.needed = new ArrayList<>(expectedSize / 2);
     }
 
     public void addHandler(HANDLER handler) {
         handlers.add(handler);
-        handlerCount++;
     }
 
     public int getHandlerCount() {
-        return handlerCount;
+        return handlers.size();
+    }
+
+    /**
+     * Removes all handlers from this target so that it can be reused for a later distribution.
+     */
+    public void clear() {
+        handlers.clear();
+        neededCount = 0;
+    }
+
+    private void addNeeded(int handlerIndex, long amount) {
+        if (neededCount == neededHandlers.length) {
+            //Note: We can never need more than the number of handlers we have
+            int size = Math.max(neededCount + 1, handlers.size());
+            neededHandlers = Arrays.copyOf(neededHandlers, size);
+            neededAmounts = Arrays.copyOf(neededAmounts, size);
+        }
+        neededHandlers[neededCount] = handlerIndex;
+        neededAmounts[neededCount] = amount;
+        neededCount++;
     }
 
     /**
@@ -60,41 +77,46 @@ public abstract class Target<HANDLER, RESOURCE> {
      */
     public void sendRemainingSplit(RESOURCE resource, SplitInfo splitInfo) {
         //If needed is not empty then we default it to the given calculated fair split amount of remaining energy
-        if (!needed.isEmpty() && splitInfo.getRemainderAmount() != 0) {
-            Iterator<HandlerType<HANDLER>> iterator = needed.iterator();
-            while (iterator.hasNext()) {
+        if (neededCount > 0 && splitInfo.getRemainderAmount() != 0) {
+            //Compact the needed handlers in place as we go, so that we keep them in the same order without having to shift them each time one is removed
+            int kept = 0;
+            for (int i = 0; i < neededCount; i++) {
                 long remainderAmount = splitInfo.getRemainderAmount();
                 if (remainderAmount == 0) {
                     //We finished inserting everything we wanted to, we can just exit
+                    // Note: We don't bother updating the needed count as nothing will be sent to the remaining handlers
                     return;
                 }
-                HandlerType<HANDLER> needInfo = iterator.next();
+                int handlerIndex = neededHandlers[i];
                 //Accept the remaining amount
-                long amountNeeded = needInfo.amount();
+                long amountNeeded = neededAmounts[i];
                 if (amountNeeded <= remainderAmount) {
-                    acceptAmount(needInfo.handler(), splitInfo, resource, amountNeeded);
                     //If the amount we needed was the less than or the same as our remaining amount
                     // we can remove the value as it has now been sent
-                    iterator.remove();
+                    acceptAmount(handlers.get(handlerIndex), splitInfo, resource, amountNeeded);
                 } else {
                     splitInfo.decrementTargets = false;
-                    acceptAmount(needInfo.handler(), splitInfo, resource, remainderAmount);
+                    acceptAmount(handlers.get(handlerIndex), splitInfo, resource, remainderAmount);
                     splitInfo.decrementTargets = true;
+                    neededHandlers[kept] = handlerIndex;
+                    neededAmounts[kept] = amountNeeded;
+                    kept++;
                 }
             }
+            neededCount = kept;
             //TODO: If we remove buffers maybe we should evaluate not caring if we don't actually send the full excess remainder?
             // Given ideally we wouldn't attempting to insert the excess remainder to handlers as a second call to the handler on the same tick
             if (splitInfo.getUnsent() != 0) {
                 //If we still have some of a remainder after trying to evenly distribute the remainder just send it to the first target willing to accept it
                 // This might happen if one of the destinations was only able to accept part of the remaining amount, though in general that case will be
                 // covered by shifting the needed values
-                for (HandlerType<HANDLER> recipient : needed) {
+                for (int i = 0; i < neededCount; i++) {
                     long remaining = splitInfo.getUnsent();
                     if (remaining == 0) {
                         //We finished, exit
                         return;
                     }
-                    acceptAmount(recipient.handler(), splitInfo, resource, remaining);
+                    acceptAmount(handlers.get(neededHandlers[i]), splitInfo, resource, remaining);
                 }
             }
         }
@@ -131,16 +153,19 @@ public abstract class Target<HANDLER, RESOURCE> {
      * @param splitInfo Information about current overall split.
      */
     public void sendPossible(RESOURCE resource, SplitInfo splitInfo) {
+        neededCount = 0;
+        int handlerCount = handlers.size();
         if (splitInfo.getShareAmount() == 0) {
             //We are all remainder, just calculate how much each can accept
-            for (HANDLER entry : handlers) {
-                long amountNeeded = simulate(entry, resource, splitInfo.getUnsent());
+            for (int i = 0; i < handlerCount; i++) {
+                long amountNeeded = simulate(handlers.get(i), resource, splitInfo.getUnsent());
                 if (amountNeeded != 0) {
-                    needed.add(new HandlerType<>(entry, amountNeeded));
+                    addNeeded(i, amountNeeded);
                 }
             }
         } else {
-            for (HANDLER entry : handlers) {
+            for (int i = 0; i < handlerCount; i++) {
+                HANDLER entry = handlers.get(i);
                 long amountNeeded = simulate(entry, resource, splitInfo.getUnsent());
                 if (amountNeeded <= splitInfo.getShareAmount()) {
                     //Add the amount, in case something changed from simulation only mark actual sent amount
@@ -150,7 +175,7 @@ public abstract class Target<HANDLER, RESOURCE> {
                         acceptAmount(entry, splitInfo, resource, amountNeeded);
                     }
                 } else {
-                    needed.add(new HandlerType<>(entry, amountNeeded));
+                    addNeeded(i, amountNeeded);
                 }
             }
         }
@@ -165,24 +190,24 @@ public abstract class Target<HANDLER, RESOURCE> {
         if (splitInfo.getShareAmount() == 0) {
             return;
         }
-        Iterator<HandlerType<HANDLER>> iterator = needed.iterator();
-        //Use an iterator rather than a copy of the keySet of the needed subMap
-        // This allows for us to remove it once we find it without  having to
-        // start looping again or make a large number of copies of the set
-        while (iterator.hasNext()) {
-            HandlerType<HANDLER> needInfo = iterator.next();
-            long amountNeeded = needInfo.amount();
+        //Compact the needed handlers in place rather than removing them one at a time. This allows for us to remove handlers once we
+        // find them without having to start looping again or shift the remaining values
+        int kept = 0;
+        for (int i = 0; i < neededCount; i++) {
+            int handlerIndex = neededHandlers[i];
+            long amountNeeded = neededAmounts[i];
             if (amountNeeded <= splitInfo.getShareAmount()) {
-                acceptAmount(needInfo.handler(), splitInfo, resource, amountNeeded);
-                //Remove it as it has now been sent
-                iterator.remove();
+                acceptAmount(handlers.get(handlerIndex), splitInfo, resource, amountNeeded);
+                //Don't keep it as it has now been sent
                 //Continue checking things in case we happen to be
                 // getting things in a bad order so that we don't recheck
                 // the same values many times
+            } else {
+                neededHandlers[kept] = handlerIndex;
+                neededAmounts[kept] = amountNeeded;
+                kept++;
             }
         }
+        neededCount = kept;
     }
-
-    protected record HandlerType<HANDLER>(HANDLER handler, long amount) {
-    }
-}
\ No newline at end of file
+}
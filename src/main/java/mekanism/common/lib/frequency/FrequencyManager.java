@@ -14,6 +14,8 @@ import mekanism.api.security.SecurityMode;
 import mekanism.common.lib.MekanismSavedData;
 import mekanism.common.lib.collection.HashList;
 import mekanism.common.lib.frequency.Frequency.FrequencyIdentity;
+import mekanism.common.lib.profiler.MekanismProfiler;
+import mekanism.common.lib.profiler.MekanismProfiler.Section;
 import mekanism.common.lib.security.SecurityFrequency;
 import mekanism.common.util.NBTUtils;
 import net.minecraft.core.HolderLookup;
@@ -184,7 +186,9 @@ public class FrequencyManager<FREQ extends Frequency> {
     private void tickSelf(boolean tickingNormally) {
         boolean dirty = false;
         for (FREQ freq : frequencies.values()) {
+            long start = MekanismProfiler.begin();
             dirty |= freq.tick(tickingNormally);
+            MekanismProfiler.end(Section.FREQUENCIES, freq.getType(), freq, start);
         }
         if (dirty) {
             markDirty();
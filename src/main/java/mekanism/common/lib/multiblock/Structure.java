@@ -15,6 +15,8 @@ import java.util.function.ToIntFunction;
 import mekanism.common.lib.math.voxel.BlockPosBuilder;
 import mekanism.common.lib.math.voxel.VoxelPlane;
 import mekanism.common.lib.multiblock.FormationProtocol.FormationResult;
+import mekanism.common.lib.profiler.MekanismProfiler;
+import mekanism.common.lib.profiler.MekanismProfiler.Section;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -124,7 +126,10 @@ public class Structure {
 
     public <TILE extends BlockEntity & IMultiblockBase> FormationResult runUpdate(TILE tile) {
         if (getController() != null && multiblockData == null) {
-            return getController().createFormationProtocol().doUpdate();
+            long start = MekanismProfiler.begin();
+            FormationResult result = getController().createFormationProtocol().doUpdate();
+            MekanismProfiler.end(Section.MULTIBLOCKS, getController().getManager(), tile, start);
+            return result;
         }
         removeMultiblock(tile.getLevel());
         return FormationResult.FAIL;
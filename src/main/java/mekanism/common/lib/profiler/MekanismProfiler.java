@@ -0,0 +1,293 @@
+package mekanism.common.lib.profiler;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import mekanism.common.lib.frequency.Frequency;
+import mekanism.common.lib.frequency.FrequencyType;
+import mekanism.common.lib.multiblock.MultiblockManager;
+import mekanism.common.lib.transmitter.DynamicNetwork;
+import mekanism.common.util.RegistryUtils;
+import net.minecraft.Util;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.GlobalPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Lightweight timings of the parts of Mekanism that run every server tick, so that server operators are able to find the exact machines and networks that are costing
+ * them the most tick time.
+ * <p>
+ * When the profiler isn't running the only cost to the instrumented code is checking a single static field. All methods are expected to be called from the server
+ * thread.
+ */
+public final class MekanismProfiler {
+
+    private static final int TOP_INSTANCES = 20;
+    /**
+     * Maximum number of instances to track the timings of per section, so that profiling a large server for a long time doesn't keep growing.
+     */
+    private static final int MAX_INSTANCES = 10_000;
+    /**
+     * Value returned by {@link #begin()} when the profiler isn't running.
+     */
+    public static final long NOT_STARTED = -1;
+
+    private static final Map<Section, Map<Object, Timing>> timingsByType = new EnumMap<>(Section.class);
+    private static final Map<Section, Map<Object, Timing>> timingsByInstance = new EnumMap<>(Section.class);
+    private static boolean enabled;
+    private static long startTime;
+    private static int ticks;
+
+    private MekanismProfiler() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static int getTicks() {
+        return ticks;
+    }
+
+    public static void start() {
+        reset();
+        enabled = true;
+        startTime = System.nanoTime();
+    }
+
+    public static void stop() {
+        enabled = false;
+    }
+
+    public static void reset() {
+        enabled = false;
+        ticks = 0;
+        timingsByType.clear();
+        timingsByInstance.clear();
+    }
+
+    /**
+     * Called once per server tick so that the timings can be shown relative to the number of ticks that have passed.
+     */
+    public static void onServerTick() {
+        if (enabled) {
+            ticks++;
+        }
+    }
+
+    /**
+     * Starts timing a section of code.
+     *
+     * @return Start time to pass to {@link #end(Section, Object, Object, long)}, or {@link #NOT_STARTED} if the profiler isn't running.
+     */
+    public static long begin() {
+        //Note: We return the time relative to when the profiler was started so that valid start times are never negative
+        return enabled ? System.nanoTime() - startTime : NOT_STARTED;
+    }
+
+    /**
+     * Finishes timing a section of code.
+     *
+     * @param section  Section the code belongs to.
+     * @param type     Type of the thing that was being ticked, for example the block type of a tile or the class of a network.
+     * @param instance The specific thing that was ticked, or {@code null} to only track the timing by type.
+     * @param start    Start time that was returned by {@link #begin()}.
+     */
+    public static void end(Section section, Object type, @Nullable Object instance, long start) {
+        if (start == NOT_STARTED || !enabled) {
+            //Either we weren't profiling when the section started, or we were stopped in the middle of it
+            return;
+        }
+        long duration = System.nanoTime() - startTime - start;
+        timingsByType.computeIfAbsent(section, s -> new Reference2ObjectOpenHashMap<>()).computeIfAbsent(type, t -> new Timing(t, null)).add(duration);
+        if (instance != null) {
+            Object key = getInstanceKey(instance);
+            if (key != null) {
+                Map<Object, Timing> byInstance = timingsByInstance.computeIfAbsent(section, s -> new Object2ObjectOpenHashMap<>());
+                Timing timing = byInstance.get(key);
+                if (timing == null) {
+                    if (byInstance.size() >= MAX_INSTANCES) {
+                        //Don't track any more instances, the time is still included in the timings by type
+                        return;
+                    }
+                    timing = new Timing(type, key);
+                    byInstance.put(key, timing);
+                }
+                timing.add(duration);
+                timing.updateInstance(instance);
+            }
+        }
+    }
+
+    /**
+     * Gets the key to track the timings of an instance by. We don't use the instance itself, as instances such as tiles and networks get replaced when they are reloaded
+     * or reformed, and keeping references to them would keep them from being garbage collected.
+     */
+    @Nullable
+    private static Object getInstanceKey(Object instance) {
+        return switch (instance) {
+            case BlockEntity tile -> tile.getLevel() == null ? null : GlobalPos.of(tile.getLevel().dimension(), tile.getBlockPos());
+            case DynamicNetwork<?, ?, ?> network -> network.getUUID();
+            case Frequency frequency -> frequency.getIdentity();
+            default -> instance;
+        };
+    }
+
+    /**
+     * Gets the average number of milliseconds per tick that each section has taken so far.
+     */
+    public static Map<Section, Double> getSectionTotals() {
+        Map<Section, Double> totals = new EnumMap<>(Section.class);
+        int tickCount = Math.max(ticks, 1);
+        for (Map.Entry<Section, Map<Object, Timing>> entry : timingsByType.entrySet()) {
+            long total = 0;
+            for (Timing timing : entry.getValue().values()) {
+                total += timing.total;
+            }
+            totals.put(entry.getKey(), total / 1_000_000D / tickCount);
+        }
+        return totals;
+    }
+
+    /**
+     * Writes the current timings to a new file in the given directory.
+     *
+     * @return Path of the file that the timings were written to.
+     */
+    public static Path dump(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve("mekanism-profile-" + Util.getFilenameFormattedDateTime() + ".txt");
+        int tickCount = Math.max(ticks, 1);
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            writer.write(String.format(Locale.ROOT, "Mekanism profile of %d ticks over %.1f seconds%n", ticks, (System.nanoTime() - startTime) / 1_000_000_000D));
+            for (Section section : Section.values()) {
+                Map<Object, Timing> byType = timingsByType.get(section);
+                if (byType == null || byType.isEmpty()) {
+                    continue;
+                }
+                writer.write(String.format(Locale.ROOT, "%n== %s ==%n", section.getName()));
+                writeTimings(writer, byType.values(), Integer.MAX_VALUE, tickCount);
+                Map<Object, Timing> byInstance = timingsByInstance.get(section);
+                if (byInstance != null && !byInstance.isEmpty()) {
+                    writer.write(String.format(Locale.ROOT, "%n-- Most expensive %s --%n", section.getName().toLowerCase(Locale.ROOT)));
+                    if (byInstance.size() >= MAX_INSTANCES) {
+                        writer.write(String.format(Locale.ROOT, "Only the first %d %s were tracked individually%n", MAX_INSTANCES, section.getName().toLowerCase(Locale.ROOT)));
+                    }
+                    writeTimings(writer, byInstance.values(), TOP_INSTANCES, tickCount);
+                }
+            }
+        }
+        return file;
+    }
+
+    private static void writeTimings(Writer writer, Collection<Timing> timings, int limit, int tickCount) throws IOException {
+        List<Timing> sorted = new ArrayList<>(timings);
+        sorted.sort(Comparator.comparingLong(timing -> -timing.total));
+        writer.write(String.format(Locale.ROOT, "%12s %12s %12s %12s  %s%n", "ms/tick", "calls/tick", "avg us", "max us", "name"));
+        for (int i = 0, size = Math.min(limit, sorted.size()); i < size; i++) {
+            Timing timing = sorted.get(i);
+            writer.write(String.format(Locale.ROOT, "%12.4f %12.2f %12.2f %12.2f  %s%n", timing.total / 1_000_000D / tickCount, timing.count / (double) tickCount,
+                  timing.total / 1_000D / timing.count, timing.max / 1_000D, timing.describe()));
+        }
+    }
+
+    private static String describeType(Object type) {
+        return switch (type) {
+            case Block block -> RegistryUtils.getName(block).toString();
+            case Class<?> clazz -> clazz.getSimpleName();
+            case FrequencyType<?> frequencyType -> frequencyType.getName();
+            case MultiblockManager<?> manager -> manager.getName();
+            default -> type.toString();
+        };
+    }
+
+    private static String describeInstance(Object instance) {
+        return switch (instance) {
+            case BlockEntity tile -> describePos(tile.getLevel(), tile.getBlockPos());
+            case DynamicNetwork<?, ?, ?> network -> network.getUUID() + " with " + network.transmittersSize() + " transmitters in " +
+                                                    (network.getWorld() == null ? "unknown" : network.getWorld().dimension().location());
+            case Frequency frequency -> "'" + frequency.getName() + "' owned by " + frequency.getOwnerName();
+            case GlobalPos pos -> pos.pos().toShortString() + " in " + pos.dimension().location();
+            default -> instance.toString();
+        };
+    }
+
+    private static String describePos(@Nullable Level level, BlockPos pos) {
+        return pos.toShortString() + " in " + (level == null ? "unknown" : level.dimension().location());
+    }
+
+    private static class Timing {
+
+        private final Object type;
+        @Nullable
+        private final Object instance;
+        /**
+         * The last instance that was timed with this timing's key, so that we can describe it in more detail if it still exists.
+         */
+        @Nullable
+        private WeakReference<Object> lastInstance;
+        private long count;
+        private long total;
+        private long max;
+
+        private Timing(Object type, @Nullable Object instance) {
+            this.type = type;
+            this.instance = instance;
+        }
+
+        private String describe() {
+            String name = describeType(type);
+            if (instance == null) {
+                return name;
+            }
+            Object live = lastInstance == null ? null : lastInstance.get();
+            return name + " " + describeInstance(live == null ? instance : live);
+        }
+
+        private void updateInstance(Object instance) {
+            if (instance != this.instance && (lastInstance == null || lastInstance.get() != instance)) {
+                lastInstance = new WeakReference<>(instance);
+            }
+        }
+
+        private void add(long duration) {
+            count++;
+            total += duration;
+            if (duration > max) {
+                max = duration;
+            }
+        }
+    }
+
+    public enum Section {
+        NETWORKS("Networks"),
+        TILES("Tiles"),
+        FREQUENCIES("Frequencies"),
+        RADIATION("Radiation"),
+        MULTIBLOCKS("Multiblocks");
+
+        private final String name;
+
+        Section(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
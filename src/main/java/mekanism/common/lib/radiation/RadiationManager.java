@@ -5,7 +5,6 @@ import com.google.common.collect.Table;
 import com.google.common.collect.Tables;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -58,7 +57,6 @@ import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvent;
-import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.damagesource.DamageType;
@@ -117,8 +115,15 @@ public class RadiationManager implements IRadiationManager {
 
     private boolean loaded;
 
-    private final Table<Chunk3D, GlobalPos, RadiationSource> radiationTable = HashBasedTable.create();
-    private final Table<Chunk3D, GlobalPos, IRadiationSource> radiationView = Tables.unmodifiableTable(radiationTable);
+    /**
+     * Radiation sources, indexed by dimension. Dimensions without any sources are removed so that we can cheaply check if there are no sources at all.
+     */
+    private final Map<ResourceKey<Level>, RadiationSourceIndex> radiationSources = new Object2ObjectOpenHashMap<>();
+    /**
+     * Lazily built view of the radiation sources for {@link #getRadiationSources()}, that is invalidated whenever sources are added or removed.
+     */
+    @Nullable
+    private Table<Chunk3D, GlobalPos, IRadiationSource> radiationView;
     private final Map<ResourceLocation, List<Meltdown>> meltdowns = new Object2ObjectOpenHashMap<>();
 
     private final Map<UUID, PreviousRadiationData> playerEnvironmentalExposureMap = new Object2ObjectOpenHashMap<>();
@@ -147,6 +152,11 @@ public class RadiationManager implements IRadiationManager {
         }
     }
 
+    private void sourcesChanged() {
+        radiationView = null;
+        markDirty();
+    }
+
     @Override
     public DamageSource getRadiationDamageSource(RegistryAccess registryAccess) {
         return MekanismDamageTypes.RADIATION.source(registryAccess);
@@ -159,10 +169,11 @@ public class RadiationManager implements IRadiationManager {
 
     @Override
     public double getRadiationLevel(Entity entity) {
-        if (radiationTable.isEmpty()) {//Short circuit when the radiation table is empty
+        RadiationSourceIndex index = radiationSources.get(entity.level().dimension());
+        if (index == null) {//Short circuit when there are no radiation sources in the dimension
             return BASELINE;
         }
-        return getRadiationLevel(GlobalPos.of(entity.level().dimension(), entity.blockPosition()));
+        return index.getLevel(entity.blockPosition(), MekanismConfig.general.radiationChunkCheckRadius.get(), BASELINE);
     }
 
     /**
@@ -184,72 +195,63 @@ public class RadiationManager implements IRadiationManager {
 
     @Override
     public Table<Chunk3D, GlobalPos, IRadiationSource> getRadiationSources() {
+        if (radiationView == null) {
+            Table<Chunk3D, GlobalPos, IRadiationSource> table = HashBasedTable.create();
+            for (RadiationSourceIndex index : radiationSources.values()) {
+                index.forEach(source -> table.put(new Chunk3D(source.getPos()), source.getPos(), source));
+            }
+            radiationView = Tables.unmodifiableTable(table);
+        }
         return radiationView;
     }
 
     @Override
     public void removeRadiationSources(Chunk3D chunk) {
-        Map<GlobalPos, RadiationSource> chunkSources = radiationTable.row(chunk);
-        if (!chunkSources.isEmpty()) {
-            chunkSources.clear();
-            markDirty();
+        RadiationSourceIndex index = radiationSources.get(chunk.dimension);
+        if (index != null && index.removeChunk(chunk.x, chunk.z)) {
+            if (index.isEmpty()) {
+                radiationSources.remove(chunk.dimension);
+            }
+            sourcesChanged();
             updateClientRadiationForAll(chunk.dimension);
         }
     }
 
     @Override
     public void removeRadiationSource(GlobalPos pos) {
-        Chunk3D chunk = new Chunk3D(pos);
-        if (radiationTable.contains(chunk, pos)) {
-            radiationTable.remove(chunk, pos);
-            markDirty();
+        RadiationSourceIndex index = radiationSources.get(pos.dimension());
+        if (index != null && index.remove(pos.pos())) {
+            if (index.isEmpty()) {
+                radiationSources.remove(pos.dimension());
+            }
+            sourcesChanged();
             updateClientRadiationForAll(pos.dimension());
         }
     }
 
     @Override
     public double getRadiationLevel(GlobalPos pos) {
-        if (radiationTable.isEmpty()) {//Short circuit when the radiation table is empty
+        RadiationSourceIndex index = radiationSources.get(pos.dimension());
+        if (index == null) {//Short circuit when there are no radiation sources in the dimension
             return BASELINE;
         }
-        return getRadiationLevelAndMaxMagnitude(pos).level();
+        return index.getLevel(pos.pos(), MekanismConfig.general.radiationChunkCheckRadius.get(), BASELINE);
     }
 
     public LevelAndMaxMagnitude getRadiationLevelAndMaxMagnitude(Entity entity) {
-        if (radiationTable.isEmpty()) {//Short circuit when the radiation table is empty
-            return LevelAndMaxMagnitude.BASELINE;
-        }
-        return getRadiationLevelAndMaxMagnitude(GlobalPos.of(entity.level().dimension(), entity.blockPosition()));
+        return getRadiationLevelAndMaxMagnitude(entity.level().dimension(), entity.blockPosition());
     }
 
     public LevelAndMaxMagnitude getRadiationLevelAndMaxMagnitude(GlobalPos pos) {
-        if (radiationTable.isEmpty()) {//Short circuit when the radiation table is empty
+        return getRadiationLevelAndMaxMagnitude(pos.dimension(), pos.pos());
+    }
+
+    private LevelAndMaxMagnitude getRadiationLevelAndMaxMagnitude(ResourceKey<Level> dimension, BlockPos pos) {
+        RadiationSourceIndex index = radiationSources.get(dimension);
+        if (index == null) {//Short circuit when there are no radiation sources in the dimension
             return LevelAndMaxMagnitude.BASELINE;
         }
-        double level = BASELINE;
-        double maxMagnitude = BASELINE;
-        Chunk3D center = new Chunk3D(pos);
-        int radius = MekanismConfig.general.radiationChunkCheckRadius.get();
-        // we only compute exposure when within the MAX_RANGE bounds
-        double maxRange = Mth.square(radius * 16);
-        int minX = center.x - radius;
-        int maxX = center.x + radius;
-        int minZ = center.z - radius;
-        int maxZ = center.z + radius;
-        //Note: We inline the logic from Chunk3D#expand to avoid allocating a new hash set each time
-        for (int i = minX; i <= maxX; i++) {
-            for (int j = minZ; j <= maxZ; j++) {
-                Chunk3D chunk = new Chunk3D(center.dimension, i, j);
-                for (Map.Entry<GlobalPos, RadiationSource> entry : radiationTable.row(chunk).entrySet()) {
-                    if (entry.getKey().pos().distSqr(pos.pos()) <= maxRange) {
-                        RadiationSource source = entry.getValue();
-                        level += computeExposure(pos, source);
-                        maxMagnitude = Math.max(maxMagnitude, source.getMagnitude());
-                    }
-                }
-            }
-        }
-        return new LevelAndMaxMagnitude(level, maxMagnitude);
+        return index.getLevelAndMaxMagnitude(pos, MekanismConfig.general.radiationChunkCheckRadius.get(), BASELINE);
     }
 
     @Override
@@ -257,14 +259,17 @@ public class RadiationManager implements IRadiationManager {
         if (!isRadiationEnabled()) {
             return;
         }
-        Map<GlobalPos, RadiationSource> radiationSourceMap = radiationTable.row(new Chunk3D(pos));
-        RadiationSource src = radiationSourceMap.get(pos);
+        RadiationSourceIndex index = radiationSources.computeIfAbsent(pos.dimension(), dimension -> new RadiationSourceIndex());
+        RadiationSource src = index.get(pos.pos());
         if (src == null) {
-            radiationSourceMap.put(pos, new RadiationSource(pos, magnitude));
+            index.put(new RadiationSource(pos, magnitude));
+            sourcesChanged();
         } else {
             src.radiate(magnitude);
+            //Invalidate the cached aggregate of the chunk the source is in
+            index.markChanged(pos.pos());
+            markDirty();
         }
-        markDirty();
         //Update radiation levels immediately
         updateClientRadiationForAll(pos.dimension());
     }
@@ -320,17 +325,13 @@ public class RadiationManager implements IRadiationManager {
     }
 
     public void clearSources() {
-        if (!radiationTable.isEmpty()) {
-            radiationTable.clear();
-            markDirty();
+        if (!radiationSources.isEmpty()) {
+            radiationSources.clear();
+            sourcesChanged();
             updateClientRadiationForAll();
         }
     }
 
-    private double computeExposure(GlobalPos pos, RadiationSource source) {
-        return source.getMagnitude() / Math.max(1, pos.pos().distSqr(source.getPos().pos()));
-    }
-
     private double getRadiationResistance(LivingEntity entity) {
         double resistance = 0;
         for (EquipmentSlot type : EnumUtils.ARMOR_SLOTS) {
@@ -493,24 +494,35 @@ public class RadiationManager implements IRadiationManager {
 
     public void tickServer(boolean tickingNormally) {
         // terminate early if we're disabled or there is no radiation spots
-        if (!isRadiationEnabled() || radiationTable.isEmpty()) {
+        if (!isRadiationEnabled() || radiationSources.isEmpty()) {
             return;
         }
         // each tick, there's a 1/20 chance we'll decay radiation sources (averages to 1 decay operation per second)
         if (RAND.nextInt(SharedConstants.TICKS_PER_SECOND) == 0) {
-            Collection<RadiationSource> sources = radiationTable.values();
-            if (!sources.isEmpty()) {
-                //Note: We have to wait until here to check if we are ticking normally, so that we still sync the radiation
-                // near the player if they are walking around while ticks are frozen
-                if (tickingNormally) {
+            //Note: We have to wait until here to check if we are ticking normally, so that we still sync the radiation
+            // near the player if they are walking around while ticks are frozen
+            if (tickingNormally) {
+                boolean removedSources = false;
+                for (Iterator<RadiationSourceIndex> iterator = radiationSources.values().iterator(); iterator.hasNext(); ) {
+                    RadiationSourceIndex index = iterator.next();
+                    int sources = index.size();
                     // remove if source gets too low
-                    sources.removeIf(RadiationSource::decay);
-                    //Mark dirty regardless if we have any sources as magnitude changes or radiation sources change
-                    markDirty();
+                    index.decay();
+                    if (index.size() != sources) {
+                        removedSources = true;
+                        if (index.isEmpty()) {
+                            iterator.remove();
+                        }
+                    }
+                }
+                if (removedSources) {
+                    radiationView = null;
                 }
-                //Update radiation levels for any players where it has changed
-                updateClientRadiationForAll();
+                //Mark dirty regardless if we have any sources as magnitude changes or radiation sources change
+                markDirty();
             }
+            //Update radiation levels for any players where it has changed
+            updateClientRadiationForAll();
         }
     }
 
@@ -529,8 +541,9 @@ public class RadiationManager implements IRadiationManager {
     }
 
     public void reset() {
-        //Clear the table directly instead of via the method, so it doesn't mark it as dirty
-        radiationTable.clear();
+        //Clear the sources directly instead of via the method, so it doesn't mark it as dirty
+        radiationSources.clear();
+        radiationView = null;
         playerEnvironmentalExposureMap.clear();
         playerExposureMap.clear();
         meltdowns.clear();
@@ -678,8 +691,9 @@ public class RadiationManager implements IRadiationManager {
             // don't sync the manager if radiation has been disabled
             if (IRadiationManager.INSTANCE.isRadiationEnabled()) {
                 for (RadiationSource source : loadedSources) {
-                    manager.radiationTable.put(new Chunk3D(source.getPos()), source.getPos(), source);
+                    manager.radiationSources.computeIfAbsent(source.getPos().dimension(), dimension -> new RadiationSourceIndex()).put(source);
                 }
+                manager.radiationView = null;
                 for (Map.Entry<ResourceLocation, List<Meltdown>> entry : savedMeltdowns.entrySet()) {
                     List<Meltdown> meltdowns = manager.meltdowns.get(entry.getKey());
                     if (meltdowns == null) {
@@ -730,11 +744,11 @@ public class RadiationManager implements IRadiationManager {
         @NotNull
         @Override
         public CompoundTag save(@NotNull CompoundTag nbtTags, @NotNull HolderLookup.Provider provider) {
-            if (manager != null && !manager.radiationTable.isEmpty()) {
+            if (manager != null && !manager.radiationSources.isEmpty()) {
                 RegistryOps<Tag> registryOps = provider.createSerializationContext(NbtOps.INSTANCE);
                 ListTag list = new ListTag();
-                for (RadiationSource source : manager.radiationTable.values()) {
-                    list.add(source.write(registryOps));
+                for (RadiationSourceIndex index : manager.radiationSources.values()) {
+                    index.forEach(source -> list.add(source.write(registryOps)));
                 }
                 nbtTags.put(SerializationConstants.RADIATION_LIST, list);
             }
@@ -0,0 +1,380 @@
+package mekanism.common.lib.radiation;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.common.lib.radiation.RadiationManager.LevelAndMaxMagnitude;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Spatial index of the radiation sources in a single dimension. Sources are bucketed by the chunk they are in, and each chunk stores its sources as parallel primitive
+ * arrays so that looking up the radiation level at a position only has to visit the chunks that actually contain sources.
+ * <p>
+ * Each chunk additionally caches an aggregate of the sources it contains (the max magnitude, and the bounds of the source positions) which is invalidated whenever a
+ * source in the chunk radiates or decays. This lets lookups skip the per source range checks, and use the cached max magnitude, for any chunk whose sources are all
+ * within range. The exposure from each source still has to be added individually, as it depends on the distance to the source.
+ *
+ * @implNote This is not thread safe, and should only be accessed from the server thread.
+ */
+@NothingNullByDefault
+final class RadiationSourceIndex {
+
+    private final Long2ObjectMap<ChunkSources> chunks = new Long2ObjectOpenHashMap<>();
+    /**
+     * Same chunks as in {@link #chunks}, but stored in a list so that we can iterate them without allocating an iterator.
+     */
+    private final ObjectArrayList<ChunkSources> chunkList = new ObjectArrayList<>();
+    private int size;
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    @Nullable
+    RadiationSource get(BlockPos pos) {
+        ChunkSources chunk = chunks.get(chunkKey(pos));
+        if (chunk != null) {
+            int index = chunk.indexOf(pos.asLong());
+            if (index != -1) {
+                return chunk.sources[index];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds the given source to the index, replacing any source that was previously at the same position.
+     */
+    void put(RadiationSource source) {
+        BlockPos pos = source.getPos().pos();
+        long key = chunkKey(pos);
+        ChunkSources chunk = chunks.get(key);
+        if (chunk == null) {
+            chunk = new ChunkSources(chunkList.size(), SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+            chunks.put(key, chunk);
+            chunkList.add(chunk);
+        }
+        if (chunk.put(pos.asLong(), source)) {
+            size++;
+        }
+    }
+
+    /**
+     * Marks that the magnitude of the source at the given position changed, so that the cached aggregate of the chunk it is in gets recalculated.
+     */
+    void markChanged(BlockPos pos) {
+        ChunkSources chunk = chunks.get(chunkKey(pos));
+        if (chunk != null) {
+            chunk.aggregateValid = false;
+        }
+    }
+
+    boolean remove(BlockPos pos) {
+        long key = chunkKey(pos);
+        ChunkSources chunk = chunks.get(key);
+        if (chunk != null) {
+            int index = chunk.indexOf(pos.asLong());
+            if (index != -1) {
+                chunk.remove(index);
+                chunk.recalculateBounds();
+                size--;
+                if (chunk.size == 0) {
+                    removeChunk(key, chunk);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes all sources in the chunk at the given chunk coordinates.
+     *
+     * @return {@code true} if there were any sources in the chunk.
+     */
+    boolean removeChunk(int chunkX, int chunkZ) {
+        long key = ChunkPos.asLong(chunkX, chunkZ);
+        ChunkSources chunk = chunks.get(key);
+        if (chunk != null) {
+            size -= chunk.size;
+            removeChunk(key, chunk);
+            return true;
+        }
+        return false;
+    }
+
+    private void removeChunk(long key, ChunkSources chunk) {
+        chunks.remove(key);
+        //Swap the last chunk into the removed chunk's spot in the list
+        ChunkSources last = chunkList.pop();
+        if (last != chunk) {
+            last.listIndex = chunk.listIndex;
+            chunkList.set(chunk.listIndex, last);
+        }
+    }
+
+    /**
+     * Decays all sources in this index, removing any that have decayed below the minimum magnitude.
+     */
+    void decay() {
+        for (int i = chunkList.size() - 1; i >= 0; i--) {
+            ChunkSources chunk = chunkList.get(i);
+            int removed = chunk.decay();
+            if (removed > 0) {
+                size -= removed;
+                if (chunk.size == 0) {
+                    removeChunk(ChunkPos.asLong(chunk.chunkX, chunk.chunkZ), chunk);
+                } else {
+                    chunk.recalculateBounds();
+                }
+            }
+        }
+    }
+
+    void forEach(Consumer<RadiationSource> consumer) {
+        for (ChunkSources chunk : chunkList) {
+            for (int i = 0; i < chunk.size; i++) {
+                consumer.accept(chunk.sources[i]);
+            }
+        }
+    }
+
+    /**
+     * Calculates the radiation level at the given position from all sources within the given chunk radius, that are also within a spherical range of
+     * {@code chunkRadius * 16} blocks.
+     *
+     * @param pos         Position to calculate the radiation level at.
+     * @param chunkRadius Radius in chunks to check for sources.
+     * @param baseline    Baseline radiation level and magnitude.
+     *
+     * @return Radiation level.
+     */
+    double getLevel(BlockPos pos, int chunkRadius, double baseline) {
+        return calculateExposure(pos, chunkRadius, baseline).level;
+    }
+
+    /**
+     * Calculates the radiation level at the given position, and the max magnitude of the sources that contribute to it, from all sources within the given chunk radius,
+     * that are also within a spherical range of {@code chunkRadius * 16} blocks.
+     *
+     * @param pos         Position to calculate the radiation level at.
+     * @param chunkRadius Radius in chunks to check for sources.
+     * @param baseline    Baseline radiation level and magnitude.
+     *
+     * @return Radiation level and max magnitude.
+     */
+    LevelAndMaxMagnitude getLevelAndMaxMagnitude(BlockPos pos, int chunkRadius, double baseline) {
+        Exposure exposure = calculateExposure(pos, chunkRadius, baseline);
+        return new LevelAndMaxMagnitude(exposure.level, exposure.maxMagnitude);
+    }
+
+    private Exposure calculateExposure(BlockPos pos, int chunkRadius, double baseline) {
+        Exposure exposure = new Exposure(baseline);
+        long maxRange = (long) chunkRadius * 16 * chunkRadius * 16;
+        int x = pos.getX(), y = pos.getY(), z = pos.getZ();
+        int centerX = SectionPos.blockToSectionCoord(x);
+        int centerZ = SectionPos.blockToSectionCoord(z);
+        int diameter = 2 * chunkRadius + 1;
+        if (chunkList.size() < diameter * diameter) {
+            //There are fewer chunks with sources than chunks in range, just check all the chunks that have sources
+            for (int i = 0, chunkCount = chunkList.size(); i < chunkCount; i++) {
+                ChunkSources chunk = chunkList.get(i);
+                if (Math.abs(chunk.chunkX - centerX) <= chunkRadius && Math.abs(chunk.chunkZ - centerZ) <= chunkRadius) {
+                    chunk.addExposure(x, y, z, maxRange, exposure);
+                }
+            }
+        } else {
+            for (int chunkX = centerX - chunkRadius, maxX = centerX + chunkRadius; chunkX <= maxX; chunkX++) {
+                for (int chunkZ = centerZ - chunkRadius, maxZ = centerZ + chunkRadius; chunkZ <= maxZ; chunkZ++) {
+                    ChunkSources chunk = chunks.get(ChunkPos.asLong(chunkX, chunkZ));
+                    if (chunk != null) {
+                        chunk.addExposure(x, y, z, maxRange, exposure);
+                    }
+                }
+            }
+        }
+        return exposure;
+    }
+
+    private static long chunkKey(BlockPos pos) {
+        return ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+    }
+
+    private static long distSqr(int x, int y, int z, long pos) {
+        long dx = BlockPos.getX(pos) - x;
+        long dy = BlockPos.getY(pos) - y;
+        long dz = BlockPos.getZ(pos) - z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static final class ChunkSources {
+
+        private static final int INITIAL_CAPACITY = 4;
+
+        private final int chunkX;
+        private final int chunkZ;
+        private long[] positions = new long[INITIAL_CAPACITY];
+        private RadiationSource[] sources = new RadiationSource[INITIAL_CAPACITY];
+        private int size;
+        private int listIndex;
+
+        //Bounds of the positions of the sources in this chunk
+        private int minX, minY, minZ, maxX, maxY, maxZ;
+        //Cached aggregate of the magnitudes of the sources in this chunk
+        private double maxMagnitude;
+        private boolean aggregateValid;
+
+        private ChunkSources(int listIndex, int chunkX, int chunkZ) {
+            this.listIndex = listIndex;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+
+        private int indexOf(long pos) {
+            for (int i = 0; i < size; i++) {
+                if (positions[i] == pos) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * @return {@code true} if a new source was added, {@code false} if it replaced an existing one.
+         */
+        private boolean put(long pos, RadiationSource source) {
+            aggregateValid = false;
+            int index = indexOf(pos);
+            if (index != -1) {
+                sources[index] = source;
+                return false;
+            }
+            if (size == positions.length) {
+                int capacity = size * 2;
+                positions = Arrays.copyOf(positions, capacity);
+                sources = Arrays.copyOf(sources, capacity);
+            }
+            positions[size] = pos;
+            sources[size] = source;
+            int x = BlockPos.getX(pos), y = BlockPos.getY(pos), z = BlockPos.getZ(pos);
+            if (size == 0) {
+                minX = maxX = x;
+                minY = maxY = y;
+                minZ = maxZ = z;
+            } else {
+                minX = Math.min(minX, x);
+                minY = Math.min(minY, y);
+                minZ = Math.min(minZ, z);
+                maxX = Math.max(maxX, x);
+                maxY = Math.max(maxY, y);
+                maxZ = Math.max(maxZ, z);
+            }
+            size++;
+            return true;
+        }
+
+        private void remove(int index) {
+            aggregateValid = false;
+            size--;
+            //Swap the last source into the removed spot
+            positions[index] = positions[size];
+            sources[index] = sources[size];
+            sources[size] = null;
+        }
+
+        /**
+         * Decays all the sources in this chunk.
+         *
+         * @return The number of sources that were removed for having decayed below the minimum magnitude.
+         */
+        private int decay() {
+            aggregateValid = false;
+            int removed = 0;
+            for (int i = size - 1; i >= 0; i--) {
+                if (sources[i].decay()) {
+                    remove(i);
+                    removed++;
+                }
+            }
+            return removed;
+        }
+
+        private void recalculateBounds() {
+            if (size > 0) {
+                minX = maxX = BlockPos.getX(positions[0]);
+                minY = maxY = BlockPos.getY(positions[0]);
+                minZ = maxZ = BlockPos.getZ(positions[0]);
+                for (int i = 1; i < size; i++) {
+                    long pos = positions[i];
+                    int x = BlockPos.getX(pos), y = BlockPos.getY(pos), z = BlockPos.getZ(pos);
+                    minX = Math.min(minX, x);
+                    minY = Math.min(minY, y);
+                    minZ = Math.min(minZ, z);
+                    maxX = Math.max(maxX, x);
+                    maxY = Math.max(maxY, y);
+                    maxZ = Math.max(maxZ, z);
+                }
+            }
+        }
+
+        private double getMaxMagnitude() {
+            if (!aggregateValid) {
+                maxMagnitude = 0;
+                for (int i = 0; i < size; i++) {
+                    maxMagnitude = Math.max(maxMagnitude, sources[i].getMagnitude());
+                }
+                aggregateValid = true;
+            }
+            return maxMagnitude;
+        }
+
+        /**
+         * Adds the exposure at the given position from the sources in this chunk that are within range, and the max magnitude of those sources, to the given exposure.
+         */
+        private void addExposure(int x, int y, int z, long maxRange, Exposure exposure) {
+            long dx = Math.max(Math.abs(x - minX), Math.abs(x - maxX));
+            long dy = Math.max(Math.abs(y - minY), Math.abs(y - maxY));
+            long dz = Math.max(Math.abs(z - minZ), Math.abs(z - maxZ));
+            if (dx * dx + dy * dy + dz * dz <= maxRange) {
+                //Every source in this chunk is in range, so we can skip the range checks and use the cached max magnitude
+                exposure.maxMagnitude = Math.max(exposure.maxMagnitude, getMaxMagnitude());
+                for (int i = 0; i < size; i++) {
+                    exposure.level += sources[i].getMagnitude() / Math.max(1, distSqr(x, y, z, positions[i]));
+                }
+            } else {
+                for (int i = 0; i < size; i++) {
+                    long distance = distSqr(x, y, z, positions[i]);
+                    if (distance <= maxRange) {
+                        double magnitude = sources[i].getMagnitude();
+                        exposure.level += magnitude / Math.max(1, distance);
+                        exposure.maxMagnitude = Math.max(exposure.maxMagnitude, magnitude);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Exposure at a position that is accumulated while visiting the chunks in range.
+     */
+    private static final class Exposure {
+
+        private double level;
+        private double maxMagnitude;
+
+        private Exposure(double baseline) {
+            this.level = baseline;
+            this.maxMagnitude = baseline;
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package mekanism.common.lib.transmitter;
 
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
 import it.unimi.dsi.fastutil.longs.LongIterator;
-import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
-import it.unimi.dsi.fastutil.longs.LongSet;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
@@ -19,7 +19,10 @@ import org.jetbrains.annotations.Nullable;
 public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBufferedNetwork<ACCEPTOR, NETWORK, BUFFER, TRANSMITTER>, BUFFER,
       TRANSMITTER extends BufferedTransmitter<ACCEPTOR, NETWORK, BUFFER, TRANSMITTER>> extends DynamicNetwork<ACCEPTOR, NETWORK, TRANSMITTER> {
 
-    protected final LongSet chunks = new LongOpenHashSet();
+    /**
+     * Number of transmitters in this network in each chunk.
+     */
+    protected final Long2IntMap chunks = new Long2IntOpenHashMap();
     @Nullable
     protected Range3D packetRange;
     protected long capacity;
@@ -57,7 +60,7 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
     @Override
     protected void addTransmitterFromCommit(TRANSMITTER transmitter) {
         super.addTransmitterFromCommit(transmitter);
-        chunks.add(ChunkPos.asLong(transmitter.getBlockPos()));
+        chunks.mergeInt(ChunkPos.asLong(transmitter.getBlockPos()), 1, Integer::sum);
         //Update the capacity here, to make sure that we can actually absorb the buffer properly
         updateCapacity(transmitter);
         absorbBuffer(transmitter);
@@ -79,9 +82,13 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
     @Override
     public List<TRANSMITTER> adoptTransmittersAndAcceptorsFrom(NETWORK net) {
         List<TRANSMITTER> transmittersToUpdate = super.adoptTransmittersAndAcceptorsFrom(net);
-        chunks.addAll(net.chunks);
+        for (Long2IntMap.Entry entry : net.chunks.long2IntEntrySet()) {
+            chunks.mergeInt(entry.getLongKey(), entry.getIntValue(), Integer::sum);
+        }
         //Update the capacity
-        updateCapacity();
+        for (TRANSMITTER transmitter : net.getTransmitters()) {
+            updateCapacity(transmitter);
+        }
         return transmittersToUpdate;
     }
 
@@ -94,6 +101,29 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
         updateSaveShares(triggerTransmitter);
     }
 
+    @Override
+    protected void transmittersInvalidated() {
+        super.transmittersInvalidated();
+        //Rather than updating all shares now, mark them as out of date so that they get updated if any transmitters need them
+        lastSaveShareWriteTime = -1;
+    }
+
+    @Override
+    protected void transmittersRemoved(Collection<TRANSMITTER> removed) {
+        super.transmittersRemoved(removed);
+        for (TRANSMITTER transmitter : removed) {
+            long chunk = ChunkPos.asLong(transmitter.getBlockPos());
+            if (chunks.mergeInt(chunk, -1, Integer::sum) <= 0) {
+                chunks.remove(chunk);
+            }
+            removeCapacity(transmitter);
+        }
+        clampBuffer();
+        needsUpdate = true;
+        //Flush the cached packet range as the network may have shrunk
+        packetRange = null;
+    }
+
     @Override
     public void deregister() {
         super.deregister();
@@ -127,6 +157,18 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
         }
     }
 
+    /**
+     * @param transmitter The transmitter that was removed
+     */
+    protected synchronized void removeCapacity(TRANSMITTER transmitter) {
+        if (capacity == Long.MAX_VALUE) {
+            //The capacity may have been clamped when adding transmitters, so we have to recalculate it
+            updateCapacity();
+        } else {
+            capacity -= transmitter.getCapacity();
+        }
+    }
+
     public synchronized void updateCapacity() {
         long sum = 0;
         for (TRANSMITTER transmitter : getTransmitters()) {
@@ -171,7 +213,7 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
     public void markDirty() {
         if (world != null && !world.isClientSide && world.getGameTime() != lastMarkDirtyTime) {
             lastMarkDirtyTime = world.getGameTime();
-            for (LongIterator iterator = chunks.iterator(); iterator.hasNext(); ) {
+            for (LongIterator iterator = chunks.keySet().iterator(); iterator.hasNext(); ) {
                 long chunk = iterator.nextLong();
                 WorldUtils.markChunkDirty(world, ChunkPos.getX(chunk), ChunkPos.getZ(chunk));
             }
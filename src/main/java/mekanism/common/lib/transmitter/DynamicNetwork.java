@@ -2,6 +2,8 @@ package mekanism.common.lib.transmitter;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -117,6 +119,9 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
             //Note: We check it isn't valid to make sure we are destroying it and not just changing redstone sensitivity
             onLastTransmitterRemoved(triggerTransmitter);
         }
+        if (triggerTransmitter != null && !isRemote() && invalidateIncrementally(triggerTransmitter)) {
+            return;
+        }
         removeInvalid(triggerTransmitter);
         //Now invalidate the transmitters
         if (!isRemote()) {
@@ -131,6 +136,94 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         deregister();
     }
 
+    /**
+     * Removes any invalid transmitters and the trigger transmitter from this network, and only orphans the transmitters that are no longer connected to the largest
+     * remaining part of the network. The trigger transmitter, if it is still valid, is orphaned so that it can reconnect with whatever it is now connected to.
+     *
+     * @return {@code false} if the network needs to be fully invalidated instead.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean invalidateIncrementally(@NotNull TRANSMITTER triggerTransmitter) {
+        boolean triggerValid = triggerTransmitter.isValid();
+        if (triggerValid && getTransmitter(triggerTransmitter.getBlockPos()) != triggerTransmitter) {
+            //The trigger isn't actually part of this network, fall back to reforming the entire network
+            return false;
+        }
+        //Note: Transmitters only become invalid by being removed or unloaded, both of which queue them to be invalidated in the registry. This means that rather than
+        // checking every transmitter in the network, we only have to check the queued ones
+        List<TRANSMITTER> invalidTransmitters = new ArrayList<>();
+        if (!triggerValid && positionedTransmitters.remove(triggerTransmitter.getWorldPositionLong(), triggerTransmitter)) {
+            invalidTransmitters.add(triggerTransmitter);
+        }
+        for (Transmitter<?, ?, ?> pending : TransmitterNetworkRegistry.getInstance().getPendingInvalidTransmitters()) {
+            if (pending.getTransmitterNetwork() == this && !pending.isValid()) {
+                TRANSMITTER transmitter = (TRANSMITTER) pending;
+                if (positionedTransmitters.remove(transmitter.getWorldPositionLong(), transmitter)) {
+                    invalidTransmitters.add(transmitter);
+                }
+            }
+        }
+        LongList removedPositions = new LongArrayList(invalidTransmitters.size() + 1);
+        for (TRANSMITTER removed : invalidTransmitters) {
+            removedPositions.add(removed.getWorldPositionLong());
+            acceptorCache.removeTransmitter(removed);
+            //Clear the network from removed transmitters so that when the registry gets to them, it doesn't try to invalidate this network again
+            removed.setTransmitterNetwork(null, false);
+        }
+        if (!triggerValid && invalidTransmitters.isEmpty()) {
+            //The trigger was already removed from the network, but we still need to check if removing it split the network
+            removedPositions.add(triggerTransmitter.getWorldPositionLong());
+        }
+        if (isEmpty()) {
+            deregister();
+            return true;
+        }
+        transmittersInvalidated();
+        List<TRANSMITTER> removedTransmitters = invalidTransmitters;
+        if (triggerValid) {
+            //The connections of the trigger changed, so remove it and let it reconnect as an orphan
+            removedPositions.add(triggerTransmitter.getWorldPositionLong());
+            orphanTransmitter(triggerTransmitter);
+            removedTransmitters.add(triggerTransmitter);
+        }
+        for (List<TRANSMITTER> detached : NetworkSplitter.findDetached(positionedTransmitters, removedPositions)) {
+            for (TRANSMITTER transmitter : detached) {
+                orphanTransmitter(transmitter);
+            }
+            removedTransmitters.addAll(detached);
+        }
+        if (isEmpty()) {
+            deregister();
+        } else {
+            transmittersRemoved(removedTransmitters);
+            TransmitterNetworkRegistry.registerChangedNetwork(getNetwork());
+        }
+        return true;
+    }
+
+    private void orphanTransmitter(TRANSMITTER transmitter) {
+        //Note: As we don't eagerly update the shares of the contents when removing transmitters, make sure they are up to date before taking the share
+        transmitter.validateAndTakeShare();
+        positionedTransmitters.remove(transmitter.getWorldPositionLong());
+        acceptorCache.removeTransmitter(transmitter);
+        transmitter.setTransmitterNetwork(null);
+        TransmitterNetworkRegistry.registerOrphanTransmitter(transmitter);
+    }
+
+    /**
+     * Called after invalid transmitters have been removed from this network without the network being reformed, before any disconnected transmitters are orphaned.
+     */
+    protected void transmittersInvalidated() {
+    }
+
+    /**
+     * Called after transmitters have been removed from this network without the network being reformed.
+     *
+     * @param removed The transmitters that were removed, both invalid ones and ones that were orphaned.
+     */
+    protected void transmittersRemoved(Collection<TRANSMITTER> removed) {
+    }
+
     protected void onLastTransmitterRemoved(@NotNull TRANSMITTER triggerTransmitter) {
     }
 
@@ -144,7 +237,6 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     }
 
     public List<TRANSMITTER> adoptTransmittersAndAcceptorsFrom(NETWORK net) {
-        positionedTransmitters.putAll(net.positionedTransmitters);
         List<TRANSMITTER> transmittersToUpdate = new ArrayList<>();
         for (Long2ObjectMap.Entry<TRANSMITTER> entry : net.positionedTransmitters.long2ObjectEntrySet()) {
             TRANSMITTER transmitter = entry.getValue();
@@ -159,6 +251,19 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     }
 
     protected void adoptAllAndRegister(Collection<NETWORK> networks) {
+        List<TRANSMITTER> transmittersToUpdate = adoptAllFrom(networks);
+        register();
+        transmittersToUpdate.forEach(Transmitter::requestsUpdate);
+    }
+
+    /**
+     * Adopts everything from the given networks into this already registered network.
+     */
+    void adoptAll(Collection<NETWORK> networks) {
+        adoptAllFrom(networks).forEach(Transmitter::requestsUpdate);
+    }
+
+    private List<TRANSMITTER> adoptAllFrom(Collection<NETWORK> networks) {
         List<TRANSMITTER> transmittersToUpdate = new ArrayList<>();
         for (NETWORK net : networks) {
             if (net != null) {
@@ -166,8 +271,7 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
                 net.deregister();
             }
         }
-        register();
-        transmittersToUpdate.forEach(Transmitter::requestsUpdate);
+        return transmittersToUpdate;
     }
 
     public void register() {
@@ -183,6 +287,7 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         transmittersToAdd.clear();
         acceptorCache.deregister();
         transmitterValidator = null;
+        discardPlannedUpdate();
         if (isRemote()) {
             TransmitterNetworkRegistry.getInstance().removeClientNetwork(this);
         } else {
@@ -209,6 +314,29 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     public void onUpdate() {
     }
 
+    /**
+     * @return {@code true} if this network is able to precompute part of its next {@link #onUpdate()} via {@link #planUpdate()}.
+     */
+    public boolean supportsParallelPlanning() {
+        return false;
+    }
+
+    /**
+     * Precomputes the parts of the next {@link #onUpdate()} that only require querying this network's own contents and acceptors. The next call to
+     * {@link #onUpdate()} is responsible for validating that the plan is still accurate, and for consuming it.
+     *
+     * @apiNote Only called on the server, but may be called from a worker thread while the server thread is blocked. Implementations must not modify any state outside
+     * of this network.
+     */
+    public void planUpdate() {
+    }
+
+    /**
+     * Discards any plan that was computed by {@link #planUpdate()} and not yet consumed.
+     */
+    public void discardPlannedUpdate() {
+    }
+
     public Collection<TRANSMITTER> getTransmitters() {
         return positionedTransmitters.values();
     }
@@ -0,0 +1,172 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import mekanism.common.content.network.transmitter.Transmitter;
+import mekanism.common.util.EnumUtils;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.core.Direction;
+
+/**
+ * Finds which parts of a network got disconnected from the rest of the network when some of its transmitters are removed, without having to walk the entire network.
+ * <p>
+ * A search is started from every transmitter that neighbored a removed position, and all searches are advanced one transmitter at a time in lockstep. When a search
+ * runs into a transmitter that was already reached by another search, the two are joined as they are part of the same connected component. As soon as at most one group
+ * of joined searches still has transmitters left to visit, every other group has been fully explored and is known to be disconnected. This means the work done is
+ * proportional to the size of the smaller, detached parts, rather than to the size of the entire network.
+ */
+final class NetworkSplitter {
+
+    private NetworkSplitter() {
+    }
+
+    /**
+     * @param transmitters     Transmitters that remain in the network, keyed by position.
+     * @param removedPositions Positions of the transmitters that were removed from the network.
+     *
+     * @return Groups of transmitters that are no longer connected to the largest remaining part of the network.
+     */
+    static <ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR, NETWORK, TRANSMITTER>, TRANSMITTER extends Transmitter<ACCEPTOR, NETWORK, TRANSMITTER>>
+    List<List<TRANSMITTER>> findDetached(Long2ObjectMap<TRANSMITTER> transmitters, LongList removedPositions) {
+        Long2IntMap owners = new Long2IntOpenHashMap();
+        owners.defaultReturnValue(-1);
+        List<Search> searches = new ArrayList<>();
+        for (LongIterator iterator = removedPositions.iterator(); iterator.hasNext(); ) {
+            long removed = iterator.nextLong();
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                long neighbor = WorldUtils.relativePos(removed, side);
+                if (transmitters.containsKey(neighbor) && owners.putIfAbsent(neighbor, searches.size()) == -1) {
+                    searches.add(new Search(searches.size(), neighbor));
+                }
+            }
+        }
+        if (searches.size() < 2) {
+            //Removing transmitters at the edge of a network can't split it
+            return Collections.emptyList();
+        }
+        IntList activeRoots = new IntArrayList();
+        while (true) {
+            activeRoots.clear();
+            for (Search search : searches) {
+                if (!search.queue.isEmpty()) {
+                    int root = find(searches, search.id);
+                    if (!activeRoots.contains(root)) {
+                        activeRoots.add(root);
+                    }
+                }
+            }
+            if (activeRoots.size() <= 1) {
+                break;
+            }
+            for (Search search : searches) {
+                if (!search.queue.isEmpty()) {
+                    expand(transmitters, owners, searches, search);
+                }
+            }
+        }
+        //Group the searches into the components they found
+        List<LongList> components = new ArrayList<>();
+        int[] componentIndex = new int[searches.size()];
+        int keep = -1;
+        for (Search search : searches) {
+            int root = find(searches, search.id);
+            if (root == search.id) {
+                componentIndex[root] = components.size();
+                components.add(new LongArrayList());
+            }
+        }
+        for (Search search : searches) {
+            int root = find(searches, search.id);
+            components.get(componentIndex[root]).addAll(search.visited);
+            if (activeRoots.contains(root)) {
+                //The component that is still being explored is the one that stays part of the network
+                keep = componentIndex[root];
+            }
+        }
+        if (keep == -1) {
+            //Everything was explored, keep the largest component
+            keep = 0;
+            for (int i = 1; i < components.size(); i++) {
+                if (components.get(i).size() > components.get(keep).size()) {
+                    keep = i;
+                }
+            }
+        }
+        List<List<TRANSMITTER>> detached = new ArrayList<>(components.size() - 1);
+        for (int i = 0; i < components.size(); i++) {
+            if (i != keep) {
+                LongList component = components.get(i);
+                List<TRANSMITTER> componentTransmitters = new ArrayList<>(component.size());
+                for (LongIterator iterator = component.iterator(); iterator.hasNext(); ) {
+                    componentTransmitters.add(transmitters.get(iterator.nextLong()));
+                }
+                detached.add(componentTransmitters);
+            }
+        }
+        return detached;
+    }
+
+    private static <ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR, NETWORK, TRANSMITTER>, TRANSMITTER extends Transmitter<ACCEPTOR, NETWORK, TRANSMITTER>>
+    void expand(Long2ObjectMap<TRANSMITTER> transmitters, Long2IntMap owners, List<Search> searches, Search search) {
+        long pos = search.queue.dequeueLong();
+        search.visited.add(pos);
+        TRANSMITTER transmitter = transmitters.get(pos);
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            long neighborPos = WorldUtils.relativePos(pos, side);
+            TRANSMITTER neighbor = transmitters.get(neighborPos);
+            if (neighbor != null && transmitter.canConnectMutual(side, neighbor)) {
+                int owner = owners.putIfAbsent(neighborPos, search.id);
+                if (owner == -1) {
+                    search.queue.enqueue(neighborPos);
+                } else if (owner != search.id) {
+                    //Another search already reached this transmitter, so they are part of the same component
+                    union(searches, search.id, owner);
+                }
+            }
+        }
+    }
+
+    private static int find(List<Search> searches, int id) {
+        Search search = searches.get(id);
+        while (search.parent != search.id) {
+            Search parent = searches.get(search.parent);
+            //Path halving
+            search.parent = parent.parent;
+            search = searches.get(parent.parent);
+        }
+        return search.id;
+    }
+
+    private static void union(List<Search> searches, int a, int b) {
+        int rootA = find(searches, a);
+        int rootB = find(searches, b);
+        if (rootA != rootB) {
+            //Always use the lower id as the root so that the result doesn't depend on the order things were joined in
+            searches.get(Math.max(rootA, rootB)).parent = Math.min(rootA, rootB);
+        }
+    }
+
+    private static class Search {
+
+        private final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        private final LongList visited = new LongArrayList();
+        private final int id;
+        private int parent;
+
+        private Search(int id, long start) {
+            this.id = id;
+            this.parent = id;
+            queue.enqueue(start);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import mekanism.common.Mekanism;
+import mekanism.common.capabilities.proxy.ProxyChemicalHandler;
+import mekanism.common.capabilities.proxy.ProxyFluidHandler;
+import mekanism.common.capabilities.proxy.ProxyHeatHandler;
+import mekanism.common.capabilities.proxy.ProxyItemHandler;
+import mekanism.common.capabilities.proxy.ProxyStrictEnergyHandler;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.tile.base.TileEntityMekanism;
+import mekanism.common.tile.prefab.TileEntityMultiblock;
+import net.minecraft.core.Direction;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Splits the update of independent transmitter networks into a plan phase, which is computed in parallel on a worker pool, and a commit phase, which happens when the
+ * networks are updated on the server thread in the same order as they would be without planning.
+ * <p>
+ * A network is only considered independent if none of its acceptor positions are also acceptor positions of any other network. This ensures that planning the network
+ * early queries its acceptors in the exact same state as they would be in when the network is updated, and that the result is identical to the serial path.
+ * <p>
+ * As multiple positions may give access to the same contents, such as the ports of a multiblock or the bounding blocks of a machine, networks are also not considered
+ * independent if any of their acceptors are backed by the same tile or multiblock as an acceptor of another network.
+ * <p>
+ * Additionally, networks are only planned if all of their acceptors are handlers provided by our own tiles, which only read the state of the tile they belong to. Other
+ * handlers may need to look things up in the world (for example cauldrons looking up their block state), which is not safe to do from a worker thread while the server
+ * thread is blocked waiting on the plan, and may either deadlock or give a different answer than the server thread would. Tiles that share their contents through a
+ * frequency are also not planned, as the frequency they are on can change without their acceptors changing.
+ */
+class NetworkTickPlanner {
+
+    private final List<DynamicNetwork<?, ?, ?>> independentNetworks = new ArrayList<>();
+    private boolean independenceDirty = true;
+    @Nullable
+    private ExecutorService executor;
+    private int threads;
+
+    /**
+     * Marks that the networks or their acceptors have changed, and we need to recalculate which networks are independent of each other.
+     */
+    void markDirty() {
+        independenceDirty = true;
+    }
+
+    void reset() {
+        independentNetworks.clear();
+        independenceDirty = true;
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Plans the updates for all independent networks that support it, and blocks until all plans have been calculated.
+     *
+     * @param networks All networks that are about to be updated.
+     */
+    void planUpdates(Collection<DynamicNetwork<?, ?, ?>> networks) {
+        if (independenceDirty) {
+            independenceDirty = false;
+            calculateIndependentNetworks(networks);
+        }
+        int networkCount = independentNetworks.size();
+        if (networkCount < 2) {
+            //Not worth dispatching to other threads
+            return;
+        }
+        ExecutorService executor = getExecutor();
+        int batches = Math.min(threads, networkCount);
+        List<Future<?>> futures = new ArrayList<>(batches);
+        for (int batch = 0; batch < batches; batch++) {
+            int start = batch;
+            futures.add(executor.submit(() -> {
+                for (int i = start; i < networkCount; i += batches) {
+                    independentNetworks.get(i).planUpdate();
+                }
+            }));
+        }
+        boolean failed = false;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed = true;
+            } catch (ExecutionException e) {
+                Mekanism.logger.error("Failed to plan transmitter network updates", e.getCause());
+                failed = true;
+            }
+        }
+        if (failed) {
+            //If anything went wrong, make sure none of the networks use partial plans, and instead just fall back to calculating things serially
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+            for (DynamicNetwork<?, ?, ?> network : independentNetworks) {
+                network.discardPlannedUpdate();
+            }
+        }
+    }
+
+    private void calculateIndependentNetworks(Collection<DynamicNetwork<?, ?, ?>> networks) {
+        independentNetworks.clear();
+        Map<DynamicNetwork<?, ?, ?>, NetworkKeys> keysByNetwork = new Object2ObjectOpenHashMap<>();
+        Set<DynamicNetwork<?, ?, ?>> plannableNetworks = new ObjectOpenHashSet<>();
+        for (DynamicNetwork<?, ?, ?> network : networks) {
+            Level world = network.getWorld();
+            if (world == null) {
+                //Network hasn't been committed yet, it can't have any acceptors
+                continue;
+            }
+            //Note: We check all networks, even ones that don't support planning, so that we can make sure the networks we plan don't
+            // share acceptors with networks that will be updated serially
+            boolean plannable = network.supportsParallelPlanning();
+            List<Object> backing = new ArrayList<>();
+            for (Map<Direction, ?> acceptors : network.acceptorCache.getAcceptorValues()) {
+                for (Object acceptor : acceptors.values()) {
+                    Object internalHandler = getInternalHandler(acceptor);
+                    if (internalHandler == null) {
+                        plannable = false;
+                    } else {
+                        //Note: All the ports of a multiblock share the multiblock's contents, so we treat the multiblock as what backs the acceptor
+                        backing.add(internalHandler instanceof TileEntityMultiblock<?> multiblock ? multiblock.getMultiblock() : internalHandler);
+                        //Tiles with frequencies share their contents with the other tiles on the same frequency, and the frequency can change without
+                        // the acceptors changing, so we can't plan them in parallel
+                        if (!(internalHandler instanceof TileEntityMekanism tile) || tile.getFrequencyComponent().hasCustomFrequencies()) {
+                            plannable = false;
+                        }
+                    }
+                }
+            }
+            keysByNetwork.put(network, new NetworkKeys(world.dimension(), network.acceptorCache.getAcceptorPositions(), backing));
+            if (plannable) {
+                plannableNetworks.add(network);
+            }
+        }
+        Set<DynamicNetwork<?, ?, ?>> sharedNetworks = findSharedNetworks(keysByNetwork);
+        for (DynamicNetwork<?, ?, ?> network : networks) {
+            if (plannableNetworks.contains(network) && !sharedNetworks.contains(network)) {
+                independentNetworks.add(network);
+            }
+        }
+    }
+
+    /**
+     * Finds all the networks that share an acceptor position, or the tile or multiblock backing an acceptor, with any other network.
+     */
+    static <NETWORK> Set<NETWORK> findSharedNetworks(Map<NETWORK, NetworkKeys> keysByNetwork) {
+        Map<ResourceKey<Level>, Long2ObjectMap<NETWORK>> positionOwners = new Object2ObjectOpenHashMap<>();
+        //Note: We compare what backs the acceptors by reference, as multiblocks are considered equal when their structures are the same
+        Map<Object, NETWORK> backingOwners = new Reference2ObjectOpenHashMap<>();
+        Set<NETWORK> sharedNetworks = new ObjectOpenHashSet<>();
+        for (Map.Entry<NETWORK, NetworkKeys> entry : keysByNetwork.entrySet()) {
+            NETWORK network = entry.getKey();
+            NetworkKeys keys = entry.getValue();
+            Long2ObjectMap<NETWORK> owners = positionOwners.computeIfAbsent(keys.dimension(), dimension -> new Long2ObjectOpenHashMap<>());
+            for (LongIterator iterator = keys.positions().iterator(); iterator.hasNext(); ) {
+                markShared(network, owners.putIfAbsent(iterator.nextLong(), network), sharedNetworks);
+            }
+            for (Object backing : keys.backing()) {
+                markShared(network, backingOwners.putIfAbsent(backing, network), sharedNetworks);
+            }
+        }
+        return sharedNetworks;
+    }
+
+    private static <NETWORK> void markShared(NETWORK network, @Nullable NETWORK previous, Set<NETWORK> sharedNetworks) {
+        if (previous != null && previous != network) {
+            sharedNetworks.add(previous);
+            sharedNetworks.add(network);
+        }
+    }
+
+    /**
+     * Gets the handler that backs the given acceptor if it is one of our own proxies, which only query the state of the handler they proxy.
+     *
+     * @return The backing handler, or {@code null} if the acceptor is not one of our proxies and may need to query the world.
+     */
+    @Nullable
+    private static Object getInternalHandler(Object acceptor) {
+        return switch (acceptor) {
+            case ProxyStrictEnergyHandler proxy -> proxy.getInternalHandler();
+            case ProxyFluidHandler proxy -> proxy.getInternalHandler();
+            case ProxyChemicalHandler proxy -> proxy.getInternalHandler();
+            case ProxyItemHandler proxy -> proxy.getInternalHandler();
+            case ProxyHeatHandler proxy -> proxy.getInternalHandler();
+            default -> null;
+        };
+    }
+
+    private ExecutorService getExecutor() {
+        if (executor == null) {
+            threads = MekanismConfig.general.parallelNetworkThreads.get();
+            if (threads == 0) {
+                threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+            }
+            AtomicInteger threadCount = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(threads, r -> {
+                Thread thread = new Thread(r, "Mekanism Network Planner #" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    /**
+     * Everything a network interacts with, used to find which networks are independent of each other.
+     *
+     * @param dimension Dimension the network is in.
+     * @param positions Positions of the network's acceptors.
+     * @param backing   Tiles or multiblocks backing the network's acceptors, as they may also be reachable from other positions.
+     */
+    record NetworkKeys(ResourceKey<Level> dimension, LongCollection positions, Collection<Object> backing) {
+    }
+}
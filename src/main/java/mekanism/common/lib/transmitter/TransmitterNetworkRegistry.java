@@ -1,6 +1,7 @@
 package mekanism.common.lib.transmitter;
 
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Multimap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
@@ -9,6 +10,7 @@ import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.Map;
@@ -17,7 +19,10 @@ import java.util.UUID;
 import mekanism.api.Chunk3D;
 import mekanism.api.MekanismAPI;
 import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.transmitter.Transmitter;
+import mekanism.common.lib.profiler.MekanismProfiler;
+import mekanism.common.lib.profiler.MekanismProfiler.Section;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.EnumUtils;
 import mekanism.common.util.WorldUtils;
@@ -44,7 +49,9 @@ public class TransmitterNetworkRegistry {
     private final Map<UUID, DynamicNetwork<?, ?, ?>> clientNetworks = new Object2ObjectOpenHashMap<>();
     private Map<GlobalPos, Transmitter<?, ?, ?>> newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
     private Set<Transmitter<?, ?, ?>> invalidTransmitters = new ObjectOpenHashSet<>();
+    private Set<Transmitter<?, ?, ?>> invalidatingTransmitters = Collections.emptySet();
     private Set<DynamicNetwork<?, ?, ?>> networksToChange = new ObjectOpenHashSet<>();
+    private final NetworkTickPlanner planner = new NetworkTickPlanner();
 
     public void addClientNetwork(UUID networkID, DynamicNetwork<?, ?, ?> network) {
         if (!clientNetworks.containsKey(networkID)) {
@@ -79,6 +86,7 @@ public class TransmitterNetworkRegistry {
         getInstance().newOrphanTransmitters.clear();
         getInstance().transmitters.clear();
         getInstance().changedTicketChunks.clear();
+        getInstance().planner.reset();
     }
 
     public static void trackTransmitter(Transmitter<?, ?, ?> transmitter) {
@@ -93,6 +101,13 @@ public class TransmitterNetworkRegistry {
         getInstance().invalidTransmitters.add(transmitter);
     }
 
+    /**
+     * Gets the transmitters that have been queued to be invalidated, and may not have been removed from their networks yet.
+     */
+    Iterable<Transmitter<?, ?, ?>> getPendingInvalidTransmitters() {
+        return Iterables.concat(invalidatingTransmitters, invalidTransmitters);
+    }
+
     public static void registerOrphanTransmitter(Transmitter<?, ?, ?> transmitter) {
         if (!getInstance().invalidTransmitters.remove(transmitter)) {
             //If we weren't an invalid transmitter, then we need to add it as a new orphan, otherwise removing it is good enough
@@ -116,11 +131,13 @@ public class TransmitterNetworkRegistry {
 
     public void registerNetwork(DynamicNetwork<?, ?, ?> network) {
         networks.add(network);
+        planner.markDirty();
     }
 
     public void removeNetwork(DynamicNetwork<?, ?, ?> network) {
         networks.remove(network);
         networksToChange.remove(network);
+        planner.markDirty();
     }
 
     @SubscribeEvent
@@ -130,8 +147,15 @@ public class TransmitterNetworkRegistry {
         assignOrphans();
         commitChanges();
         if (event.getServer().tickRateManager().runsNormally()) {
+            if (MekanismConfig.general.parallelNetworkPlanning.get() && networks.size() >= MekanismConfig.general.parallelNetworkThreshold.get()) {
+                //Calculate what we can for independent networks in parallel. The actual transfers still happen below in the same order
+                // as if we didn't plan anything
+                planner.planUpdates(networks);
+            }
             for (DynamicNetwork<?, ?, ?> net : networks) {
+                long start = MekanismProfiler.begin();
                 net.onUpdate();
+                MekanismProfiler.end(Section.NETWORKS, net.getClass(), net, start);
             }
         }
     }
@@ -198,9 +222,11 @@ public class TransmitterNetworkRegistry {
             if (MekanismAPI.debug) {
                 Mekanism.logger.info("Dealing with {} invalid Transmitters", toInvalidate.size());
             }
+            invalidatingTransmitters = toInvalidate;
             for (Transmitter<?, ?, ?> invalid : toInvalidate) {
                 removeInvalidTransmitter(invalid);
             }
+            invalidatingTransmitters = Collections.emptySet();
         }
     }
 
@@ -244,6 +270,8 @@ public class TransmitterNetworkRegistry {
             for (DynamicNetwork<?, ?, ?> network : networks) {
                 network.commit();
             }
+            //Committing may have changed the acceptors of the networks
+            planner.markDirty();
         }
     }
 
@@ -296,16 +324,25 @@ public class TransmitterNetworkRegistry {
                     Mekanism.logger.info("Adding {} transmitters to single found network", connectedTransmitters.size());
                 }
                 network = networksFound.iterator().next();
+            } else if (networksFound.isEmpty()) {
+                if (MekanismAPI.debug) {
+                    Mekanism.logger.info("No networks found. Creating new network for {} transmitters", connectedTransmitters.size());
+                }
+                network = startPoint.createNetworkByMerging(networksFound);
             } else {
                 if (MekanismAPI.debug) {
-                    if (networksFound.isEmpty()) {
-                        Mekanism.logger.info("No networks found. Creating new network for {} transmitters", connectedTransmitters.size());
-                    } else {
-                        Mekanism.logger.info("Merging {} networks with {} new transmitters", networksFound.size(), connectedTransmitters.size());
+                    Mekanism.logger.info("Merging {} networks with {} new transmitters", networksFound.size(), connectedTransmitters.size());
+                }
+                //Merge the other networks into the largest one we found, so that we only have to move the transmitters and acceptors of the smaller networks
+                network = null;
+                for (NETWORK found : networksFound) {
+                    if (network == null || found.transmittersSize() > network.transmittersSize()) {
+                        network = found;
                     }
                 }
-                //TODO: Should we take one of the existing network's uuids if there is one?
-                network = startPoint.createNetworkByMerging(networksFound);
+                networksFound.remove(network);
+                //Note: The network we are merging into is already registered
+                network.adoptAll(networksFound);
             }
             network.addNewTransmitters(connectedTransmitters, transmitterValidator);
             return network;
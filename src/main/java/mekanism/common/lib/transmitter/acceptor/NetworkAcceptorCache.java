@@ -2,6 +2,7 @@ package mekanism.common.lib.transmitter.acceptor;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.Collection;
 import java.util.Collections;
@@ -12,6 +13,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -39,6 +41,24 @@ public class NetworkAcceptorCache<ACCEPTOR> {
         }
     }
 
+    /**
+     * Removes all acceptors that the given transmitter provided, as it is no longer part of the network.
+     */
+    public void removeTransmitter(Transmitter<ACCEPTOR, ?, ?> transmitter) {
+        long transmitterPos = transmitter.getWorldPositionLong();
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            long acceptorPos = WorldUtils.relativePos(transmitterPos, side);
+            Map<Direction, ACCEPTOR> cached = cachedAcceptors.get(acceptorPos);
+            if (cached != null) {
+                cached.remove(side.getOpposite());
+                if (cached.isEmpty()) {
+                    cachedAcceptors.remove(acceptorPos);
+                }
+            }
+        }
+        changedAcceptors.remove(transmitter);
+    }
+
     public void adoptAcceptors(NetworkAcceptorCache<ACCEPTOR> other) {
         for (Long2ObjectMap.Entry<Map<Direction, ACCEPTOR>> entry : other.cachedAcceptors.long2ObjectEntrySet()) {
             long pos = entry.getLongKey();
@@ -97,6 +117,10 @@ public class NetworkAcceptorCache<ACCEPTOR> {
         return cachedAcceptors.values();
     }
 
+    public LongSet getAcceptorPositions() {
+        return cachedAcceptors.keySet();
+    }
+
     public int getAcceptorCount() {
         //Count multiple connections to the same position as multiple acceptors
         return cachedAcceptors.values().stream().mapToInt(Map::size).sum();
@@ -0,0 +1,124 @@
+package mekanism.common.network;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import mekanism.common.network.to_client.PacketUpdateTile;
+import mekanism.common.network.to_client.PacketUpdateTile.TileUpdate;
+import mekanism.common.tile.base.TileEntityUpdateable;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.neoforged.neoforge.network.PacketDistributor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Collects the tiles that want to sync their reduced update tag to the players tracking them during a level tick, and sends them at the end of the tick batched into
+ * as few packets per chunk as possible. Tiles that request multiple updates in the same tick only get synced once, tiles only send the parts of their update tag that
+ * changed since the last update they sent, and tiles whose update tag hasn't changed at all are skipped entirely.
+ */
+public class TileUpdateScheduler {
+
+    /**
+     * Rough maximum number of bytes of updates to put in a single packet, so that chunks with lots of tiles don't exceed the maximum size of a packet.
+     */
+    private static final int MAX_PACKET_SIZE = 1 << 19;
+
+    private static final Map<ResourceKey<Level>, TileUpdateScheduler> schedulers = new Object2ObjectOpenHashMap<>();
+
+    /**
+     * Tiles to sync, keyed by the chunk whose tracking players they should be sent to.
+     */
+    private final Long2ObjectMap<Set<TileEntityUpdateable>> pending = new Long2ObjectLinkedOpenHashMap<>();
+    /**
+     * Tiles that are being sent to the players tracking a different block than the tile itself. As those players might not have received the last update the tile
+     * sent, we always send the update for these tiles.
+     */
+    private final Set<TileEntityUpdateable> trackedElsewhere = new ReferenceOpenHashSet<>();
+
+    /**
+     * Schedules the tile to send its update tag to the players tracking the given block at the end of the tick.
+     */
+    public static void schedule(TileEntityUpdateable tile, BlockEntity tracking) {
+        Level level = tracking.getLevel();
+        if (level != null) {
+            TileUpdateScheduler scheduler = schedulers.computeIfAbsent(level.dimension(), dimension -> new TileUpdateScheduler());
+            scheduler.pending.computeIfAbsent(ChunkPos.asLong(tracking.getBlockPos()), chunk -> new ReferenceLinkedOpenHashSet<>()).add(tile);
+            if (tracking != tile) {
+                scheduler.trackedElsewhere.add(tile);
+            }
+        }
+    }
+
+    /**
+     * Sends the updates of all the tiles that were scheduled in the given level this tick.
+     */
+    public static void flush(ServerLevel level) {
+        TileUpdateScheduler scheduler = schedulers.get(level.dimension());
+        if (scheduler != null && !scheduler.pending.isEmpty()) {
+            //Note: We only create the update for each tile once, even if it is being sent to the players tracking multiple chunks
+            Reference2ObjectMap<TileEntityUpdateable, TileUpdate> updates = new Reference2ObjectOpenHashMap<>();
+            for (Long2ObjectMap.Entry<Set<TileEntityUpdateable>> entry : scheduler.pending.long2ObjectEntrySet()) {
+                Set<TileEntityUpdateable> tiles = entry.getValue();
+                ChunkPos chunk = new ChunkPos(entry.getLongKey());
+                List<TileUpdate> chunkUpdates = new ArrayList<>(tiles.size());
+                int packetSize = 0;
+                for (TileEntityUpdateable tile : tiles) {
+                    TileUpdate update;
+                    if (updates.containsKey(tile)) {
+                        update = updates.get(tile);
+                    } else {
+                        update = scheduler.createUpdate(level, tile);
+                        updates.put(tile, update);
+                    }
+                    if (update != null) {
+                        int updateSize = update.estimateSize();
+                        if (packetSize + updateSize > MAX_PACKET_SIZE && !chunkUpdates.isEmpty()) {
+                            //Adding this update would make the packet too large, send what we have so far and start a new packet
+                            PacketDistributor.sendToPlayersTrackingChunk(level, chunk, new PacketUpdateTile(chunkUpdates));
+                            chunkUpdates = new ArrayList<>();
+                            packetSize = 0;
+                        }
+                        chunkUpdates.add(update);
+                        packetSize += updateSize;
+                    }
+                }
+                if (!chunkUpdates.isEmpty()) {
+                    PacketDistributor.sendToPlayersTrackingChunk(level, chunk, new PacketUpdateTile(chunkUpdates));
+                }
+            }
+            scheduler.pending.clear();
+            scheduler.trackedElsewhere.clear();
+        }
+    }
+
+    /**
+     * @return The update to send for the tile, or {@code null} if there is nothing that needs to be sent.
+     */
+    @Nullable
+    private TileUpdate createUpdate(ServerLevel level, TileEntityUpdateable tile) {
+        if (tile.isRemoved()) {
+            //The tile was removed after it requested the update
+            return null;
+        }
+        return tile.createUpdate(level.registryAccess(), trackedElsewhere.contains(tile));
+    }
+
+    public static void unload(Level level) {
+        schedulers.remove(level.dimension());
+    }
+
+    public static void reset() {
+        schedulers.clear();
+    }
+}
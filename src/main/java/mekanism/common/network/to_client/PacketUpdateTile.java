@@ -1,31 +1,32 @@
 package mekanism.common.network.to_client;
 
 import io.netty.buffer.ByteBuf;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import mekanism.common.Mekanism;
 import mekanism.common.network.IMekanismPacket;
 import mekanism.common.tile.base.TileEntityUpdateable;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.world.level.Level;
 import net.neoforged.neoforge.network.handling.IPayloadContext;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-public record PacketUpdateTile(BlockPos pos, CompoundTag updateTag) implements IMekanismPacket {
+/**
+ * Sends the updates of all the tiles in a single chunk that requested to be synced this tick to the players tracking that chunk.
+ */
+public record PacketUpdateTile(List<TileUpdate> updates) implements IMekanismPacket {
 
     public static final CustomPacketPayload.Type<PacketUpdateTile> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("update_tile"));
-    public static final StreamCodec<ByteBuf, PacketUpdateTile> STREAM_CODEC = StreamCodec.composite(
-          BlockPos.STREAM_CODEC, PacketUpdateTile::pos,
-          ByteBufCodecs.TRUSTED_COMPOUND_TAG, PacketUpdateTile::updateTag,
-          PacketUpdateTile::new
-    );
-
-    public PacketUpdateTile(TileEntityUpdateable tile) {
-        this(tile.getBlockPos(), tile.getReducedUpdateTag(tile.getLevel().registryAccess()));
-    }
+    public static final StreamCodec<ByteBuf, PacketUpdateTile> STREAM_CODEC = TileUpdate.STREAM_CODEC.apply(ByteBufCodecs.list())
+          .map(PacketUpdateTile::new, PacketUpdateTile::updates);
 
     @NotNull
     @Override
@@ -36,15 +37,102 @@ public record PacketUpdateTile(BlockPos pos, CompoundTag updateTag) implements I
     @Override
     public void handle(IPayloadContext context) {
         Level world = context.player().level();
-        //Only handle the update packet if the block is currently loaded (otherwise we would have the warning get logged in cases we don't want it to)
-        if (WorldUtils.isBlockLoaded(world, pos)) {
-            TileEntityUpdateable tile = WorldUtils.getTileEntity(TileEntityUpdateable.class, world, pos, true);
-            if (tile == null) {
-                Mekanism.logger.warn("Update tile packet received for position: {} in world: {}, but no valid tile was found.", pos,
-                      world.dimension().location());
-            } else {
-                tile.handleUpdatePacket(updateTag, world.registryAccess());
+        for (TileUpdate update : updates) {
+            BlockPos pos = update.pos();
+            //Only handle the update if the block is currently loaded (otherwise we would have the warning get logged in cases we don't want it to)
+            if (WorldUtils.isBlockLoaded(world, pos)) {
+                TileEntityUpdateable tile = WorldUtils.getTileEntity(TileEntityUpdateable.class, world, pos, true);
+                if (tile == null) {
+                    Mekanism.logger.warn("Update tile packet received for position: {} in world: {}, but no valid tile was found.", pos,
+                          world.dimension().location());
+                } else {
+                    tile.handleUpdate(update, world.registryAccess());
+                }
+            }
+        }
+    }
+
+    /**
+     * Update for a single tile, containing either its full reduced update tag, or only the entries of it that changed since the last update that was sent.
+     *
+     * @param pos         Position of the tile.
+     * @param updateTag   The full update tag, or the entries that were added or changed.
+     * @param changes     {@code true} if this only contains the changed entries.
+     * @param removedKeys Keys of the entries that were removed since the last update, only used if this only contains the changed entries.
+     */
+    public record TileUpdate(BlockPos pos, CompoundTag updateTag, boolean changes, List<String> removedKeys) {
+
+        public static final StreamCodec<ByteBuf, TileUpdate> STREAM_CODEC = StreamCodec.composite(
+              BlockPos.STREAM_CODEC, TileUpdate::pos,
+              ByteBufCodecs.TRUSTED_COMPOUND_TAG, TileUpdate::updateTag,
+              ByteBufCodecs.BOOL, TileUpdate::changes,
+              ByteBufCodecs.STRING_UTF8.apply(ByteBufCodecs.list()), TileUpdate::removedKeys,
+              TileUpdate::new
+        );
+
+        public static TileUpdate full(BlockPos pos, CompoundTag updateTag) {
+            return new TileUpdate(pos, updateTag, false, List.of());
+        }
+
+        /**
+         * Creates an update that only contains the entries of the current update tag that are different from the previous update tag.
+         *
+         * @return The update, or {@code null} if nothing has changed.
+         */
+        @Nullable
+        public static TileUpdate changes(BlockPos pos, CompoundTag previous, CompoundTag current) {
+            CompoundTag changed = new CompoundTag();
+            for (String key : current.getAllKeys()) {
+                Tag value = current.get(key);
+                if (!Objects.equals(previous.get(key), value)) {
+                    changed.put(key, value);
+                }
+            }
+            List<String> removedKeys = new ArrayList<>();
+            for (String key : previous.getAllKeys()) {
+                if (!current.contains(key)) {
+                    removedKeys.add(key);
+                }
+            }
+            if (changed.isEmpty() && removedKeys.isEmpty()) {
+                return null;
+            }
+            return new TileUpdate(pos, changed, true, removedKeys);
+        }
+
+        /**
+         * Applies this update to the last full update tag that was received.
+         *
+         * @return The new full update tag.
+         */
+        public CompoundTag apply(@Nullable CompoundTag previous) {
+            if (!changes) {
+                return updateTag;
+            } else if (previous == null) {
+                //Note: This shouldn't happen as the server sends a full update whenever the client may not have received the previous one,
+                // but if it does, just handle the changes we were sent
+                Mekanism.logger.warn("Received partial tile update for position: {} without having received a full update.", pos);
+                return updateTag;
+            }
+            CompoundTag updated = previous.copy();
+            for (String key : removedKeys) {
+                updated.remove(key);
+            }
+            for (String key : updateTag.getAllKeys()) {
+                updated.put(key, updateTag.get(key));
+            }
+            return updated;
+        }
+
+        /**
+         * @return Rough estimate of the number of bytes this update will take up when it is sent.
+         */
+        public int estimateSize() {
+            int size = updateTag.sizeInBytes();
+            for (String key : removedKeys) {
+                size += key.length() + 2;
             }
+            return size;
         }
     }
-}
\ No newline at end of file
+}
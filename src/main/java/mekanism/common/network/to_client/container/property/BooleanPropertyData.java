@@ -9,7 +9,7 @@ import net.minecraft.network.codec.StreamCodec;
 public class BooleanPropertyData extends PropertyData {
 
     public static final StreamCodec<ByteBuf, BooleanPropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
+          PropertyData.PROPERTY_STREAM_CODEC, PropertyData::getProperty,
           ByteBufCodecs.BOOL, data -> data.value,
           BooleanPropertyData::new
     );
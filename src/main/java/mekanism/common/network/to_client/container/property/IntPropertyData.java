@@ -9,7 +9,7 @@ import net.minecraft.network.codec.StreamCodec;
 public class IntPropertyData extends PropertyData {
 
     public static final StreamCodec<ByteBuf, IntPropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
+          PropertyData.PROPERTY_STREAM_CODEC, PropertyData::getProperty,
           ByteBufCodecs.VAR_INT, data -> data.value,
           IntPropertyData::new
     );
@@ -29,6 +29,7 @@ public record BulkQIOData(Map<UUIDAwareHashedItem, ItemSlotData> inventory, long
                 //The following two lines are equivalent to encoding UUIDAwareHashedItem.STREAM_CODEC
                 ItemStack.STREAM_CODEC.encode(buffer, data.getItemType().getInternalStack());
                 buffer.writeUUID(data.getItemUUID());
+                buffer.writeVarInt(data.getItemId());
                 buffer.writeVarLong(data.getCount());
             }
             //End implementation of encoding ITEM_MAP_CODEC
@@ -46,7 +47,7 @@ public record BulkQIOData(Map<UUIDAwareHashedItem, ItemSlotData> inventory, long
             List<IScrollableSlot> itemList = new ReferenceArrayList<>(itemMapSize);
             Map<UUIDAwareHashedItem, ItemSlotData> inventory = new Object2ObjectOpenHashMap<>(itemMapSize);
             for (int i = 0; i < itemMapSize; i++) {
-                ItemSlotData slotData = new ItemSlotData(UUIDAwareHashedItem.STREAM_CODEC.decode(buffer), buffer.readVarLong());
+                ItemSlotData slotData = new ItemSlotData(UUIDAwareHashedItem.STREAM_CODEC.decode(buffer), buffer.readVarInt(), buffer.readVarLong());
                 totalItems += slotData.count();
                 itemList.add(slotData);
                 inventory.put(slotData.item(), slotData);
@@ -1,39 +1,102 @@
 package mekanism.common.network.to_client.qio;
 
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.ArrayList;
+import java.util.List;
 import mekanism.common.Mekanism;
+import mekanism.common.content.qio.QIOFrequency.QIOItemTypeData;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
+import mekanism.common.inventory.container.QIOItemViewerContainer.ItemSlotData;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.network.IMekanismPacket;
+import net.minecraft.core.RegistryAccess;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.world.item.ItemStack;
 import net.neoforged.neoforge.network.handling.IPayloadContext;
 import org.jetbrains.annotations.NotNull;
 
+/**
+ * Sends the changes to the items stored in a QIO frequency since the last update to the players viewing the frequency's items.
+ * <p>
+ * The update is encoded once when it is created, and the same encoded bytes are then shared by all the players viewing the frequency. It is made up of:
+ * <ul>
+ *     <li>The count and type capacity of the frequency</li>
+ *     <li>Types the viewers don't know about yet, which are sent in full along with their id and their count</li>
+ *     <li>Types the viewers already know about, which are sent as just the type's id, and the change in count since the last update</li>
+ *     <li>Types that are no longer stored, which are sent as just the type's id</li>
+ * </ul>
+ * The ids are the dense ids from {@link mekanism.common.content.qio.QIOGlobalItemLookup}, which take up far less space than the uuids of the types.
+ */
 public class PacketUpdateItemViewer implements IMekanismPacket {
 
     public static final CustomPacketPayload.Type<PacketUpdateItemViewer> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("update_qio"));
-    private static final StreamCodec<RegistryFriendlyByteBuf, Object2LongMap<UUIDAwareHashedItem>> ITEM_MAP_CODEC = ByteBufCodecs.map(Object2LongOpenHashMap::new,
-          UUIDAwareHashedItem.STREAM_CODEC, ByteBufCodecs.VAR_LONG
-    );
-    public static final StreamCodec<RegistryFriendlyByteBuf, PacketUpdateItemViewer> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.VAR_LONG, pkt -> pkt.countCapacity,
-          ByteBufCodecs.VAR_INT, pkt -> pkt.typeCapacity,
-          ITEM_MAP_CODEC, pkt -> pkt.itemMap,
-          PacketUpdateItemViewer::new
-    );
-
-    private final Object2LongMap<UUIDAwareHashedItem> itemMap;
-    private final long countCapacity;
-    private final int typeCapacity;
-
-    public PacketUpdateItemViewer(long countCapacity, int typeCapacity, Object2LongMap<UUIDAwareHashedItem> itemMap) {
-        this.itemMap = itemMap;
-        this.countCapacity = countCapacity;
-        this.typeCapacity = typeCapacity;
+    public static final StreamCodec<ByteBuf, PacketUpdateItemViewer> STREAM_CODEC = ByteBufCodecs.BYTE_ARRAY.map(PacketUpdateItemViewer::new, pkt -> pkt.data);
+
+    private final byte[] data;
+
+    private PacketUpdateItemViewer(byte[] data) {
+        this.data = data;
+    }
+
+    /**
+     * @param registryAccess Registry access to use for encoding the newly added types.
+     * @param countCapacity  Count capacity of the frequency.
+     * @param typeCapacity   Type capacity of the frequency.
+     * @param added          Types the viewers don't know about yet.
+     * @param changed        Types the viewers know about and whose count changed.
+     * @param changes        Change in count for each of the changed types.
+     * @param removed        Ids of the types the viewers know about that are no longer stored.
+     */
+    public static PacketUpdateItemViewer create(RegistryAccess registryAccess, long countCapacity, int typeCapacity, List<QIOItemTypeData> added,
+          List<QIOItemTypeData> changed, LongList changes, IntList removed) {
+        RegistryFriendlyByteBuf buffer = new RegistryFriendlyByteBuf(Unpooled.buffer(), registryAccess);
+        try {
+            buffer.writeVarLong(countCapacity);
+            buffer.writeVarInt(typeCapacity);
+            buffer.writeVarInt(added.size());
+            for (QIOItemTypeData type : added) {
+                //The following two lines are equivalent to encoding UUIDAwareHashedItem.STREAM_CODEC
+                ItemStack.STREAM_CODEC.encode(buffer, type.getItemType().getInternalStack());
+                buffer.writeUUID(type.getItemUUID());
+                buffer.writeVarInt(type.getItemId());
+                buffer.writeVarLong(type.getCount());
+            }
+            buffer.writeVarInt(changed.size());
+            for (int i = 0, size = changed.size(); i < size; i++) {
+                buffer.writeVarInt(changed.get(i).getItemId());
+                writeDelta(buffer, changes.getLong(i));
+            }
+            buffer.writeVarInt(removed.size());
+            for (int i = 0, size = removed.size(); i < size; i++) {
+                buffer.writeVarInt(removed.getInt(i));
+            }
+            byte[] data = new byte[buffer.readableBytes()];
+            buffer.readBytes(data);
+            return new PacketUpdateItemViewer(data);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Writes a change in count as a zigzag encoded var long, so that small decreases take up as little space as small increases.
+     */
+    private static void writeDelta(RegistryFriendlyByteBuf buffer, long delta) {
+        buffer.writeVarLong((delta << 1) ^ (delta >> 63));
+    }
+
+    private static long readDelta(RegistryFriendlyByteBuf buffer) {
+        long encoded = buffer.readVarLong();
+        return (encoded >>> 1) ^ -(encoded & 1);
     }
 
     @NotNull
@@ -45,7 +108,26 @@ public class PacketUpdateItemViewer implements IMekanismPacket {
     @Override
     public void handle(IPayloadContext context) {
         if (context.player().containerMenu instanceof QIOItemViewerContainer container) {
-            container.handleUpdate(itemMap, countCapacity, typeCapacity);
+            //Note: We decode the data here rather than when reading the packet, as when the server is integrated the packet doesn't get encoded or decoded
+            RegistryFriendlyByteBuf buffer = new RegistryFriendlyByteBuf(Unpooled.wrappedBuffer(data), context.player().registryAccess());
+            long countCapacity = buffer.readVarLong();
+            int typeCapacity = buffer.readVarInt();
+            int addedSize = buffer.readVarInt();
+            List<ItemSlotData> added = new ArrayList<>(addedSize);
+            for (int i = 0; i < addedSize; i++) {
+                added.add(new ItemSlotData(UUIDAwareHashedItem.STREAM_CODEC.decode(buffer), buffer.readVarInt(), buffer.readVarLong()));
+            }
+            int changedSize = buffer.readVarInt();
+            Int2LongMap changed = new Int2LongOpenHashMap(changedSize);
+            for (int i = 0; i < changedSize; i++) {
+                changed.put(buffer.readVarInt(), readDelta(buffer));
+            }
+            int removedSize = buffer.readVarInt();
+            IntList removed = new IntArrayList(removedSize);
+            for (int i = 0; i < removedSize; i++) {
+                removed.add(buffer.readVarInt());
+            }
+            container.handleUpdate(added, changed, removed, countCapacity, typeCapacity);
         }
     }
-}
\ No newline at end of file
+}
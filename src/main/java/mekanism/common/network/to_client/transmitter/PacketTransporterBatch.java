@@ -4,28 +4,83 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
 import mekanism.common.Mekanism;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.TransporterStack;
+import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.network.IMekanismPacket;
 import mekanism.common.network.PacketUtils;
 import mekanism.common.tile.transmitter.TileEntityLogisticalTransporterBase;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.world.item.ItemStack;
 import net.neoforged.neoforge.network.handling.IPayloadContext;
 import org.jetbrains.annotations.NotNull;
 
 public record PacketTransporterBatch(long pos, IntSet deletes, Int2ObjectMap<TransporterStack> updates) implements IMekanismPacket {
 
     public static final CustomPacketPayload.Type<PacketTransporterBatch> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("transporter_batch"));
-    public static final StreamCodec<RegistryFriendlyByteBuf, PacketTransporterBatch> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.VAR_LONG, PacketTransporterBatch::pos,
-          ByteBufCodecs.VAR_INT.apply(ByteBufCodecs.collection(IntOpenHashSet::new)), PacketTransporterBatch::deletes,
-          ByteBufCodecs.map(Int2ObjectOpenHashMap::new, ByteBufCodecs.VAR_INT, TransporterStack.STREAM_CODEC), PacketTransporterBatch::updates,
-          PacketTransporterBatch::new
-    );
+    /**
+     * @implNote Rather than writing the full item for every stack, each distinct item type in the batch is written once and the stacks refer to it by index. This
+     * matters for busy transporter lines, where most of the stacks that enter a transporter in a given tick are of the same few items.
+     */
+    public static final StreamCodec<RegistryFriendlyByteBuf, PacketTransporterBatch> STREAM_CODEC = StreamCodec.of(PacketTransporterBatch::encode, PacketTransporterBatch::decode);
+
+    private static void encode(RegistryFriendlyByteBuf buffer, PacketTransporterBatch packet) {
+        buffer.writeVarLong(packet.pos);
+        buffer.writeVarInt(packet.deletes.size());
+        for (int toDelete : packet.deletes) {
+            buffer.writeVarInt(toDelete);
+        }
+        Object2IntMap<HashedItem> types = new Object2IntOpenHashMap<>();
+        List<ItemStack> palette = new ArrayList<>();
+        int[] typeIndices = new int[packet.updates.size()];
+        int index = 0;
+        for (TransporterStack stack : packet.updates.values()) {
+            //Note: We can use raw hashed items as the map is local to this method
+            typeIndices[index++] = types.computeIfAbsent(HashedItem.raw(stack.itemStack), type -> {
+                palette.add(stack.itemStack);
+                return palette.size() - 1;
+            });
+        }
+        buffer.writeVarInt(palette.size());
+        for (ItemStack type : palette) {
+            ItemStack.OPTIONAL_STREAM_CODEC.encode(buffer, type);
+        }
+        buffer.writeVarInt(packet.updates.size());
+        index = 0;
+        for (Int2ObjectMap.Entry<TransporterStack> entry : packet.updates.int2ObjectEntrySet()) {
+            buffer.writeVarInt(entry.getIntKey());
+            buffer.writeVarInt(typeIndices[index++]);
+            entry.getValue().writeCompact(buffer, packet.pos);
+        }
+    }
+
+    private static PacketTransporterBatch decode(RegistryFriendlyByteBuf buffer) {
+        long pos = buffer.readVarLong();
+        int deleteCount = buffer.readVarInt();
+        IntSet deletes = new IntOpenHashSet(deleteCount);
+        for (int i = 0; i < deleteCount; i++) {
+            deletes.add(buffer.readVarInt());
+        }
+        ItemStack[] palette = new ItemStack[buffer.readVarInt()];
+        for (int i = 0; i < palette.length; i++) {
+            palette[i] = ItemStack.OPTIONAL_STREAM_CODEC.decode(buffer);
+        }
+        int updateCount = buffer.readVarInt();
+        Int2ObjectMap<TransporterStack> updates = new Int2ObjectOpenHashMap<>(updateCount);
+        for (int i = 0; i < updateCount; i++) {
+            int stackId = buffer.readVarInt();
+            ItemStack type = palette[buffer.readVarInt()];
+            updates.put(stackId, TransporterStack.readCompact(buffer, pos, type));
+        }
+        return new PacketTransporterBatch(pos, deletes, updates);
+    }
 
     public static PacketTransporterBatch create(long pos, IntSet deletes, Int2ObjectMap<TransporterStack> updates) {
         for (TransporterStack stack : updates.values()) {
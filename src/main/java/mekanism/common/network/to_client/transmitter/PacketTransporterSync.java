@@ -6,20 +6,27 @@ import mekanism.common.network.IMekanismPacket;
 import mekanism.common.network.PacketUtils;
 import mekanism.common.tile.transmitter.TileEntityLogisticalTransporterBase;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.world.item.ItemStack;
 import net.neoforged.neoforge.network.handling.IPayloadContext;
 import org.jetbrains.annotations.NotNull;
 
 public record PacketTransporterSync(long pos, int stackId, TransporterStack stack) implements IMekanismPacket {
 
     public static final CustomPacketPayload.Type<PacketTransporterSync> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("transporter_sync"));
-    public static final StreamCodec<RegistryFriendlyByteBuf, PacketTransporterSync> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.VAR_LONG, PacketTransporterSync::pos,
-          ByteBufCodecs.VAR_INT, PacketTransporterSync::stackId,
-          TransporterStack.STREAM_CODEC, PacketTransporterSync::stack,
-          PacketTransporterSync::new
+    public static final StreamCodec<RegistryFriendlyByteBuf, PacketTransporterSync> STREAM_CODEC = StreamCodec.of(
+          (buffer, packet) -> {
+              buffer.writeVarLong(packet.pos);
+              buffer.writeVarInt(packet.stackId);
+              ItemStack.OPTIONAL_STREAM_CODEC.encode(buffer, packet.stack.itemStack);
+              packet.stack.writeCompact(buffer, packet.pos);
+          }, buffer -> {
+              long pos = buffer.readVarLong();
+              int stackId = buffer.readVarInt();
+              ItemStack type = ItemStack.OPTIONAL_STREAM_CODEC.decode(buffer);
+              return new PacketTransporterSync(pos, stackId, TransporterStack.readCompact(buffer, pos, type));
+          }
     );
 
     public static PacketTransporterSync create(long pos, int stackId, TransporterStack stack) {
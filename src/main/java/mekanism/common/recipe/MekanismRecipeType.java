@@ -4,6 +4,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import mekanism.api.recipes.ChemicalChemicalToChemicalRecipe;
 import mekanism.api.recipes.ChemicalCrystallizerRecipe;
@@ -144,6 +150,42 @@ public class MekanismRecipeType<VANILLA_INPUT extends RecipeInput, RECIPE extend
         }
     }
 
+    /**
+     * Builds the input caches of all our recipe types, so that the first machines to look up recipes after a reload don't have to wait for the caches to be built.
+     *
+     * @implNote The caches of the different recipe types are independent of each other, so we build them in parallel on our own threads, rather than the common pool that
+     * may be busy with work from other mods. This waits for all the caches to be built before returning.
+     */
+    public static void initCaches(Level world) {
+        ExecutorService executor = getCacheBuilder();
+        List<CompletableFuture<Void>> builds = new ArrayList<>();
+        for (Holder<RecipeType<?>> entry : RECIPE_TYPES.getEntries()) {
+            if (entry.value() instanceof MekanismRecipeType<?, ?, ?> recipeType) {
+                builds.add(CompletableFuture.runAsync(() -> recipeType.inputCache.init(world), executor));
+            }
+        }
+        CompletableFuture.allOf(builds.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private static synchronized ExecutorService getCacheBuilder() {
+        if (cacheBuilder == null) {
+            int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+            AtomicInteger threadCount = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                Thread thread = new Thread(r, "Mekanism Recipe Cache Builder #" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            //Caches are only built after reloads, so let the threads exit when they are not needed
+            executor.allowCoreThreadTimeOut(true);
+            cacheBuilder = executor;
+        }
+        return cacheBuilder;
+    }
+
+    @Nullable
+    private static ExecutorService cacheBuilder;
+
     private List<RecipeHolder<RECIPE>> cachedRecipes = Collections.emptyList();
     private final ResourceLocation registryName;
     private final INPUT_CACHE inputCache;
@@ -1,7 +1,6 @@
 package mekanism.common.recipe.lookup.cache;
 
 import java.util.List;
-import java.util.Set;
 import java.util.function.Function;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.ingredients.InputIngredient;
@@ -17,25 +16,41 @@ import org.jetbrains.annotations.Nullable;
 public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe<?>> implements IInputRecipeCache {
 
     protected final MekanismRecipeType<?, RECIPE, ?> recipeType;
-    protected boolean initialized;
+    protected volatile boolean initialized;
 
     protected AbstractInputRecipeCache(MekanismRecipeType<?, RECIPE, ?> recipeType) {
         this.recipeType = recipeType;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Synchronized on the same lock as {@link #initCacheIfNeeded(Level)} so that the cache can't be cleared while it is being built. Implementations that
+     * clear additional caches should synchronize their overrides as well.
+     */
     @Override
-    public void clear() {
+    public synchronized void clear() {
         //Mark the cache as no longer being initialized
         initialized = false;
     }
 
+    @Override
+    public void init(@Nullable Level world) {
+        initCacheIfNeeded(world);
+    }
+
     /**
      * Initializes the cache if it hasn't already been initialized.
      */
     protected void initCacheIfNeeded(@Nullable Level world) {
         if (!initialized) {
-            initialized = true;
-            initCache(recipeType.getRecipes(world));
+            //Note: We synchronize as the caches may be built off thread after a reload, or looked up by both the client and the server in single player
+            synchronized (this) {
+                if (!initialized) {
+                    initCache(recipeType.getRecipes(world));
+                    initialized = true;
+                }
+            }
         }
     }
 
@@ -50,21 +65,13 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe<?>>
      * Helper to check if a cache contains a given input, or if not, if the complex recipe fallback set contains a matching recipe.
      */
     protected <INPUT, INGREDIENT extends InputIngredient<INPUT>, CACHE extends IInputCache<INPUT, INGREDIENT, RECIPE>> boolean containsInput(
-          @Nullable Level world, INPUT input, Function<RECIPE, INGREDIENT> inputExtractor, CACHE cache, Set<RECIPE> complexRecipes) {
+          @Nullable Level world, INPUT input, CACHE cache, ComplexInputRecipes<INPUT, INGREDIENT, RECIPE> complexRecipes) {
         if (cache.isEmpty(input)) {
             //Don't allow empty inputs
             return false;
         }
         initCacheIfNeeded(world);
-        if (cache.contains(input)) {
-            return true;
-        }
-        for (RECIPE recipe : complexRecipes) {
-            if (inputExtractor.apply(recipe).testType(input)) {
-                return true;
-            }
-        }
-        return false;
+        return cache.contains(input) || !complexRecipes.getMatches(input).isEmpty();
     }
 
     /**
@@ -78,11 +85,11 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe<?>>
      */
     protected <INPUT_1, INGREDIENT_1 extends InputIngredient<INPUT_1>, CACHE_1 extends IInputCache<INPUT_1, INGREDIENT_1, RECIPE>, INPUT_2,
           INGREDIENT_2 extends InputIngredient<INPUT_2>, CACHE_2 extends IInputCache<INPUT_2, INGREDIENT_2, RECIPE>> boolean containsPairing(@Nullable Level world,
-          INPUT_1 input1, Function<RECIPE, INGREDIENT_1> input1Extractor, CACHE_1 cache1, Set<RECIPE> complexIngredients1, INPUT_2 input2,
-          Function<RECIPE, INGREDIENT_2> input2Extractor, CACHE_2 cache2, Set<RECIPE> complexIngredients2) {
+          INPUT_1 input1, CACHE_1 cache1, ComplexInputRecipes<INPUT_1, INGREDIENT_1, RECIPE> complexIngredients1, INPUT_2 input2,
+          Function<RECIPE, INGREDIENT_2> input2Extractor, CACHE_2 cache2, ComplexInputRecipes<INPUT_2, INGREDIENT_2, RECIPE> complexIngredients2) {
         if (cache1.isEmpty(input1)) {
             //Note: We don't bother checking if 2 is empty here as it will be verified in containsInput
-            return containsInput(world, input2, input2Extractor, cache2, complexIngredients2);
+            return containsInput(world, input2, cache2, complexIngredients2);
         } else if (cache2.isEmpty(input2)) {
             return true;
         }
@@ -94,8 +101,8 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe<?>>
             }
         }
         //Our quick lookup 1 cache does not contain it, check any recipes where the 1 ingredient was complex
-        for (RECIPE recipe : complexIngredients1) {
-            if (input1Extractor.apply(recipe).testType(input1) && input2Extractor.apply(recipe).testType(input2)) {
+        for (RECIPE recipe : complexIngredients1.getMatches(input1)) {
+            if (input2Extractor.apply(recipe).testType(input2)) {
                 return true;
             }
         }
@@ -0,0 +1,100 @@
+package mekanism.common.recipe.lookup.cache;
+
+import it.unimi.dsi.fastutil.Hash;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenCustomHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import mekanism.api.recipes.MekanismRecipe;
+import mekanism.api.recipes.ingredients.InputIngredient;
+import mekanism.common.recipe.lookup.cache.type.IInputCache;
+
+/**
+ * Set of recipes that have a complex ingredient for a specific input that could not be mapped by the {@link IInputCache} for that input. As complex ingredients can only
+ * be checked by testing them, this remembers which of the recipes match each type of input that has been looked up, so that the ingredients only have to be tested the
+ * first time a type of input is looked up rather than on every lookup.
+ * <p>
+ * What is remembered is kept per thread, so that lookups never have to wait on each other. In practice this means it is shared by every machine on the server, and
+ * separately by the client in single player.
+ */
+public class ComplexInputRecipes<INPUT, INGREDIENT extends InputIngredient<INPUT>, RECIPE extends MekanismRecipe<?>> {
+
+    /**
+     * Maximum number of input types to remember the matches of per thread, forgetting the least recently used ones first, to ensure inputs with lots of different data
+     * components can't grow the memory used without bound.
+     */
+    private static final int MAX_REMEMBERED_INPUTS = 1_024;
+
+    private final Set<RECIPE> recipes = new HashSet<>();
+    private final Function<RECIPE, INGREDIENT> inputExtractor;
+    private final IInputCache<INPUT, INGREDIENT, RECIPE> cache;
+    private final ThreadLocal<RememberedMatches<INPUT, RECIPE>> matches;
+    /**
+     * Incremented whenever the recipes are cleared, so that each thread knows to forget what it remembered.
+     */
+    private volatile int generation;
+
+    public ComplexInputRecipes(Function<RECIPE, INGREDIENT> inputExtractor, IInputCache<INPUT, INGREDIENT, RECIPE> cache) {
+        this.inputExtractor = inputExtractor;
+        this.cache = cache;
+        this.matches = ThreadLocal.withInitial(() -> new RememberedMatches<>(cache.getInputTypeStrategy()));
+    }
+
+    public void add(RECIPE recipe) {
+        recipes.add(recipe);
+    }
+
+    public void clear() {
+        recipes.clear();
+        generation++;
+    }
+
+    /**
+     * Gets the recipes that have a complex ingredient for this input that matches the type of the given input.
+     *
+     * @param input Input to check.
+     *
+     * @return Recipes whose ingredient matches the type of the given input.
+     */
+    public List<RECIPE> getMatches(INPUT input) {
+        if (recipes.isEmpty()) {
+            return Collections.emptyList();
+        }
+        RememberedMatches<INPUT, RECIPE> remembered = matches.get();
+        int currentGeneration = generation;
+        if (remembered.generation != currentGeneration) {
+            remembered.clear();
+            remembered.generation = currentGeneration;
+        }
+        List<RECIPE> found = remembered.getAndMoveToLast(input);
+        if (found == null) {
+            found = new ArrayList<>();
+            for (RECIPE recipe : recipes) {
+                if (inputExtractor.apply(recipe).testType(input)) {
+                    found.add(recipe);
+                }
+            }
+            found = found.isEmpty() ? Collections.emptyList() : List.copyOf(found);
+            if (remembered.size() >= MAX_REMEMBERED_INPUTS) {
+                remembered.removeFirst();
+            }
+            remembered.putAndMoveToLast(cache.copyInputType(input), found);
+        }
+        return found;
+    }
+
+    /**
+     * Matches remembered by a single thread, ordered from least to most recently used.
+     */
+    private static class RememberedMatches<INPUT, RECIPE> extends Object2ObjectLinkedOpenCustomHashMap<INPUT, List<RECIPE>> {
+
+        private int generation;
+
+        private RememberedMatches(Hash.Strategy<? super INPUT> strategy) {
+            super(strategy);
+        }
+    }
+}
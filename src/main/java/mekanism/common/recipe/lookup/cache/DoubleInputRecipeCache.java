@@ -21,8 +21,8 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
       RECIPE extends MekanismRecipe<?> & BiPredicate<INPUT_A, INPUT_B>, CACHE_A extends IInputCache<INPUT_A, INGREDIENT_A, RECIPE>,
       CACHE_B extends IInputCache<INPUT_B, INGREDIENT_B, RECIPE>> extends AbstractInputRecipeCache<RECIPE> {
 
-    private final Set<RECIPE> complexIngredientA = new HashSet<>();
-    private final Set<RECIPE> complexIngredientB = new HashSet<>();
+    private final ComplexInputRecipes<INPUT_A, INGREDIENT_A, RECIPE> complexIngredientA;
+    private final ComplexInputRecipes<INPUT_B, INGREDIENT_B, RECIPE> complexIngredientB;
     private final Set<RECIPE> complexRecipes = new HashSet<>();
     private final Function<RECIPE, INGREDIENT_A> inputAExtractor;
     private final Function<RECIPE, INGREDIENT_B> inputBExtractor;
@@ -36,10 +36,12 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
         this.inputBExtractor = inputBExtractor;
         this.cacheA = cacheA;
         this.cacheB = cacheB;
+        this.complexIngredientA = new ComplexInputRecipes<>(inputAExtractor, cacheA);
+        this.complexIngredientB = new ComplexInputRecipes<>(inputBExtractor, cacheB);
     }
 
     @Override
-    public void clear() {
+    public synchronized void clear() {
         super.clear();
         cacheA.clear();
         cacheB.clear();
@@ -57,7 +59,7 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInputA(@Nullable Level world, INPUT_A input) {
-        return containsInput(world, input, inputAExtractor, cacheA, complexIngredientA);
+        return containsInput(world, input, cacheA, complexIngredientA);
     }
 
     /**
@@ -69,7 +71,7 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInputB(@Nullable Level world, INPUT_B input) {
-        return containsInput(world, input, inputBExtractor, cacheB, complexIngredientB);
+        return containsInput(world, input, cacheB, complexIngredientB);
     }
 
     /**
@@ -86,7 +88,7 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * {@link #containsInputBA(Level, Object, Object)}.
      */
     public boolean containsInputAB(@Nullable Level world, INPUT_A inputA, INPUT_B inputB) {
-        return containsPairing(world, inputA, inputAExtractor, cacheA, complexIngredientA, inputB, inputBExtractor, cacheB, complexIngredientB);
+        return containsPairing(world, inputA, cacheA, complexIngredientA, inputB, inputBExtractor, cacheB, complexIngredientB);
     }
 
     /**
@@ -103,7 +105,7 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
      * {@link #containsInputAB(Level, Object, Object)}.
      */
     public boolean containsInputBA(@Nullable Level world, INPUT_A inputA, INPUT_B inputB) {
-        return containsPairing(world, inputB, inputBExtractor, cacheB, complexIngredientB, inputA, inputAExtractor, cacheA, complexIngredientA);
+        return containsPairing(world, inputB, cacheB, complexIngredientB, inputA, inputAExtractor, cacheA, complexIngredientA);
     }
 
     /**
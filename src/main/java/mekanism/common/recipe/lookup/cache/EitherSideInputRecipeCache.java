@@ -33,7 +33,7 @@ public abstract class EitherSideInputRecipeCache<INPUT, INGREDIENT extends Input
     }
 
     @Override
-    public void clear() {
+    public synchronized void clear() {
         super.clear();
         cache.clear();
         complexRecipes.clear();
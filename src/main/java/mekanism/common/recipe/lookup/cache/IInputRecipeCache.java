@@ -1,7 +1,17 @@
 package mekanism.common.recipe.lookup.cache;
 
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
 public interface IInputRecipeCache {
 
+    /**
+     * Builds the input cache if it hasn't been built yet.
+     *
+     * @param world World to get the recipes from.
+     */
+    void init(@Nullable Level world);
+
     /**
      * Clears the input cache
      */
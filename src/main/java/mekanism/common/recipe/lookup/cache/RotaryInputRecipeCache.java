@@ -1,10 +1,10 @@
 package mekanism.common.recipe.lookup.cache;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.recipes.RotaryRecipe;
+import mekanism.api.recipes.ingredients.ChemicalStackIngredient;
+import mekanism.api.recipes.ingredients.FluidStackIngredient;
 import mekanism.common.recipe.MekanismRecipeType;
 import mekanism.common.recipe.lookup.cache.type.ChemicalInputCache;
 import mekanism.common.recipe.lookup.cache.type.FluidInputCache;
@@ -21,15 +21,17 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
 
     private final ChemicalInputCache<RotaryRecipe> chemicalInputCache = new ChemicalInputCache<>();
     private final FluidInputCache<RotaryRecipe> fluidInputCache = new FluidInputCache<>();
-    private final Set<RotaryRecipe> complexChemicalInputRecipes = new HashSet<>();
-    private final Set<RotaryRecipe> complexFluidInputRecipes = new HashSet<>();
+    private final ComplexInputRecipes<ChemicalStack, ChemicalStackIngredient, RotaryRecipe> complexChemicalInputRecipes =
+          new ComplexInputRecipes<>(RotaryRecipe::getChemicalInput, chemicalInputCache);
+    private final ComplexInputRecipes<FluidStack, FluidStackIngredient, RotaryRecipe> complexFluidInputRecipes =
+          new ComplexInputRecipes<>(RotaryRecipe::getFluidInput, fluidInputCache);
 
     public RotaryInputRecipeCache(MekanismRecipeType<?, RotaryRecipe, ?> recipeType) {
         super(recipeType);
     }
 
     @Override
-    public void clear() {
+    public synchronized void clear() {
         super.clear();
         chemicalInputCache.clear();
         fluidInputCache.clear();
@@ -46,7 +48,7 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInput(@Nullable Level world, FluidStack input) {
-        return containsInput(world, input, RotaryRecipe::getFluidInput, fluidInputCache, complexFluidInputRecipes);
+        return containsInput(world, input, fluidInputCache, complexFluidInputRecipes);
     }
 
     /**
@@ -58,7 +60,7 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInput(@Nullable Level world, ChemicalStack input) {
-        return containsInput(world, input, RotaryRecipe::getChemicalInput, chemicalInputCache, complexChemicalInputRecipes);
+        return containsInput(world, input, chemicalInputCache, complexChemicalInputRecipes);
     }
 
     /**
@@ -77,7 +79,7 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
         }
         initCacheIfNeeded(world);
         RotaryRecipe recipe = findFirstRecipe(input, fluidInputCache.getRecipes(input));
-        return recipe == null ? findFirstRecipe(input, complexFluidInputRecipes) : recipe;
+        return recipe == null ? findFirstRecipe(input, complexFluidInputRecipes.getMatches(input)) : recipe;
     }
 
     @Nullable
@@ -106,7 +108,7 @@ public class RotaryInputRecipeCache extends AbstractInputRecipeCache<RotaryRecip
         }
         initCacheIfNeeded(world);
         RotaryRecipe recipe = findFirstRecipe(input, chemicalInputCache.getRecipes(input));
-        return recipe == null ? findFirstRecipe(input, complexChemicalInputRecipes) : recipe;
+        return recipe == null ? findFirstRecipe(input, complexChemicalInputRecipes.getMatches(input)) : recipe;
     }
 
     @Nullable
@@ -1,8 +1,8 @@
 package mekanism.common.recipe.lookup.cache.type;
 
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -20,8 +20,10 @@ public abstract class BaseInputCache<KEY, INPUT, INGREDIENT extends InputIngredi
     /**
      * Map of keys representing inputs to a set of the recipes that contain said input. This allows for quick contains checking by checking if a key exists, as well as
      * quicker recipe lookup.
+     *
+     * @implNote As the keys are registry objects, we compare them by identity rather than having to go through their hash codes and equals methods.
      */
-    private final Map<KEY, List<RECIPE>> inputCache = new HashMap<>();
+    private final Map<KEY, List<RECIPE>> inputCache = new Reference2ObjectOpenHashMap<>();
 
     @Override
     public void clear() {
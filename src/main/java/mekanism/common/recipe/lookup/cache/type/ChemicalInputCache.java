@@ -1,5 +1,6 @@
 package mekanism.common.recipe.lookup.cache.type;
 
+import it.unimi.dsi.fastutil.Hash;
 import mekanism.api.chemical.Chemical;
 import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.recipes.MekanismRecipe;
@@ -7,6 +8,21 @@ import mekanism.api.recipes.ingredients.ChemicalStackIngredient;
 
 public class ChemicalInputCache<RECIPE extends MekanismRecipe<?>> extends BaseInputCache<Chemical, ChemicalStack, ChemicalStackIngredient, RECIPE> {
 
+    private static final Hash.Strategy<ChemicalStack> CHEMICAL_TYPE_STRATEGY = new Hash.Strategy<>() {
+        @Override
+        public int hashCode(ChemicalStack stack) {
+            return stack == null ? 0 : stack.getChemical().hashCode();
+        }
+
+        @Override
+        public boolean equals(ChemicalStack a, ChemicalStack b) {
+            if (a == b) {
+                return true;
+            }
+            return a != null && b != null && a.getChemical() == b.getChemical();
+        }
+    };
+
     @Override
     public boolean mapInputs(RECIPE recipe, ChemicalStackIngredient inputIngredient) {
         for (Chemical chemical : inputIngredient.ingredient().getChemicals()) {
@@ -23,6 +39,16 @@ public class ChemicalInputCache<RECIPE extends MekanismRecipe<?>> extends BaseIn
         return stack.getChemical();
     }
 
+    @Override
+    public Hash.Strategy<? super ChemicalStack> getInputTypeStrategy() {
+        return CHEMICAL_TYPE_STRATEGY;
+    }
+
+    @Override
+    public ChemicalStack copyInputType(ChemicalStack input) {
+        return input.copyWithAmount(1);
+    }
+
     @Override
     public boolean isEmpty(ChemicalStack input) {
         return input.isEmpty();
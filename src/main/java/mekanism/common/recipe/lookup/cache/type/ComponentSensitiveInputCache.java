@@ -23,8 +23,10 @@ public abstract class ComponentSensitiveInputCache<KEY, INPUT, INGREDIENT extend
      * well as quicker recipe lookup.
      */
     private final Map<INPUT, List<RECIPE>> componentInputCache;
+    private final Hash.Strategy<? super INPUT> componentHashStrategy;
 
     protected ComponentSensitiveInputCache(Hash.Strategy<? super INPUT> componentHashStrategy) {
+        this.componentHashStrategy = componentHashStrategy;
         this.componentInputCache = new Object2ObjectOpenCustomHashMap<>(0, Hash.VERY_FAST_LOAD_FACTOR, componentHashStrategy);
     }
 
@@ -34,6 +36,11 @@ public abstract class ComponentSensitiveInputCache<KEY, INPUT, INGREDIENT extend
         componentInputCache.clear();
     }
 
+    @Override
+    public Hash.Strategy<? super INPUT> getInputTypeStrategy() {
+        return componentHashStrategy;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -58,6 +58,11 @@ public class FluidInputCache<RECIPE extends MekanismRecipe<?>> extends Component
         return stack.getFluid();
     }
 
+    @Override
+    public FluidStack copyInputType(FluidStack input) {
+        return input.copyWithAmount(1);
+    }
+
     @Override
     public boolean isEmpty(FluidStack input) {
         return input.isEmpty();
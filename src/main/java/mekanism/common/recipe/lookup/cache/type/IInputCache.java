@@ -1,5 +1,6 @@
 package mekanism.common.recipe.lookup.cache.type;
 
+import it.unimi.dsi.fastutil.Hash;
 import java.util.function.Predicate;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.ingredients.InputIngredient;
@@ -64,6 +65,22 @@ public interface IInputCache<INPUT, INGREDIENT extends InputIngredient<INPUT>, R
      */
     boolean mapInputs(RECIPE recipe, INGREDIENT inputIngredient);
 
+    /**
+     * Gets the strategy to use for comparing inputs by their type, ignoring their size. This must take into account any data that complex ingredients may check.
+     *
+     * @return Hash strategy for inputs of this cache.
+     */
+    Hash.Strategy<? super INPUT> getInputTypeStrategy();
+
+    /**
+     * Copies the given input so that it can safely be used as a key that is compared using the {@link #getInputTypeStrategy() input type strategy}.
+     *
+     * @param input Input to copy.
+     *
+     * @return Copy of the input.
+     */
+    INPUT copyInputType(INPUT input);
+
     /**
      * Clears this {@link IInputCache}
      */
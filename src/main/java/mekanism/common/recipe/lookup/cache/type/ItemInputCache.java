@@ -58,6 +58,11 @@ public class ItemInputCache<RECIPE extends MekanismRecipe<?>> extends ComponentS
         return stack.getItem();
     }
 
+    @Override
+    public ItemStack copyInputType(ItemStack input) {
+        return input.copyWithCount(1);
+    }
+
     @Override
     public boolean isEmpty(ItemStack input) {
         return input.isEmpty();
@@ -1,14 +1,15 @@
 package mekanism.common.recipe.lookup.monitor;
 
+import java.util.function.IntConsumer;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.common.recipe.lookup.IRecipeLookupHandler;
 import org.jetbrains.annotations.NotNull;
 
 public class FactoryRecipeCacheLookupMonitor<RECIPE extends MekanismRecipe<?>> extends RecipeCacheLookupMonitor<RECIPE> {
 
-    private final Runnable setSortingNeeded;
+    private final IntConsumer setSortingNeeded;
 
-    public FactoryRecipeCacheLookupMonitor(IRecipeLookupHandler<RECIPE> handler, int cacheIndex, Runnable setSortingNeeded) {
+    public FactoryRecipeCacheLookupMonitor(IRecipeLookupHandler<RECIPE> handler, int cacheIndex, IntConsumer setSortingNeeded) {
         super(handler, cacheIndex);
         this.setSortingNeeded = setSortingNeeded;
     }
@@ -16,8 +17,8 @@ public class FactoryRecipeCacheLookupMonitor<RECIPE extends MekanismRecipe<?>> e
     @Override
     public void onChange() {
         super.onChange();
-        //Mark that sorting is needed
-        setSortingNeeded.run();
+        //Mark that sorting is needed for our process
+        setSortingNeeded.accept(cacheIndex);
     }
 
     public void updateCachedRecipe(@NotNull RECIPE recipe) {
@@ -18,6 +18,10 @@ public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe<?>> implemen
     protected CachedRecipe<RECIPE> cachedRecipe;
     protected boolean hasNoRecipe;
     protected boolean shouldUnpause;
+    /**
+     * Whether the cached recipe is currently processing, in which case any changes to the contents were made by the recipe itself.
+     */
+    private boolean processing;
 
     public RecipeCacheLookupMonitor(IRecipeLookupHandler<RECIPE> handler) {
         this(handler, 0);
@@ -45,7 +49,11 @@ public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe<?>> implemen
     }
 
     public void unpause() {
-        shouldUnpause = true;
+        //Note: Changes the cached recipe makes while processing, such as using energy, are already accounted for by the cached recipe, and as a recipe that is
+        // processing isn't paused, there is nothing for them to unpause. Ignoring them lets the cached recipe keep reusing its operations between ticks
+        if (!processing) {
+            shouldUnpause = true;
+        }
     }
 
     /**
@@ -74,7 +82,12 @@ public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe<?>> implemen
                 shouldUnpause = false;
                 cachedRecipe.unpauseErrors();
             }
-            cachedRecipe.process();
+            processing = true;
+            try {
+                cachedRecipe.process();
+            } finally {
+                processing = false;
+            }
             return true;
         }
         return false;
@@ -95,6 +95,8 @@ import mekanism.common.lib.LastEnergyTracker;
 import mekanism.common.lib.chunkloading.IChunkLoader;
 import mekanism.common.lib.frequency.IFrequencyHandler;
 import mekanism.common.lib.frequency.TileComponentFrequency;
+import mekanism.common.lib.profiler.MekanismProfiler;
+import mekanism.common.lib.profiler.MekanismProfiler.Section;
 import mekanism.common.lib.security.BlockSecurityUtils;
 import mekanism.common.lib.security.ISecurityTile;
 import mekanism.common.registries.MekanismDataComponents;
@@ -617,6 +619,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     }
 
     public static void tickServer(Level level, BlockPos pos, BlockState state, TileEntityMekanism tile) {
+        long start = MekanismProfiler.begin();
         tile.frequencyComponent.tickServer(level, pos);
         if (tile.supportsUpgrades()) {
             tile.upgradeComponent.tickServer();
@@ -662,6 +665,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         if (sendUpdatePacket) {
             tile.sendUpdatePacket();
         }
+        MekanismProfiler.end(Section.TILES, tile.getBlockType(), tile, start);
     }
 
     public void open(Player player) {
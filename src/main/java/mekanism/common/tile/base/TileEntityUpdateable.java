@@ -6,7 +6,8 @@ import java.util.Objects;
 import mekanism.api.Chunk3D;
 import mekanism.common.Mekanism;
 import mekanism.common.network.PacketUtils;
-import mekanism.common.network.to_client.PacketUpdateTile;
+import mekanism.common.network.TileUpdateScheduler;
+import mekanism.common.network.to_client.PacketUpdateTile.TileUpdate;
 import mekanism.common.registration.impl.TileEntityTypeRegistryObject;
 import mekanism.common.tile.interfaces.ITileWrapper;
 import mekanism.common.util.WorldUtils;
@@ -37,6 +38,17 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
     private boolean cacheCoord;
     private long lastSave;
     private final long worldPositionLong;
+    /**
+     * Copy of the last reduced update tag that was sent to the players tracking this tile, so that we only have to send them what has changed since. Only used on the
+     * server.
+     */
+    @Nullable
+    private CompoundTag lastSentUpdateTag;
+    /**
+     * Copy of the last full update tag that was received, so that updates that only contain what has changed can be applied to it. Only used on the client.
+     */
+    @Nullable
+    private CompoundTag lastReceivedUpdateTag;
 
     public TileEntityUpdateable(TileEntityTypeRegistryObject<?> type, BlockPos pos, BlockState state) {
         super(type.get(), pos, state);
@@ -128,6 +140,8 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
 
     @Override
     public void handleUpdateTag(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider provider) {
+        //Note: We copy the tag as on the integrated server it may be the same instance the server created
+        lastReceivedUpdateTag = tag.copy();
         //We don't want to do a full read from NBT so simply call the super's read method to let Neo do whatever
         // it wants, but don't treat this as if it was the full saved NBT data as not everything has to be synced to the client
         super.loadAdditional(tag, provider);
@@ -140,6 +154,8 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
     @NotNull
     @Override
     public CompoundTag getUpdateTag(@NotNull HolderLookup.Provider provider) {
+        //Note: Whoever receives this tag may not have received the last update we sent, so make sure that the next update we send is a full one
+        lastSentUpdateTag = null;
         return getReducedUpdateTag(provider);
     }
 
@@ -177,11 +193,49 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
         } else if (PacketUtils.hasPlayersTracking((ServerLevel) tracking.getLevel(), tracking.getBlockPos())) {
             //Note: We use our own update packet/channel to avoid chunk trashing and minecraft attempting to rerender
             // the entire chunk when most often we are just updating a TileEntityRenderer, so the chunk itself
-            // does not need to and should not be redrawn
-            PacketUtils.sendToAllTracking(new PacketUpdateTile(this), tracking);
+            // does not need to and should not be redrawn. We also wait until the end of the tick to send it, so that multiple
+            // update requests in the same tick only get sent once, and all the updates for a chunk get sent together
+            TileUpdateScheduler.schedule(this, tracking);
+        } else {
+            //Nobody is going to receive this update, so make sure the next update we send is a full one
+            lastSentUpdateTag = null;
         }
     }
 
+    /**
+     * Creates the update to send to the players tracking this tile. Unless a full update is required, this only contains the entries of the reduced update tag that have
+     * changed since the last update that was sent.
+     *
+     * @param full {@code true} if the full update tag has to be sent, such as when it is being sent to players tracking a different position who may not have received
+     *             the previous updates.
+     *
+     * @return The update to send, or {@code null} if nothing has changed since the last update that was sent.
+     */
+    @Nullable
+    public TileUpdate createUpdate(@NotNull HolderLookup.Provider provider, boolean full) {
+        CompoundTag updateTag = getReducedUpdateTag(provider);
+        TileUpdate update;
+        if (full || lastSentUpdateTag == null) {
+            update = TileUpdate.full(getBlockPos(), updateTag);
+        } else {
+            update = TileUpdate.changes(getBlockPos(), lastSentUpdateTag, updateTag);
+            if (update == null) {
+                return null;
+            }
+        }
+        //Note: If a full update is being sent to players tracking a different position, we don't know what the players tracking this tile last received.
+        // Otherwise, we store a copy, as on the integrated server the tag we send is given to the client as is
+        lastSentUpdateTag = full ? null : updateTag.copy();
+        return update;
+    }
+
+    /**
+     * Handles an update that was sent by {@link #createUpdate(HolderLookup.Provider, boolean)}.
+     */
+    public void handleUpdate(@NotNull TileUpdate update, @NotNull HolderLookup.Provider provider) {
+        handleUpdatePacket(update.apply(lastReceivedUpdateTag), provider);
+    }
+
     protected void updateModelData() {
         requestModelDataUpdate();
         WorldUtils.updateBlock(getLevel(), getBlockPos(), getBlockState());
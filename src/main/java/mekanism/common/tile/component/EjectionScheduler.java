@@ -0,0 +1,306 @@
+package mekanism.common.tile.component;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import mekanism.api.Action;
+import mekanism.api.AutomationType;
+import mekanism.api.chemical.ChemicalStack;
+import mekanism.api.chemical.IChemicalHandler;
+import mekanism.api.chemical.IChemicalTank;
+import mekanism.api.energy.IEnergyContainer;
+import mekanism.api.energy.IStrictEnergyHandler;
+import mekanism.api.fluid.IExtendedFluidTank;
+import mekanism.api.math.MathUtils;
+import mekanism.common.tile.base.TileEntityMekanism;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.neoforged.neoforge.fluids.FluidStack;
+import net.neoforged.neoforge.fluids.capability.IFluidHandler;
+import net.neoforged.neoforge.fluids.capability.IFluidHandler.FluidAction;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Collects the chemicals, fluids, and energy that ejectors want to push into their neighbors during a level tick, and pushes them at the end of the tick grouped by the
+ * handler they are being pushed into. When many machines eject into the same handler, such as a shared buffer or the same transmitter, the handler only has to be
+ * inserted into once per type of contents rather than once per machine.
+ * <p>
+ * Only ejections that have a single target get scheduled. Ejections that are split between multiple targets are still performed immediately so that they keep being
+ * split evenly between those targets.
+ * <p>
+ * As the target may be removed or replaced after an ejection into it is scheduled, each ejection also keeps track of how to look up its target, and only gets performed
+ * if that still resolves to the same handler when the ejections are flushed.
+ *
+ * @implNote As the scheduled ejections are only performed once every block entity in the level has ticked, the contents stay in the ejecting tile until the end of the
+ * tick. This means that for the rest of the tick, the ejecting tile (and anything that reads its contents, such as comparators) still sees the contents that are going
+ * to be ejected, and the target only sees the ejected contents once the level has finished ticking, even if it ticks after the ejecting tile.
+ */
+public class EjectionScheduler {
+
+    private static final Map<ResourceKey<Level>, EjectionScheduler> schedulers = new Object2ObjectOpenHashMap<>();
+
+    private final Map<EjectionType<?, ?, ?>, Map<Object, List<Ejection<?>>>> pending = new Reference2ObjectLinkedOpenHashMap<>();
+
+    /**
+     * @param targetLookup Looks up the current target, usually the capability cache the target was retrieved from.
+     */
+    public static void scheduleChemical(TileEntityMekanism tile, IChemicalHandler target, Supplier<@Nullable IChemicalHandler> targetLookup, IChemicalTank tank,
+          long maxOutput) {
+        schedule(tile, EjectionType.CHEMICAL, target, targetLookup, tank, maxOutput);
+    }
+
+    /**
+     * @param targetLookup Looks up the current target, usually the capability cache the target was retrieved from.
+     */
+    public static void scheduleFluid(TileEntityMekanism tile, IFluidHandler target, Supplier<@Nullable IFluidHandler> targetLookup, IExtendedFluidTank tank,
+          int maxOutput) {
+        schedule(tile, EjectionType.FLUID, target, targetLookup, tank, maxOutput);
+    }
+
+    /**
+     * @param targetLookup Looks up the current target, usually the capability cache the target was retrieved from.
+     */
+    public static void scheduleEnergy(TileEntityMekanism tile, IStrictEnergyHandler target, Supplier<@Nullable IStrictEnergyHandler> targetLookup,
+          IEnergyContainer container, long maxOutput) {
+        schedule(tile, EjectionType.ENERGY, target, targetLookup, container, maxOutput);
+    }
+
+    private static <HANDLER, CONTAINER> void schedule(TileEntityMekanism tile, EjectionType<HANDLER, CONTAINER, ?> type, HANDLER target,
+          Supplier<@Nullable HANDLER> targetLookup, CONTAINER container, long maxOutput) {
+        if (maxOutput > 0 && tile.getLevel() != null) {
+            schedulers.computeIfAbsent(tile.getLevel().dimension(), dimension -> new EjectionScheduler())
+                  .schedule(type, target, targetLookup, tile::isRemoved, container, maxOutput);
+        }
+    }
+
+    /**
+     * Performs all the ejections that were scheduled in the given level this tick.
+     */
+    public static void flush(ServerLevel level) {
+        EjectionScheduler scheduler = schedulers.get(level.dimension());
+        if (scheduler != null) {
+            scheduler.flush();
+        }
+    }
+
+    /**
+     * @param removed Checks if the source of the ejection has been removed.
+     */
+    <HANDLER, CONTAINER> void schedule(EjectionType<HANDLER, CONTAINER, ?> type, HANDLER target, Supplier<@Nullable HANDLER> targetLookup, BooleanSupplier removed,
+          CONTAINER container, long maxOutput) {
+        if (maxOutput > 0) {
+            pending.computeIfAbsent(type, t -> new Reference2ObjectLinkedOpenHashMap<>())
+                  .computeIfAbsent(target, t -> new ArrayList<>())
+                  .add(new Ejection<>(removed, targetLookup, container, maxOutput));
+        }
+    }
+
+    void flush() {
+        if (!pending.isEmpty()) {
+            for (Map.Entry<EjectionType<?, ?, ?>, Map<Object, List<Ejection<?>>>> entry : pending.entrySet()) {
+                EjectionType<?, ?, ?> type = entry.getKey();
+                for (Map.Entry<Object, List<Ejection<?>>> targetEntry : entry.getValue().entrySet()) {
+                    eject(type, targetEntry.getKey(), targetEntry.getValue());
+                }
+            }
+            pending.clear();
+        }
+    }
+
+    public static void unload(Level level) {
+        schedulers.remove(level.dimension());
+    }
+
+    public static void reset() {
+        schedulers.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <HANDLER, CONTAINER, STACK> void eject(EjectionType<HANDLER, CONTAINER, STACK> type, Object target, List<Ejection<?>> scheduled) {
+        HANDLER handler = (HANDLER) target;
+        List<Ejection<CONTAINER>> ejections = (List<Ejection<CONTAINER>>) (List<?>) scheduled;
+        int size = ejections.size();
+        List<STACK> offers = new ArrayList<>(size);
+        for (Ejection<CONTAINER> ejection : ejections) {
+            //Note: We double-check the tile wasn't removed after it scheduled the ejection, so that we don't take anything from the contents of a removed tile,
+            // and that the target is still the same handler, so that we don't insert into a target that was removed or replaced
+            STACK offer = null;
+            if (!ejection.removed().getAsBoolean() && ejection.targetLookup().get() == handler) {
+                offer = type.simulateExtract(ejection.container(), ejection.maxOutput());
+            }
+            offers.add(offer == null || type.getAmount(offer) <= 0 ? null : offer);
+        }
+        long[] amounts = new long[size];
+        for (int i = 0; i < size; i++) {
+            STACK stack = offers.get(i);
+            if (stack == null) {
+                continue;
+            }
+            //Combine all the offers that are of the same type as this one into a single insertion
+            long total = 0;
+            for (int j = i; j < size; j++) {
+                STACK other = offers.get(j);
+                if (other != null && type.isSameType(stack, other)) {
+                    amounts[j] = type.getAmount(other);
+                    total = MathUtils.addClamped(total, amounts[j]);
+                    offers.set(j, null);
+                } else {
+                    amounts[j] = 0;
+                }
+            }
+            long accepted = type.insert(handler, stack, Math.min(total, type.getMaxAmount()));
+            if (accepted > 0) {
+                long[] taken = split(accepted, amounts);
+                for (int j = i; j < size; j++) {
+                    if (taken[j] > 0) {
+                        type.extract(ejections.get(j).container(), taken[j]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Splits the given amount as evenly as possible between the offers, without taking more than any of them offered.
+     *
+     * @param amount Amount to split, must not be more than the sum of the offers.
+     * @param offers Amounts that were offered.
+     *
+     * @return How much to take from each offer, at the same indices as the offers.
+     */
+    static long[] split(long amount, long[] offers) {
+        long[] taken = new long[offers.length];
+        int[] order = new int[offers.length];
+        int count = 0;
+        for (int i = 0; i < offers.length; i++) {
+            if (offers[i] > 0) {
+                order[count++] = i;
+            }
+        }
+        //Go from the smallest offer to the largest, so that any offers that can't provide their share are fully used, and the larger offers make up the difference
+        IntArrays.quickSort(order, 0, count, (a, b) -> Long.compare(offers[a], offers[b]));
+        long remaining = amount;
+        for (int i = 0; i < count && remaining > 0; i++) {
+            int index = order[i];
+            int left = count - i;
+            //Note: We round the share up so that the remainder gets used by the smaller offers instead of being left over at the end
+            long share = Math.min(offers[index], remaining / left + (remaining % left == 0 ? 0 : 1));
+            taken[index] = share;
+            remaining -= share;
+        }
+        return taken;
+    }
+
+    private record Ejection<CONTAINER>(BooleanSupplier removed, Supplier<?> targetLookup, CONTAINER container, long maxOutput) {
+    }
+
+    interface EjectionType<HANDLER, CONTAINER, STACK> {
+
+        EjectionType<IChemicalHandler, IChemicalTank, ChemicalStack> CHEMICAL = new EjectionType<>() {
+            @Override
+            public ChemicalStack simulateExtract(IChemicalTank tank, long maxOutput) {
+                return tank.extract(maxOutput, Action.SIMULATE, AutomationType.INTERNAL);
+            }
+
+            @Override
+            public long getAmount(ChemicalStack stack) {
+                return stack.getAmount();
+            }
+
+            @Override
+            public boolean isSameType(ChemicalStack a, ChemicalStack b) {
+                return a.getChemical() == b.getChemical();
+            }
+
+            @Override
+            public long insert(IChemicalHandler handler, ChemicalStack type, long amount) {
+                return amount - handler.insertChemical(type.copyWithAmount(amount), Action.EXECUTE).getAmount();
+            }
+
+            @Override
+            public void extract(IChemicalTank tank, long amount) {
+                tank.extract(amount, Action.EXECUTE, AutomationType.INTERNAL);
+            }
+        };
+        EjectionType<IFluidHandler, IExtendedFluidTank, FluidStack> FLUID = new EjectionType<>() {
+            @Override
+            public FluidStack simulateExtract(IExtendedFluidTank tank, long maxOutput) {
+                return tank.extract((int) maxOutput, Action.SIMULATE, AutomationType.INTERNAL);
+            }
+
+            @Override
+            public long getAmount(FluidStack stack) {
+                return stack.getAmount();
+            }
+
+            @Override
+            public long getMaxAmount() {
+                return Integer.MAX_VALUE;
+            }
+
+            @Override
+            public boolean isSameType(FluidStack a, FluidStack b) {
+                return FluidStack.isSameFluidSameComponents(a, b);
+            }
+
+            @Override
+            public long insert(IFluidHandler handler, FluidStack type, long amount) {
+                return handler.fill(type.copyWithAmount((int) amount), FluidAction.EXECUTE);
+            }
+
+            @Override
+            public void extract(IExtendedFluidTank tank, long amount) {
+                tank.extract((int) amount, Action.EXECUTE, AutomationType.INTERNAL);
+            }
+        };
+        EjectionType<IStrictEnergyHandler, IEnergyContainer, Long> ENERGY = new EjectionType<>() {
+            @Override
+            public Long simulateExtract(IEnergyContainer container, long maxOutput) {
+                return container.extract(maxOutput, Action.SIMULATE, AutomationType.INTERNAL);
+            }
+
+            @Override
+            public long getAmount(Long stack) {
+                return stack;
+            }
+
+            @Override
+            public boolean isSameType(Long a, Long b) {
+                return true;
+            }
+
+            @Override
+            public long insert(IStrictEnergyHandler handler, Long type, long amount) {
+                return amount - handler.insertEnergy(amount, Action.EXECUTE);
+            }
+
+            @Override
+            public void extract(IEnergyContainer container, long amount) {
+                container.extract(amount, Action.EXECUTE, AutomationType.INTERNAL);
+            }
+        };
+
+        STACK simulateExtract(CONTAINER container, long maxOutput);
+
+        long getAmount(STACK stack);
+
+        default long getMaxAmount() {
+            return Long.MAX_VALUE;
+        }
+
+        boolean isSameType(STACK a, STACK b);
+
+        /**
+         * @return Amount that was accepted.
+         */
+        long insert(HANDLER handler, STACK type, long amount);
+
+        void extract(CONTAINER container, long amount);
+    }
+}
@@ -224,15 +224,28 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
                     case CHEMICAL -> {
                         IChemicalTank tank = (IChemicalTank) entry.getKey();
                         List<BlockCapabilityCache<IChemicalHandler, @Nullable Direction>> caches = getCapabilityCaches(level, pos, typeCapabilityCaches, sides, Capabilities.CHEMICAL);
-                        ChemicalUtil.emit(caches, tank, chemicalEjectRate.getAsLong());
+                        BlockCapabilityCache<IChemicalHandler, @Nullable Direction> target = getSingleTarget(caches);
+                        if (target == null) {
+                            ChemicalUtil.emit(caches, tank, chemicalEjectRate.getAsLong());
+                        } else {
+                            EjectionScheduler.scheduleChemical(tile, target.getCapability(), target::getCapability, tank, chemicalEjectRate.getAsLong());
+                        }
                     }
                     case FLUID -> {
+                        IExtendedFluidTank tank = (IExtendedFluidTank) entry.getKey();
                         List<BlockCapabilityCache<IFluidHandler, @Nullable Direction>> caches = getCapabilityCaches(level, pos, typeCapabilityCaches, sides, Capabilities.FLUID);
-                        FluidUtils.emit(caches, (IExtendedFluidTank) entry.getKey(), fluidEjectRate.getAsInt());
+                        BlockCapabilityCache<IFluidHandler, @Nullable Direction> target = getSingleTarget(caches);
+                        if (target == null) {
+                            FluidUtils.emit(caches, tank, fluidEjectRate.getAsInt());
+                        } else {
+                            EjectionScheduler.scheduleFluid(tile, target.getCapability(), target::getCapability, tank, fluidEjectRate.getAsInt());
+                        }
                     }
                     case ENERGY -> {
                         IEnergyContainer container = (IEnergyContainer) entry.getKey();
                         List<BlockEnergyCapabilityCache> caches = new ArrayList<>(sides.size());
+                        BlockEnergyCapabilityCache target = null;
+                        int targets = 0;
                         for (Direction side : sides) {
                             BlockEnergyCapabilityCache cache = energyCapabilityCache.get(side);
                             if (cache == null) {
@@ -240,14 +253,43 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
                                 energyCapabilityCache.put(side, cache);
                             }
                             caches.add(cache);
+                            if (cache.getCapability() != null) {
+                                target = cache;
+                                targets++;
+                            }
+                        }
+                        long maxOutput = energyEjectRate == null ? container.getMaxEnergy() : energyEjectRate.getAsLong();
+                        if (targets == 1) {
+                            EjectionScheduler.scheduleEnergy(tile, target.getCapability(), target::getCapability, container, maxOutput);
+                        } else {
+                            CableUtils.emit(caches, container, maxOutput);
                         }
-                        CableUtils.emit(caches, container, energyEjectRate == null ? container.getMaxEnergy() : energyEjectRate.getAsLong());
                     }
                 }
             }
         }
     }
 
+    /**
+     * Gets the cache of the handler to eject into if there is only one, so that the ejection can be combined with any others that are ejecting into the same handler
+     * this tick.
+     *
+     * @return The cache of the only handler, or {@code null} if there is no handler or there are multiple handlers that need to have the ejection split between them.
+     */
+    @Nullable
+    private static <HANDLER> BlockCapabilityCache<HANDLER, @Nullable Direction> getSingleTarget(List<BlockCapabilityCache<HANDLER, @Nullable Direction>> caches) {
+        BlockCapabilityCache<HANDLER, @Nullable Direction> target = null;
+        for (BlockCapabilityCache<HANDLER, @Nullable Direction> cache : caches) {
+            if (cache.getCapability() != null) {
+                if (target != null) {
+                    return null;
+                }
+                target = cache;
+            }
+        }
+        return target;
+    }
+
     @SuppressWarnings("unchecked")
     private static <HANDLER> List<BlockCapabilityCache<HANDLER, @Nullable Direction>> getCapabilityCaches(ServerLevel level, BlockPos pos,
           Map<Direction, BlockCapabilityCache<?, @Nullable Direction>> typeCapabilityCaches, Set<Direction> sides, IMultiTypeCapability<HANDLER, ?> capability) {
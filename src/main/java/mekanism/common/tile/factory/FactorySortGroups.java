@@ -0,0 +1,185 @@
+package mekanism.common.tile.factory;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenCustomHashMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.ItemStackLinkedSet;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Groups of the processes of a factory that contain each type of input, kept up to date as the input slots change so that sorting only has to rebalance the affected
+ * groups.
+ */
+class FactorySortGroups<GROUP extends FactorySortGroups.Group> {
+
+    private final Map<ItemStack, GROUP> groups = new Object2ObjectOpenCustomHashMap<>(ItemStackLinkedSet.TYPE_AND_TAG);
+    private final Function<ItemStack, GROUP> groupCreator;
+    private final GROUP[] processGroups;
+    /**
+     * The size of each input slot as of when it was last sorted.
+     */
+    private final int[] sortedCounts;
+
+    @SuppressWarnings("unchecked")
+    FactorySortGroups(int processes, Function<ItemStack, GROUP> groupCreator) {
+        this.groupCreator = groupCreator;
+        this.processGroups = (GROUP[]) new Group[processes];
+        this.sortedCounts = new int[processes];
+    }
+
+    void clear() {
+        groups.clear();
+        Arrays.fill(processGroups, null);
+    }
+
+    Collection<GROUP> getGroups() {
+        return groups.values();
+    }
+
+    @Nullable
+    GROUP getGroup(int process) {
+        return processGroups[process];
+    }
+
+    /**
+     * Moves a process whose input slot changed into the group for its current input, and collects the groups that need to be rebalanced because of the change.
+     *
+     * @param process  Process that changed.
+     * @param input    Current contents of the process' input slot.
+     * @param affected Groups that need to be rebalanced.
+     *
+     * @return {@code true} if the input slot is empty.
+     */
+    boolean update(int process, ItemStack input, Set<GROUP> affected) {
+        GROUP group = processGroups[process];
+        if (input.isEmpty()) {
+            if (group != null) {
+                remove(group, process);
+                affected.add(group);
+            }
+            return true;
+        }
+        if (group == null || !ItemStack.isSameItemSameComponents(group.type, input)) {
+            if (group != null) {
+                remove(group, process);
+                affected.add(group);
+            }
+            group = groups.get(input);
+            if (group == null) {
+                ItemStack type = input.copyWithCount(1);
+                group = groupCreator.apply(type);
+                groups.put(type, group);
+            }
+            add(group, process);
+            affected.add(group);
+        } else if (sortedCounts[process] != input.getCount()) {
+            affected.add(group);
+        }
+        sortedCounts[process] = input.getCount();
+        return false;
+    }
+
+    void add(GROUP group, int process) {
+        //Keep the processes ordered by their index so that the items get distributed the same way regardless of the order the slots changed in
+        IntList processes = group.processes;
+        int index = processes.size();
+        while (index > 0 && processes.getInt(index - 1) > process) {
+            index--;
+        }
+        processes.add(index, process);
+        processGroups[process] = group;
+    }
+
+    private void remove(GROUP group, int process) {
+        group.processes.rem(process);
+        processGroups[process] = null;
+        if (group.processes.isEmpty()) {
+            groups.remove(group.type);
+        }
+    }
+
+    /**
+     * Adds any groups that may have enough of their input to make use of more processes.
+     */
+    void addExpandable(Set<GROUP> affected) {
+        for (GROUP group : groups.values()) {
+            if (group.canExpand) {
+                affected.add(group);
+            }
+        }
+    }
+
+    /**
+     * Records the sizes of a group's input slots after its items were distributed, so that it isn't rebalanced again if there are no other changes, and removes any
+     * processes that didn't end up getting any items.
+     *
+     * @param inputs Looks up the current contents of a process' input slot.
+     */
+    void markSorted(GROUP group, IntFunction<ItemStack> inputs) {
+        for (IntIterator iterator = group.processes.iterator(); iterator.hasNext(); ) {
+            int process = iterator.nextInt();
+            ItemStack input = inputs.apply(process);
+            if (input.isEmpty()) {
+                processGroups[process] = null;
+                iterator.remove();
+            } else {
+                sortedCounts[process] = input.getCount();
+            }
+        }
+        if (group.processes.isEmpty()) {
+            groups.remove(group.type);
+        }
+    }
+
+    static class Group {
+
+        /**
+         * Processes that contain this group's input, ordered by their index.
+         */
+        final IntList processes = new IntArrayList();
+        /**
+         * Copy of the input with a size of one, that is used as the key for this group.
+         */
+        final ItemStack type;
+        int totalCount;
+        /**
+         * Whether there may be enough of the input to make use of more slots, defaults to true until we know otherwise.
+         */
+        boolean canExpand = true;
+
+        Group(ItemStack type) {
+            this.type = type;
+        }
+
+        void reset() {
+            totalCount = 0;
+            canExpand = true;
+        }
+
+        /**
+         * Calculates how many more processes there is enough of the input to fill, and marks the group as not being able to expand if there isn't enough for any.
+         *
+         * @param minPerSlot How much of the input a single operation needs.
+         *
+         * @return How many more processes could be filled.
+         */
+        int getSlotsToAdd(int minPerSlot) {
+            int maxSlots = totalCount / minPerSlot;
+            //If we don't have enough to even fill the input for a slot for a single recipe,
+            // or we don't have enough extra to fill another slot, then we can't expand
+            if (maxSlots <= 1 || maxSlots <= processes.size()) {
+                canExpand = false;
+                return 0;
+            }
+            return maxSlots - processes.size();
+        }
+    }
+}
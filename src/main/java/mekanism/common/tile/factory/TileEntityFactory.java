@@ -2,14 +2,14 @@ package mekanism.common.tile.factory;
 
 import it.unimi.dsi.fastutil.ints.IntArraySet;
 import it.unimi.dsi.fastutil.ints.IntSet;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenCustomHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
 import java.util.function.ToIntBiFunction;
 import mekanism.api.Action;
 import mekanism.api.IContentsListener;
@@ -65,7 +65,6 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.ItemStackLinkedSet;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
@@ -98,7 +97,11 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
      */
     private int ticksRequired = BASE_TICKS_REQUIRED;
     private boolean sorting;
-    private boolean sortingNeeded = true;
+    /**
+     * Processes whose slots have changed since the inventory was last sorted.
+     */
+    private BitSet sortingNeeded;
+    private FactorySortGroups<RecipeProcessInfo<RECIPE>> sortGroups;
     private long lastUsage = 0L;
 
     /**
@@ -167,10 +170,12 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
     protected void presetVariables() {
         super.presetVariables();
         tier = Attribute.getTier(getBlockType(), FactoryTier.class);
-        Runnable setSortingNeeded = () -> sortingNeeded = true;
+        sortingNeeded = new BitSet(tier.processes);
+        sortGroups = new FactorySortGroups<>(tier.processes, RecipeProcessInfo::new);
+        resetSorting();
         recipeCacheLookupMonitors = new FactoryRecipeCacheLookupMonitor[tier.processes];
         for (int i = 0; i < recipeCacheLookupMonitors.length; i++) {
-            recipeCacheLookupMonitors[i] = new FactoryRecipeCacheLookupMonitor<>(this, i, setSortingNeeded);
+            recipeCacheLookupMonitors[i] = new FactoryRecipeCacheLookupMonitor<>(this, i, sortingNeeded::set);
         }
     }
 
@@ -191,10 +196,10 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
     @Override
     protected IInventorySlotHolder getInitialInventory(IContentsListener listener) {
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this);
-        addSlots(builder, listener, () -> {
+        addSlots(builder, listener, process -> {
             listener.onContentsChanged();
             //Mark sorting as being needed again
-            sortingNeeded = true;
+            sortingNeeded.set(process);
         });
         //Add the energy slot after adding the other slots so that it has the lowest priority in shift clicking
         //Note: We can just pass ourselves as the listener instead of the listener that updates sorting as well,
@@ -203,7 +208,10 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
         return builder.build();
     }
 
-    protected abstract void addSlots(InventorySlotHelper builder, IContentsListener listener, IContentsListener updateSortingListener);
+    /**
+     * @param updateSortingListener Listener to call with the index of the process when a slot of the process changes in a way that may affect sorting.
+     */
+    protected abstract void addSlots(InventorySlotHelper builder, IContentsListener listener, IntConsumer updateSortingListener);
 
     @Nullable
     protected IInventorySlot getExtraSlot() {
@@ -220,23 +228,22 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
         energySlot.fillContainerOrConvert();
 
         handleSecondaryFuel();
-        if (sortingNeeded && isSorting()) {
-            //If sorting is needed, and we have sorting enabled mark
-            // sorting as no longer needed and sort the inventory
-            sortingNeeded = false;
+        if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
+            //If the recipe cache is invalid, recipes may have changed so our current sort may be incorrect,
+            // throw away our groupings and mark all the processes as needing to be sorted again
+            //Note: We still sort this tick, as sorting looks up the recipes again instead of using the cached ones while the caches are invalid
+            resetSorting();
+        }
+        if (!sortingNeeded.isEmpty() && isSorting()) {
+            //If sorting is needed, and we have sorting enabled sort the inventory
             // Note: If sorting happens, sorting will be marked as needed once more
-            // (due to changes in the inventory), but this is fine, and we purposely
-            // mark sorting being needed as false before instead of after this method
-            // call, because while it tries to optimize the layout, if the optimization
+            // for any slots that changed, but this is fine, and we purposely
+            // mark sorting being needed as false before distributing the items,
+            // because while it tries to optimize the layout, if the optimization
             // would make it so that some slots are now empty (because of stacked inputs
             // being required), we want to make sure we are able to fill those slots
             // with other items.
             sortInventory();
-        } else if (!sortingNeeded && CommonWorldTickHandler.flushTagAndRecipeCaches) {
-            //Otherwise, if sorting isn't currently needed and the recipe cache is invalid
-            // Mark sorting as being needed again for the next check as recipes may
-            // have changed so our current sort may be incorrect
-            sortingNeeded = true;
         }
 
         //Copy this so that if it changes we still have the original amount. Don't bother making it a constant though as this way
@@ -518,17 +525,45 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
     }
     //End methods IComputerTile
 
+    private void resetSorting() {
+        sortGroups.clear();
+        sortingNeeded.set(0, tier.processes);
+    }
+
     private void sortInventory() {
-        Map<ItemStack, RecipeProcessInfo<RECIPE>> processes = new Object2ObjectOpenCustomHashMap<>(ItemStackLinkedSet.TYPE_AND_TAG);
+        //Update the groups of any processes that have changed, keeping track of which groups need to be rebalanced
+        Set<RecipeProcessInfo<RECIPE>> affected = new ReferenceLinkedOpenHashSet<>();
+        boolean checkEmpty = false;
+        for (int process = sortingNeeded.nextSetBit(0); process >= 0; process = sortingNeeded.nextSetBit(process + 1)) {
+            if (sortGroups.update(process, processInfoSlots[process].inputSlot().getStack(), affected)) {
+                //Either the slot became empty, or the outputs of an empty slot changed which may change what inputs can be moved into it
+                checkEmpty = true;
+            }
+        }
+        //Note: We mark sorting as no longer needed before distributing the items, so that any slots we change get checked again
+        sortingNeeded.clear();
         List<ProcessInfo> emptyProcesses = new ArrayList<>();
-        for (ProcessInfo processInfo : processInfoSlots) {
-            IInventorySlot inputSlot = processInfo.inputSlot();
-            if (inputSlot.isEmpty()) {
-                emptyProcesses.add(processInfo);
-            } else {
-                ItemStack inputStack = inputSlot.getStack();
-                RecipeProcessInfo<RECIPE> recipeProcessInfo = processes.computeIfAbsent(inputStack, i -> new RecipeProcessInfo<>());
-                recipeProcessInfo.processes.add(processInfo);
+        if (checkEmpty) {
+            for (ProcessInfo processInfo : processInfoSlots) {
+                if (processInfo.inputSlot().isEmpty()) {
+                    emptyProcesses.add(processInfo);
+                }
+            }
+            if (!emptyProcesses.isEmpty()) {
+                //Any groups that have enough items to fill more slots may be able to make use of the empty slots
+                sortGroups.addExpandable(affected);
+            }
+        }
+        affected.removeIf(group -> group.processes.isEmpty());
+        if (affected.isEmpty()) {
+            //If nothing that was changed needs to be rebalanced, just exit
+            return;
+        }
+        for (RecipeProcessInfo<RECIPE> recipeProcessInfo : affected) {
+            recipeProcessInfo.reset();
+            for (int i = 0, size = recipeProcessInfo.processes.size(); i < size; i++) {
+                ProcessInfo processInfo = processInfoSlots[recipeProcessInfo.processes.getInt(i)];
+                ItemStack inputStack = processInfo.inputSlot().getStack();
                 recipeProcessInfo.totalCount += inputStack.getCount();
                 if (recipeProcessInfo.lazyMinPerSlot == null && !CommonWorldTickHandler.flushTagAndRecipeCaches) {
                     //If we don't have a lazily initialized min per slot calculation set for it yet
@@ -544,15 +579,8 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
                     }
                 }
             }
-        }
-        if (processes.isEmpty()) {
-            //If all input slots are empty, just exit
-            return;
-        }
-        for (Entry<ItemStack, RecipeProcessInfo<RECIPE>> entry : processes.entrySet()) {
-            RecipeProcessInfo<RECIPE> recipeProcessInfo = entry.getValue();
             if (recipeProcessInfo.lazyMinPerSlot == null) {
-                recipeProcessInfo.item = entry.getKey();
+                recipeProcessInfo.item = recipeProcessInfo.type;
                 //If we don't have a lazy initializer for our minPerSlot setup, that means that there is
                 // no valid cached recipe for any of the slots of this type currently, so we want to try and
                 // get the recipe we will have for the first slot, once we end up with more items in the stack
@@ -562,7 +590,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
                     // we don't do any extra processing here, and can properly short circuit
                     ItemStack item = (ItemStack) info.item;
                     ItemStack largerInput = item.copyWithCount(Math.min(item.getMaxStackSize(), info.totalCount));
-                    ProcessInfo processInfo = info.processes.getFirst();
+                    ProcessInfo processInfo = factory.processInfoSlots[info.processes.getInt(0)];
                     //Try getting a recipe for our input with a larger size, and update the cache if we find one
                     info.recipe = factory.getRecipeForInput(processInfo.process(), largerInput, processInfo.outputSlot(), processInfo.secondaryOutputSlot(), true);
                     if (info.recipe != null) {
@@ -574,32 +602,27 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
         }
         if (!emptyProcesses.isEmpty()) {
             //If we have any empty slots, we need to factor them in as valid slots for items to transferred to
-            addEmptySlotsAsTargets(processes, emptyProcesses);
+            addEmptySlotsAsTargets(affected, emptyProcesses);
             //Note: Any remaining empty slots are "ignored" as we don't have any
             // spare items to distribute to them
         }
         //Distribute items among the slots
-        distributeItems(processes);
+        distributeItems(affected);
+        for (RecipeProcessInfo<RECIPE> recipeProcessInfo : affected) {
+            //Update what we know about the slots we distributed to, so that we don't rebalance the group again if there are no other changes
+            // and remove any slots that didn't end up getting any items
+            sortGroups.markSorted(recipeProcessInfo, process -> processInfoSlots[process].inputSlot().getStack());
+        }
     }
 
-    private void addEmptySlotsAsTargets(Map<ItemStack, RecipeProcessInfo<RECIPE>> processes, List<ProcessInfo> emptyProcesses) {
-        for (Entry<ItemStack, RecipeProcessInfo<RECIPE>> entry : processes.entrySet()) {
-            RecipeProcessInfo<RECIPE> recipeProcessInfo = entry.getValue();
-            int minPerSlot = recipeProcessInfo.getMinPerSlot(this);
-            int maxSlots = recipeProcessInfo.totalCount / minPerSlot;
-            if (maxSlots <= 1) {
-                //If we don't have enough to even fill the input for a slot for a single recipe; skip
+    private void addEmptySlotsAsTargets(Set<RecipeProcessInfo<RECIPE>> processes, List<ProcessInfo> emptyProcesses) {
+        for (RecipeProcessInfo<RECIPE> recipeProcessInfo : processes) {
+            int emptyToAdd = recipeProcessInfo.getSlotsToAdd(recipeProcessInfo.getMinPerSlot(this));
+            if (emptyToAdd == 0) {
+                //If we don't have enough items to fill any more slots; skip
                 continue;
             }
-            //Otherwise, if we have at least enough items for two slots see how many we already have with items in them
-            int processCount = recipeProcessInfo.processes.size();
-            if (maxSlots <= processCount) {
-                //If we don't have enough extra to fill another slot skip
-                continue;
-            }
-            //Note: This is some arbitrary input stack one of the stacks contained
-            ItemStack sourceStack = entry.getKey();
-            int emptyToAdd = maxSlots - processCount;
+            ItemStack sourceStack = recipeProcessInfo.type;
             int added = 0;
             List<ProcessInfo> toRemove = new ArrayList<>();
             for (ProcessInfo emptyProcess : emptyProcesses) {
@@ -607,7 +630,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
                     //If the input is valid for the stuff in the empty process' output slot
                     // then add our empty process to our recipeProcessInfo, and mark
                     // the empty process as accounted for
-                    recipeProcessInfo.processes.add(emptyProcess);
+                    sortGroups.add(recipeProcessInfo, emptyProcess.process());
                     toRemove.add(emptyProcess);
                     added++;
                     if (added >= emptyToAdd) {
@@ -616,6 +639,8 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
                     }
                 }
             }
+            //Note: If we didn't find enough slots for all our items, we may be able to make use of any slots that are emptied later
+            recipeProcessInfo.canExpand = added < emptyToAdd;
             emptyProcesses.removeAll(toRemove);
             if (emptyProcesses.isEmpty()) {
                 //We accounted for all our empty processes, stop looking at inputs
@@ -625,15 +650,14 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
         }
     }
 
-    private void distributeItems(Map<ItemStack, RecipeProcessInfo<RECIPE>> processes) {
-        for (Entry<ItemStack, RecipeProcessInfo<RECIPE>> entry : processes.entrySet()) {
-            RecipeProcessInfo<RECIPE> recipeProcessInfo = entry.getValue();
+    private void distributeItems(Set<RecipeProcessInfo<RECIPE>> processes) {
+        for (RecipeProcessInfo<RECIPE> recipeProcessInfo : processes) {
             int processCount = recipeProcessInfo.processes.size();
             if (processCount == 1) {
                 //If there is only one process with the item in it; short-circuit, no balancing is needed
                 continue;
             }
-            ItemStack item = entry.getKey();
+            ItemStack item = recipeProcessInfo.type;
             //Note: This isn't based on any limits the slot may have (but we currently don't have any reduced ones here, so it doesn't matter)
             int maxStackSize = item.getMaxStackSize();
             int numberPerSlot = recipeProcessInfo.totalCount / processCount;
@@ -674,7 +698,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
                 }
             }
             for (int i = 0; i < processCount; i++) {
-                ProcessInfo processInfo = recipeProcessInfo.processes.get(i);
+                ProcessInfo processInfo = processInfoSlots[recipeProcessInfo.processes.getInt(i)];
                 FactoryInputInventorySlot inputSlot = processInfo.inputSlot();
                 int sizeForSlot = numberPerSlot;
                 if (remainder > 0) {
@@ -727,15 +751,26 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe<?>> extend
                               @Nullable IInventorySlot secondaryOutputSlot) {
     }
 
-    private static class RecipeProcessInfo<RECIPE extends MekanismRecipe<?>> {
+    private static class RecipeProcessInfo<RECIPE extends MekanismRecipe<?>> extends FactorySortGroups.Group {
 
-        private final List<ProcessInfo> processes = new ArrayList<>();
         @Nullable
         private ToIntBiFunction<RecipeProcessInfo<RECIPE>, TileEntityFactory<RECIPE>> lazyMinPerSlot;
         private Object item;
         private RECIPE recipe;
         private int minPerSlot = 1;
-        private int totalCount;
+
+        private RecipeProcessInfo(ItemStack type) {
+            super(type);
+        }
+
+        @Override
+        void reset() {
+            super.reset();
+            lazyMinPerSlot = null;
+            item = null;
+            recipe = null;
+            minPerSlot = 1;
+        }
 
         public int getMinPerSlot(TileEntityFactory<RECIPE> factory) {
             if (lazyMinPerSlot != null) {
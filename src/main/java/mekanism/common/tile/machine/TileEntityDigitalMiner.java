@@ -2,8 +2,11 @@ package mekanism.common.tile.machine;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.ObjectIterator;
@@ -41,8 +44,9 @@ import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.filter.SortableFilterManager;
 import mekanism.common.content.miner.MinerFilter;
 import mekanism.common.content.miner.MinerRegionCache;
-import mekanism.common.content.miner.ThreadMinerSearch;
-import mekanism.common.content.miner.ThreadMinerSearch.State;
+import mekanism.common.content.miner.MinerSearch;
+import mekanism.common.content.miner.MinerSearch.State;
+import mekanism.common.content.miner.MinerTargets;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.integration.computer.ComputerException;
 import mekanism.common.integration.computer.SpecialComputerMethodWrapper.ComputerIInventorySlotWrapper;
@@ -88,6 +92,7 @@ import net.minecraft.core.Vec3i;
 import net.minecraft.core.component.DataComponentMap;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -104,6 +109,7 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.LevelEvent;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.gameevent.GameEvent;
 import net.neoforged.neoforge.capabilities.BlockCapability;
 import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
@@ -121,7 +127,17 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
     @SuppressWarnings({"unchecked", "rawtypes"})
     private final SortableFilterManager<MinerFilter<?>> filterManager = new SortableFilterManager<MinerFilter<?>>((Class) MinerFilter.class, this::markForSave);
     private Long2ObjectMap<BitSet> oresToMine = Long2ObjectMaps.emptyMap();
-    public ThreadMinerSearch searcher = new ThreadMinerSearch(this);
+    /**
+     * Stamps of the chunks whose targets were loaded from disk and have not yet been checked to still be accurate.
+     */
+    private final Long2LongMap unverifiedChunks = new Long2LongOpenHashMap();
+    /**
+     * Stamps of the chunks we have targets in, so that saving doesn't have to recalculate them every time. A chunk's stamp is invalidated whenever we change a block in
+     * it. If something else changes the chunk, the cached stamp no longer matches it, which just means it will be searched again after being reloaded.
+     */
+    private final Long2LongMap chunkStamps = new Long2LongOpenHashMap();
+    private boolean restoredTargets;
+    public MinerSearch searcher = new MinerSearch(this);
 
     @Nullable
     private BlockCapabilityCache<IItemHandler, @Nullable Direction> pullInventory;
@@ -227,7 +243,8 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
         if (!initCalc) {
             //If it had finished searching, and we didn't initialize things yet,
             // reset it and start running again if needed. This happens after saving the miner to disk
-            if (searcher.state == State.FINISHED) {
+            // unless we were able to restore the blocks we still had to mine
+            if (searcher.state == State.FINISHED && !restoredTargets) {
                 boolean prevRunning = running;
                 reset();
                 start();
@@ -298,6 +315,8 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
 
     public void updateFromSearch(Long2ObjectMap<BitSet> oresToMine, int found) {
         this.oresToMine = oresToMine;
+        unverifiedChunks.clear();
+        chunkStamps.clear();
         cachedToMine = found;
         updateTargetChunk(null);
         markForSave();
@@ -473,6 +492,20 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
                     // we don't need to try and load it
                     updateTargetChunk(currentChunk = new ChunkPos(chunk));
                     target = chunk;
+                    if (!unverifiedChunks.isEmpty() && unverifiedChunks.containsKey(chunk)) {
+                        BitSet verified = verifyRestoredTargets(chunk, chunkToMine);
+                        if (verified != chunkToMine) {
+                            if (verified.isEmpty()) {
+                                it.remove();
+                                //There is nothing left to mine in the chunk, so we are no longer targeting it
+                                updateTargetChunk(null);
+                                break;
+                            }
+                            entry.setValue(chunkToMine = verified);
+                            previous = chunkToMine.length() - 1;
+                            continue;
+                        }
+                    }
                 }
                 BlockPos pos = getOffsetForIndex(startingPos, diameter, index);
                 BlockState state = WorldUtils.getBlockStateIfLoaded(level, pos);
@@ -495,6 +528,8 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
                             if (canInsert(drops)) {
                                 CommonWorldTickHandler.fallbackItemCollector = overflowCollector;
                                 if (setReplace(state, pos, matchingFilter)) {
+                                    //We changed a block in the chunk, so the stamp we have for it is no longer accurate
+                                    chunkStamps.remove(chunk);
                                     add(drops);
                                     //Try to add any drops that might have been caused by breaking the block but didn't show up in the loot table.
                                     // This mainly will be the case for some single block multiblocks and also for storage containers like chests
@@ -545,6 +580,99 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
         updateTargetChunk(null);
     }
 
+    /**
+     * Checks if the chunk has changed since the targets in it were saved, and if it has searches the chunk again.
+     *
+     * @return The targets to use for the chunk.
+     */
+    private BitSet verifyRestoredTargets(long chunk, BitSet restored) {
+        ChunkAccess chunkAccess = level.getChunkSource().getChunkNow(ChunkPos.getX(chunk), ChunkPos.getZ(chunk));
+        if (chunkAccess == null) {
+            //Wait until the chunk is loaded before we check it
+            return restored;
+        }
+        long stamp = unverifiedChunks.remove(chunk);
+        long currentStamp = MinerTargets.computeStamp(chunkAccess, getMinY(), getMaxY());
+        chunkStamps.put(chunk, currentStamp);
+        if (stamp != MinerTargets.NO_STAMP && stamp == currentStamp) {
+            return restored;
+        }
+        //The chunk changed while we weren't watching it, search it again
+        BitSet targets = searcher.searchChunk(level, chunkAccess);
+        cachedToMine += targets.cardinality() - restored.cardinality();
+        return targets;
+    }
+
+    private CompoundTag writeTargets() {
+        if (chunkStamps.size() > oresToMine.size()) {
+            //Forget the stamps of any chunks we no longer have targets in
+            chunkStamps.keySet().removeIf(chunk -> !oresToMine.containsKey(chunk));
+        }
+        ListTag chunks = new ListTag();
+        for (Long2ObjectMap.Entry<BitSet> entry : oresToMine.long2ObjectEntrySet()) {
+            long chunk = entry.getLongKey();
+            CompoundTag chunkTargets = new CompoundTag();
+            chunkTargets.putLong(SerializationConstants.CHUNK, chunk);
+            long stamp;
+            if (unverifiedChunks.containsKey(chunk)) {
+                //We haven't looked at the chunk since we were loaded, so it still needs to match what it was before
+                stamp = unverifiedChunks.get(chunk);
+            } else {
+                //Note: Chunks we don't have a stamp cached for return the default value of zero, which is NO_STAMP
+                stamp = chunkStamps.get(chunk);
+                if (stamp == MinerTargets.NO_STAMP) {
+                    ChunkAccess chunkAccess = level == null ? null : level.getChunkSource().getChunkNow(ChunkPos.getX(chunk), ChunkPos.getZ(chunk));
+                    if (chunkAccess != null) {
+                        stamp = MinerTargets.computeStamp(chunkAccess, getMinY(), getMaxY());
+                        chunkStamps.put(chunk, stamp);
+                    }
+                }
+            }
+            chunkTargets.putLong(SerializationConstants.STAMP, stamp);
+            chunkTargets.putByteArray(SerializationConstants.DATA, MinerTargets.encode(entry.getValue()));
+            chunks.add(chunkTargets);
+        }
+        CompoundTag targets = new CompoundTag();
+        //Store the region the targets are for, so that we can tell if it changed, and the indices no longer match up
+        targets.putInt(SerializationConstants.RADIUS, getRadius());
+        targets.putInt(SerializationConstants.MIN, getMinY());
+        targets.putInt(SerializationConstants.MAX, getMaxY());
+        targets.put(SerializationConstants.DATA, chunks);
+        return targets;
+    }
+
+    private void readTargets(CompoundTag targets) {
+        unverifiedChunks.clear();
+        chunkStamps.clear();
+        restoredTargets = false;
+        if (targets.getInt(SerializationConstants.RADIUS) != getRadius() || targets.getInt(SerializationConstants.MIN) != getMinY() ||
+              targets.getInt(SerializationConstants.MAX) != getMaxY()) {
+            //The region changed, so the targets don't line up with it anymore
+            return;
+        }
+        ListTag chunks = targets.getList(SerializationConstants.DATA, Tag.TAG_COMPOUND);
+        Long2ObjectMap<BitSet> restored = new Long2ObjectOpenHashMap<>(chunks.size());
+        int totalSize = getTotalSize();
+        int toMine = 0;
+        for (int i = 0, size = chunks.size(); i < size; i++) {
+            CompoundTag chunkTargets = chunks.getCompound(i);
+            BitSet bits = MinerTargets.decode(chunkTargets.getByteArray(SerializationConstants.DATA), totalSize);
+            if (bits == null) {
+                //Malformed data, fall back to searching the entire region again
+                unverifiedChunks.clear();
+                return;
+            } else if (!bits.isEmpty()) {
+                long chunk = chunkTargets.getLong(SerializationConstants.CHUNK);
+                restored.put(chunk, bits);
+                unverifiedChunks.put(chunk, chunkTargets.getLong(SerializationConstants.STAMP));
+                toMine += bits.cardinality();
+            }
+        }
+        oresToMine = restored;
+        cachedToMine = toMine;
+        restoredTargets = !restored.isEmpty();
+    }
+
     /**
      * @param filter Filter that was matched, if in inverse mode this will be null
      *
@@ -794,8 +922,8 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
         if (searcher.state == State.IDLE) {
             BlockPos startingPos = getStartingPos();
             int diameter = getDiameter();
-            searcher.setChunkCache(new MinerRegionCache((ServerLevel) getLevel(), startingPos, startingPos.offset(diameter, getMaxY() - getMinY() + 1, diameter), this.upgradeComponent.isUpgradeInstalled(Upgrade.ANCHOR)));
-            searcher.start();
+            ServerLevel serverLevel = (ServerLevel) getLevel();
+            searcher.start(serverLevel.getServer(), new MinerRegionCache(serverLevel, startingPos, startingPos.offset(diameter, getMaxY() - getMinY() + 1, diameter), this.upgradeComponent.isUpgradeInstalled(Upgrade.ANCHOR)));
         }
         running = true;
         markForSave();
@@ -803,7 +931,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
 
     public void stop() {
         if (searcher.state == State.SEARCHING) {
-            searcher.interrupt();
+            searcher.cancel();
             reset();
         } else if (searcher.state == State.FINISHED) {
             running = false;
@@ -815,13 +943,15 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
     }
 
     public void reset() {
-        if (searcher != null && searcher.isAlive()) {
-            searcher.interrupt();
+        if (searcher != null) {
+            searcher.cancel();
         }
-        searcher = new ThreadMinerSearch(this);
+        searcher = new MinerSearch(this);
         running = false;
         cachedToMine = 0;
         oresToMine = Long2ObjectMaps.emptyMap();
+        unverifiedChunks.clear();
+        chunkStamps.clear();
         missingStack = ItemStack.EMPTY;
         setActive(false);
         updateTargetChunk(null);
@@ -870,6 +1000,9 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
             }
             searcher.state = s;
         });
+        if (!initCalc && searcher.state == State.FINISHED && nbt.contains(SerializationConstants.TARGETS, Tag.TAG_COMPOUND)) {
+            readTargets(nbt.getCompound(SerializationConstants.TARGETS));
+        }
         //Update energy per tick in case any of the values changed. It would be slightly cleaner to also validate the fact
         // the values changed, but it would make the code a decent bit messier, as we couldn't use NBTUtils, and it is a
         // rather quick check to update the energy per tick, and in most cases at least one of the settings will not be at
@@ -883,6 +1016,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
         super.removeComponentsFromTag(tag);
         tag.remove(SerializationConstants.NUM_POWERING);
         tag.remove(SerializationConstants.STATE);
+        tag.remove(SerializationConstants.TARGETS);
     }
 
     @Override
@@ -899,6 +1033,10 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
         nbtTags.putInt(SerializationConstants.DELAY, delay);
         nbtTags.putInt(SerializationConstants.NUM_POWERING, numPowering);
         NBTUtils.writeEnum(nbtTags, SerializationConstants.STATE, searcher.state);
+        if (searcher.state == State.FINISHED && !oresToMine.isEmpty()) {
+            //Persist the blocks we still have to mine so that we don't have to search the entire region again when we are loaded
+            nbtTags.put(SerializationConstants.TARGETS, writeTargets());
+        }
         if (!overflow.isEmpty()) {
             //Persist any items that are stored as overflow
             nbtTags.put(SerializationConstants.OVERFLOW, OverflowAware.writeOverflow(provider, overflow));
@@ -1217,7 +1355,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
 
     @ComputerMethod(methodDescription = "Get the count of block found but not yet mined")
     public int getToMine() {
-        return !isRemote() && searcher.state == State.SEARCHING ? searcher.found : cachedToMine;
+        return !isRemote() && searcher.state == State.SEARCHING ? searcher.getFound() : cachedToMine;
     }
 
     @ComputerMethod(methodDescription = "Whether the miner is currently running")
@@ -79,4 +79,46 @@ public class EmitUtils {
         }
         return sendToAcceptors(availableTargets, new LongSplitInfo(amountToSplit, availableTargets.getHandlerCount()), resource);
     }
+
+    /**
+     * Variant of {@link #sendToAcceptors(Target, int, Object)} that reuses the given split info instead of allocating a new one.
+     *
+     * @param <HANDLER>        The handler of our target.
+     * @param <RESOURCE>       Type of resource (e.g. Stack). Stack amounts ignored
+     * @param <TARGET>         The emitter target
+     * @param availableTargets The targets to distribute toSend fairly among.
+     * @param splitInfo        Split info to reset and use for keeping track of the split. Must not be in use by any other distribution.
+     * @param amountToSplit    The amount to split between all the targets
+     * @param toSend           Any extra information such as gas stack or fluid stack.
+     *
+     * @return The amount that actually got sent.
+     */
+    public static <HANDLER, RESOURCE, TARGET extends Target<HANDLER, RESOURCE>> int sendToAcceptors(@Nullable TARGET availableTargets, IntegerSplitInfo splitInfo,
+          int amountToSplit, RESOURCE toSend) {
+        if (availableTargets == null || availableTargets.getHandlerCount() == 0) {
+            return 0;
+        }
+        return MathUtils.clampToInt(sendToAcceptors(availableTargets, splitInfo.reset(amountToSplit, availableTargets.getHandlerCount()), toSend));
+    }
+
+    /**
+     * Variant of {@link #sendToAcceptors(Target, long, Object)} that reuses the given split info instead of allocating a new one.
+     *
+     * @param <HANDLER>        The handler of our target.
+     * @param <RESOURCE>       Type of resource (e.g. Stack). Stack amounts ignored
+     * @param <TARGET>         The emitter target
+     * @param availableTargets The targets to distribute toSend fairly among.
+     * @param splitInfo        Split info to reset and use for keeping track of the split. Must not be in use by any other distribution.
+     * @param amountToSplit    The amount to split between all the targets
+     * @param resource         Any extra information such as gas stack or fluid stack.
+     *
+     * @return The amount that actually got sent.
+     */
+    public static <HANDLER, RESOURCE, TARGET extends Target<HANDLER, RESOURCE>> long sendToAcceptors(@Nullable TARGET availableTargets, LongSplitInfo splitInfo,
+          long amountToSplit, RESOURCE resource) {
+        if (availableTargets == null || availableTargets.getHandlerCount() == 0) {
+            return 0;
+        }
+        return sendToAcceptors(availableTargets, splitInfo.reset(amountToSplit, availableTargets.getHandlerCount()), resource);
+    }
 }
\ No newline at end of file
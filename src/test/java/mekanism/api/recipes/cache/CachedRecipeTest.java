@@ -0,0 +1,129 @@
+package mekanism.api.recipes.cache;
+
+import mekanism.api.recipes.basic.BasicCrushingRecipe;
+import mekanism.api.recipes.cache.CachedRecipe.OperationTracker.RecipeError;
+import mekanism.api.recipes.ingredients.creator.IngredientCreatorAccess;
+import mekanism.api.recipes.inputs.InputHelper;
+import mekanism.api.recipes.outputs.OutputHelper;
+import mekanism.common.capabilities.energy.BasicEnergyContainer;
+import mekanism.common.inventory.slot.BasicInventorySlot;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test reusing the operations of steadily running cached recipes")
+class CachedRecipeTest {
+
+    private static final int REQUIRED_TICKS = 10;
+    private static final long ENERGY_PER_TICK = 10;
+
+    private BasicEnergyContainer energyContainer;
+    private BasicInventorySlot input;
+    private BasicInventorySlot output;
+    private CachedRecipe<?> cachedRecipe;
+    //State that is updated by the listeners and callbacks, similar to the state a machine would update
+    private boolean shouldUnpause;
+    private boolean active;
+    private int operatingTicks;
+    private int finishedOperations;
+
+    @BeforeEach
+    void setup() {
+        shouldUnpause = false;
+        active = false;
+        operatingTicks = 0;
+        finishedOperations = 0;
+        energyContainer = BasicEnergyContainer.create(100 * ENERGY_PER_TICK, null);
+        energyContainer.setEnergy(energyContainer.getMaxEnergy());
+        input = BasicInventorySlot.at(() -> shouldUnpause = true, 0, 0);
+        output = BasicInventorySlot.at(() -> shouldUnpause = true, 0, 0);
+        input.setStack(new ItemStack(Items.COBBLESTONE, 1));
+        cachedRecipe = OneInputCachedRecipe.itemToItem(
+                    new BasicCrushingRecipe(IngredientCreatorAccess.item().from(Items.COBBLESTONE), new ItemStack(Items.GRAVEL)),
+                    () -> false,
+                    InputHelper.getInputHandler(input, RecipeError.NOT_ENOUGH_INPUT),
+                    OutputHelper.getOutputHandler(output, RecipeError.NOT_ENOUGH_OUTPUT_SPACE)
+              ).setCanHolderFunction(() -> energyContainer.getEnergy() > 0)
+              .setActive(active -> this.active = active)
+              .setEnergyRequirements(() -> ENERGY_PER_TICK, energyContainer)
+              .setRequiredTicks(() -> REQUIRED_TICKS)
+              .setOnFinish(() -> finishedOperations++)
+              .setOperatingTicksChanged(ticks -> operatingTicks = ticks);
+        shouldUnpause = false;
+    }
+
+    /**
+     * Processes the recipe for a tick in the same way that our machines do, by unpausing it first if any of the contents were changed.
+     */
+    private void tick() {
+        if (shouldUnpause) {
+            shouldUnpause = false;
+            cachedRecipe.unpauseErrors();
+        }
+        cachedRecipe.process();
+    }
+
+    @Test
+    @DisplayName("Test a recipe that nothing changes completes normally")
+    void testSteadyOperation() {
+        for (int i = 0; i < REQUIRED_TICKS; i++) {
+            tick();
+        }
+        Assertions.assertEquals(1, finishedOperations);
+        Assertions.assertTrue(input.isEmpty());
+        Assertions.assertEquals(Items.GRAVEL, output.getStack().getItem());
+        Assertions.assertEquals(energyContainer.getMaxEnergy() - REQUIRED_TICKS * ENERGY_PER_TICK, energyContainer.getEnergy());
+    }
+
+    @Test
+    @DisplayName("Test removing the input with a listener stops the recipe on the next tick")
+    void testNotifiedChange() {
+        tick();
+        tick();
+        Assertions.assertEquals(2, operatingTicks);
+        input.setEmpty();
+        tick();
+        Assertions.assertFalse(active);
+        Assertions.assertEquals(0, operatingTicks);
+    }
+
+    @Test
+    @DisplayName("Test removing the input without a listener doesn't produce an output")
+    void testSilentChange() {
+        tick();
+        tick();
+        //Note: Shrinking the stack directly bypasses the slot's listener, so the cached recipe is never told that the input changed
+        input.getStack().shrink(1);
+        Assertions.assertFalse(shouldUnpause);
+        for (int i = 0; i < REQUIRED_TICKS; i++) {
+            tick();
+        }
+        //The tick that would finish the operation is always fully calculated, so the missing input is noticed before any output is produced
+        Assertions.assertEquals(0, finishedOperations);
+        Assertions.assertTrue(output.isEmpty());
+        Assertions.assertFalse(active);
+        Assertions.assertEquals(0, operatingTicks);
+    }
+
+    @Test
+    @DisplayName("Test filling the output without a listener doesn't consume the input")
+    void testSilentOutputChange() {
+        output.setStack(new ItemStack(Items.GRAVEL, 1));
+        tick();
+        tick();
+        //Note: Growing the stack directly bypasses the slot's listener, so the cached recipe is never told that the output changed
+        output.getStack().grow(63);
+        Assertions.assertFalse(shouldUnpause);
+        for (int i = 0; i < REQUIRED_TICKS; i++) {
+            tick();
+        }
+        //The tick that would finish the operation is always fully calculated, so the full output is noticed before the input is used
+        Assertions.assertEquals(0, finishedOperations);
+        Assertions.assertEquals(1, input.getCount());
+        Assertions.assertEquals(64, output.getCount());
+        Assertions.assertFalse(active);
+    }
+}
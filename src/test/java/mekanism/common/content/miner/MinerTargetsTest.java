@@ -0,0 +1,69 @@
+package mekanism.common.content.miner;
+
+import java.util.BitSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test encoding of Digital Miner targets")
+class MinerTargetsTest {
+
+    private static BitSet roundTrip(BitSet bits, int totalSize) {
+        BitSet decoded = MinerTargets.decode(MinerTargets.encode(bits), totalSize);
+        Assertions.assertNotNull(decoded);
+        return decoded;
+    }
+
+    @Test
+    @DisplayName("Test encoding no targets")
+    void testEmpty() {
+        Assertions.assertEquals(0, MinerTargets.encode(new BitSet()).length);
+        Assertions.assertEquals(new BitSet(), roundTrip(new BitSet(), 100));
+    }
+
+    @Test
+    @DisplayName("Test encoding sparse targets")
+    void testSparse() {
+        BitSet bits = new BitSet();
+        bits.set(0);
+        bits.set(5);
+        bits.set(6);
+        bits.set(1_000);
+        bits.set(250_000);
+        Assertions.assertEquals(bits, roundTrip(bits, 300_000));
+    }
+
+    @Test
+    @DisplayName("Test encoding contiguous targets")
+    void testContiguous() {
+        BitSet bits = new BitSet();
+        bits.set(10, 200_000);
+        byte[] encoded = MinerTargets.encode(bits);
+        Assertions.assertTrue(encoded.length < 8, "A single run should only take a few bytes");
+        Assertions.assertEquals(bits, MinerTargets.decode(encoded, 200_000));
+    }
+
+    @Test
+    @DisplayName("Test targets outside the region are discarded")
+    void testTruncated() {
+        BitSet bits = new BitSet();
+        bits.set(3);
+        bits.set(50, 150);
+        bits.set(500);
+        BitSet expected = new BitSet();
+        expected.set(3);
+        expected.set(50, 100);
+        Assertions.assertEquals(expected, roundTrip(bits, 100));
+    }
+
+    @Test
+    @DisplayName("Test malformed data is rejected")
+    void testMalformed() {
+        //Unterminated var int
+        Assertions.assertNull(MinerTargets.decode(new byte[]{(byte) 0x80}, 100));
+        //Run without a length
+        Assertions.assertNull(MinerTargets.decode(new byte[]{1}, 100));
+        //Run with a length of zero
+        Assertions.assertNull(MinerTargets.decode(new byte[]{1, 0}, 100));
+    }
+}
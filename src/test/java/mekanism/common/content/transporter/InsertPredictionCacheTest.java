@@ -0,0 +1,72 @@
+package mekanism.common.content.transporter;
+
+import mekanism.common.content.transporter.InsertPredictionCache.DestinationState;
+import mekanism.common.content.transporter.TransporterManager.InventoryInfo;
+import net.minecraft.core.Direction;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.neoforged.neoforge.items.ItemStackHandler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test validating the destination snapshots of the insert prediction cache")
+class InsertPredictionCacheTest {
+
+    private ItemStackHandler handler;
+    private DestinationState state;
+
+    @BeforeEach
+    void setup() {
+        handler = new ItemStackHandler(2);
+        handler.setStackInSlot(0, new ItemStack(Items.STONE, 10));
+        state = new InsertPredictionCache().getState(0, Direction.NORTH, 0);
+        state.setSnapshot(new InventoryInfo(handler), 1);
+    }
+
+    @Test
+    @DisplayName("Test the snapshot is reused while the destination is unchanged")
+    void testUnchanged() {
+        Assertions.assertNotNull(state.getSnapshot(handler, 1));
+        Assertions.assertNotNull(state.getSnapshot(handler, 1));
+    }
+
+    @Test
+    @DisplayName("Test the snapshot is discarded when a stack is replaced")
+    void testStackReplaced() {
+        handler.setStackInSlot(1, new ItemStack(Items.DIRT));
+        Assertions.assertNull(state.getSnapshot(handler, 1));
+    }
+
+    @Test
+    @DisplayName("Test the snapshot is discarded when a stack changes size")
+    void testStackResized() {
+        handler.getStackInSlot(0).shrink(1);
+        Assertions.assertNull(state.getSnapshot(handler, 1));
+    }
+
+    @Test
+    @DisplayName("Test the snapshot is discarded when the flowing stacks change")
+    void testFlowingChanged() {
+        Assertions.assertNull(state.getSnapshot(handler, 2));
+    }
+
+    @Test
+    @DisplayName("Test no more snapshots are taken of destinations that changed")
+    void testUnstable() {
+        handler.setStackInSlot(1, new ItemStack(Items.DIRT));
+        Assertions.assertNull(state.getSnapshot(handler, 1));
+        state.setSnapshot(new InventoryInfo(handler), 1);
+        Assertions.assertNull(state.getSnapshot(handler, 1));
+    }
+
+    @Test
+    @DisplayName("Test simulating into a snapshot does not modify it")
+    void testCopies() {
+        InventoryInfo copy = state.getSnapshot(handler, 1);
+        Assertions.assertNotNull(copy);
+        Assertions.assertTrue(copy.matches(handler));
+        Assertions.assertNotSame(copy, state.getSnapshot(handler, 1));
+    }
+}
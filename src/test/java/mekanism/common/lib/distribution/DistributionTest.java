@@ -136,4 +136,34 @@ class DistributionTest {
         Assertions.assertEquals(1, lyingHandler.getAccepted());
         Assertions.assertEquals(8, specificHandler.getAccepted());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test reusing a target and split info for multiple distributions")
+    void testReusedTargetAndSplit() {
+        IntegerSplitInfo splitInfo = new IntegerSplitInfo();
+        IntegerTarget availableAcceptors = getTargets(3, 0, 0);
+        Assertions.assertEquals(3, EmitUtils.sendToAcceptors(availableAcceptors, splitInfo, 3, VOID_RESOURCE));
+        //Reuse the target with a different set of handlers and make sure nothing from the previous distribution leaks into the next one
+        availableAcceptors.clear();
+        addTargets(availableAcceptors, InfiniteIntegerHandler::new, 7);
+        Assertions.assertEquals(10, EmitUtils.sendToAcceptors(availableAcceptors, splitInfo, 10, VOID_RESOURCE));
+        int singleAccepted = 0, twoAccepted = 0;
+        for (IntegerHandler handler : availableAcceptors.handlers) {
+            if (handler.getAccepted() == 1) {
+                singleAccepted++;
+            } else if (handler.getAccepted() == 2) {
+                twoAccepted++;
+            }
+        }
+        Assertions.assertEquals(4, singleAccepted);
+        Assertions.assertEquals(3, twoAccepted);
+        //Reuse the target with the same handlers
+        Assertions.assertEquals(14, EmitUtils.sendToAcceptors(availableAcceptors, splitInfo, 14, VOID_RESOURCE));
+        int total = 0;
+        for (IntegerHandler handler : availableAcceptors.handlers) {
+            Assertions.assertTrue(handler.getAccepted() == 3 || handler.getAccepted() == 4);
+            total += handler.getAccepted();
+        }
+        Assertions.assertEquals(24, total);
+    }
+}
@@ -0,0 +1,67 @@
+package mekanism.common.lib.radiation;
+
+import mekanism.common.lib.radiation.RadiationManager.LevelAndMaxMagnitude;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.GlobalPos;
+import net.minecraft.world.level.Level;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test RadiationSourceIndex lookups")
+class RadiationSourceIndexTest {
+
+    private static final double BASELINE = 0.000_000_1;
+
+    private static RadiationSource source(int x, int y, int z, double magnitude) {
+        return new RadiationSource(GlobalPos.of(Level.OVERWORLD, new BlockPos(x, y, z)), magnitude);
+    }
+
+    @Test
+    @DisplayName("Test an empty index only reports the baseline")
+    void testEmpty() {
+        RadiationSourceIndex index = new RadiationSourceIndex();
+        LevelAndMaxMagnitude result = index.getLevelAndMaxMagnitude(BlockPos.ZERO, 5, BASELINE);
+        Assertions.assertEquals(BASELINE, result.level());
+        Assertions.assertEquals(BASELINE, result.maxMagnitude());
+    }
+
+    @Test
+    @DisplayName("Test the max magnitude only includes sources in range")
+    void testMaxMagnitudeInRange() {
+        RadiationSourceIndex index = new RadiationSourceIndex();
+        index.put(source(2, 0, 0, 5));
+        index.put(source(0, 0, 3, 10));
+        //Same chunk radius, but outside the spherical range
+        index.put(source(31, 0, 31, 100));
+        LevelAndMaxMagnitude result = index.getLevelAndMaxMagnitude(BlockPos.ZERO, 2, BASELINE);
+        Assertions.assertEquals(10, result.maxMagnitude());
+        Assertions.assertEquals(BASELINE + 5 / 4D + 10 / 9D, result.level(), 1E-9);
+        Assertions.assertEquals(result.level(), index.getLevel(BlockPos.ZERO, 2, BASELINE));
+    }
+
+    @Test
+    @DisplayName("Test consecutive lookups do not leak state into each other")
+    void testIndependentLookups() {
+        RadiationSourceIndex index = new RadiationSourceIndex();
+        index.put(source(0, 0, 0, 50));
+        index.put(source(1_000, 0, 0, 2));
+        LevelAndMaxMagnitude near = index.getLevelAndMaxMagnitude(BlockPos.ZERO, 2, BASELINE);
+        LevelAndMaxMagnitude far = index.getLevelAndMaxMagnitude(new BlockPos(1_000, 0, 1), 2, BASELINE);
+        Assertions.assertEquals(50, near.maxMagnitude());
+        Assertions.assertEquals(2, far.maxMagnitude());
+        Assertions.assertEquals(BASELINE + 2, far.level(), 1E-9);
+    }
+
+    @Test
+    @DisplayName("Test the cached max magnitude is updated when a source changes")
+    void testMarkChanged() {
+        RadiationSourceIndex index = new RadiationSourceIndex();
+        RadiationSource source = source(1, 0, 1, 1);
+        index.put(source);
+        Assertions.assertEquals(1, index.getLevelAndMaxMagnitude(BlockPos.ZERO, 2, BASELINE).maxMagnitude());
+        source.radiate(4);
+        index.markChanged(source.getPos().pos());
+        Assertions.assertEquals(5, index.getLevelAndMaxMagnitude(BlockPos.ZERO, 2, BASELINE).maxMagnitude());
+    }
+}
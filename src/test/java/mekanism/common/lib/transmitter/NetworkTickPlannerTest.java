@@ -0,0 +1,86 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import mekanism.common.lib.transmitter.NetworkTickPlanner.NetworkKeys;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test finding which transmitter networks are independent of each other")
+class NetworkTickPlannerTest {
+
+    private static NetworkKeys keys(List<Object> backing, BlockPos... positions) {
+        long[] packed = new long[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            packed[i] = positions[i].asLong();
+        }
+        return new NetworkKeys(Level.OVERWORLD, LongList.of(packed), backing);
+    }
+
+    private static Set<String> findShared(Map<String, NetworkKeys> keysByNetwork) {
+        return NetworkTickPlanner.findSharedNetworks(keysByNetwork);
+    }
+
+    @Test
+    @DisplayName("Test networks with separate acceptors are independent")
+    void testSeparate() {
+        Map<String, NetworkKeys> keysByNetwork = new LinkedHashMap<>();
+        keysByNetwork.put("a", keys(List.of(new Object()), new BlockPos(0, 0, 0)));
+        keysByNetwork.put("b", keys(List.of(new Object()), new BlockPos(5, 0, 0)));
+        Assertions.assertTrue(findShared(keysByNetwork).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test networks with an acceptor at the same position are not independent")
+    void testSamePosition() {
+        Map<String, NetworkKeys> keysByNetwork = new LinkedHashMap<>();
+        keysByNetwork.put("a", keys(List.of(), new BlockPos(0, 0, 0)));
+        keysByNetwork.put("b", keys(List.of(), new BlockPos(0, 0, 0), new BlockPos(1, 0, 0)));
+        keysByNetwork.put("c", keys(List.of(), new BlockPos(2, 0, 0)));
+        Assertions.assertEquals(Set.of("a", "b"), findShared(keysByNetwork));
+    }
+
+    @Test
+    @DisplayName("Test networks connected to the same multiblock through different ports are not independent")
+    void testSameMultiblock() {
+        Object multiblock = new Object();
+        Map<String, NetworkKeys> keysByNetwork = new LinkedHashMap<>();
+        keysByNetwork.put("a", keys(List.of(multiblock), new BlockPos(0, 0, 0)));
+        keysByNetwork.put("b", keys(List.of(multiblock), new BlockPos(0, 4, 0)));
+        Assertions.assertEquals(Set.of("a", "b"), findShared(keysByNetwork));
+    }
+
+    @Test
+    @DisplayName("Test a network connected to a multiblock through multiple ports is still independent")
+    void testSameNetworkMultiblock() {
+        Object multiblock = new Object();
+        Map<String, NetworkKeys> keysByNetwork = new LinkedHashMap<>();
+        keysByNetwork.put("a", keys(List.of(multiblock, multiblock), new BlockPos(0, 0, 0), new BlockPos(0, 4, 0)));
+        keysByNetwork.put("b", keys(List.of(new Object()), new BlockPos(8, 0, 0)));
+        Assertions.assertTrue(findShared(keysByNetwork).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test what backs acceptors is compared by reference")
+    void testBackingByReference() {
+        Map<String, NetworkKeys> keysByNetwork = new LinkedHashMap<>();
+        keysByNetwork.put("a", keys(List.of(new BlockPos(1, 1, 1)), new BlockPos(0, 0, 0)));
+        keysByNetwork.put("b", keys(List.of(new BlockPos(1, 1, 1)), new BlockPos(5, 0, 0)));
+        Assertions.assertTrue(findShared(keysByNetwork).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test acceptors at the same position in different dimensions are independent")
+    void testDifferentDimensions() {
+        Map<String, NetworkKeys> keysByNetwork = new LinkedHashMap<>();
+        keysByNetwork.put("a", new NetworkKeys(Level.OVERWORLD, LongList.of(BlockPos.ZERO.asLong()), List.of()));
+        keysByNetwork.put("b", new NetworkKeys(Level.NETHER, LongList.of(BlockPos.ZERO.asLong()), List.of()));
+        Assertions.assertTrue(findShared(keysByNetwork).isEmpty());
+    }
+}
@@ -0,0 +1,69 @@
+package mekanism.common.network.to_client;
+
+import mekanism.common.network.to_client.PacketUpdateTile.TileUpdate;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test only sending the changed parts of tile update tags")
+class TileUpdateTest {
+
+    private static CompoundTag tag(int energy, boolean active) {
+        CompoundTag tag = new CompoundTag();
+        tag.putInt("energy", energy);
+        tag.putBoolean("active", active);
+        CompoundTag tank = new CompoundTag();
+        tank.putString("fluid", "minecraft:water");
+        tag.put("tank", tank);
+        return tag;
+    }
+
+    @Test
+    @DisplayName("Test nothing is sent when nothing changed")
+    void testUnchanged() {
+        Assertions.assertNull(TileUpdate.changes(BlockPos.ZERO, tag(10, true), tag(10, true)));
+    }
+
+    @Test
+    @DisplayName("Test only the changed entries are sent")
+    void testChanged() {
+        CompoundTag previous = tag(10, true);
+        CompoundTag current = tag(20, true);
+        TileUpdate update = TileUpdate.changes(BlockPos.ZERO, previous, current);
+        Assertions.assertNotNull(update);
+        Assertions.assertEquals(1, update.updateTag().size());
+        Assertions.assertEquals(20, update.updateTag().getInt("energy"));
+        Assertions.assertEquals(current, update.apply(previous));
+    }
+
+    @Test
+    @DisplayName("Test removed entries are removed")
+    void testRemoved() {
+        CompoundTag previous = tag(10, true);
+        CompoundTag current = tag(10, true);
+        current.remove("tank");
+        TileUpdate update = TileUpdate.changes(BlockPos.ZERO, previous, current);
+        Assertions.assertNotNull(update);
+        Assertions.assertTrue(update.updateTag().isEmpty());
+        Assertions.assertEquals(current, update.apply(previous));
+    }
+
+    @Test
+    @DisplayName("Test applying changes does not modify the previous tag")
+    void testPreviousUnmodified() {
+        CompoundTag previous = tag(10, true);
+        TileUpdate update = TileUpdate.changes(BlockPos.ZERO, previous, tag(20, false));
+        Assertions.assertNotNull(update);
+        update.apply(previous);
+        Assertions.assertEquals(tag(10, true), previous);
+    }
+
+    @Test
+    @DisplayName("Test full updates replace the previous tag")
+    void testFull() {
+        CompoundTag current = tag(5, false);
+        Assertions.assertEquals(current, TileUpdate.full(BlockPos.ZERO, current).apply(tag(10, true)));
+    }
+}
@@ -0,0 +1,153 @@
+package mekanism.common.tile.component;
+
+import java.util.Arrays;
+import mekanism.common.capabilities.fluid.BasicFluidTank;
+import mekanism.common.tile.component.EjectionScheduler.EjectionType;
+import net.minecraft.world.level.material.Fluids;
+import net.neoforged.neoforge.fluids.FluidStack;
+import net.neoforged.neoforge.fluids.capability.templates.FluidTank;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test scheduling ejections and splitting combined ejections between their sources")
+class EjectionSchedulerTest {
+
+    private static BasicFluidTank source(int amount) {
+        BasicFluidTank tank = BasicFluidTank.create(1_000, null);
+        tank.setStack(new FluidStack(Fluids.WATER, amount));
+        return tank;
+    }
+
+    private static void schedule(EjectionScheduler scheduler, FluidTank target, BasicFluidTank source, int maxOutput) {
+        scheduler.schedule(EjectionType.FLUID, target, () -> target, () -> false, source, maxOutput);
+    }
+
+    @Test
+    @DisplayName("Test ejections are only performed when flushed")
+    void testDeferred() {
+        EjectionScheduler scheduler = new EjectionScheduler();
+        BasicFluidTank source = source(1_000);
+        FluidTank target = new FluidTank(10_000);
+        schedule(scheduler, target, source, 100);
+        Assertions.assertTrue(target.isEmpty());
+        Assertions.assertEquals(1_000, source.getFluidAmount());
+        scheduler.flush();
+        Assertions.assertEquals(100, target.getFluidAmount());
+        Assertions.assertEquals(900, source.getFluidAmount());
+        //Flushed ejections are not performed again
+        scheduler.flush();
+        Assertions.assertEquals(100, target.getFluidAmount());
+        Assertions.assertEquals(900, source.getFluidAmount());
+    }
+
+    @Test
+    @DisplayName("Test ejections into the same handler are combined into a single insertion")
+    void testGrouped() {
+        EjectionScheduler scheduler = new EjectionScheduler();
+        BasicFluidTank first = source(1_000);
+        BasicFluidTank second = source(1_000);
+        BasicFluidTank third = source(1_000);
+        CountingTank shared = new CountingTank(100);
+        CountingTank other = new CountingTank(100);
+        schedule(scheduler, shared, first, 80);
+        schedule(scheduler, other, third, 80);
+        schedule(scheduler, shared, second, 80);
+        scheduler.flush();
+        Assertions.assertEquals(1, shared.fills);
+        Assertions.assertEquals(1, other.fills);
+        //The shared target can only accept 100 of the 160 that was offered, so it is split evenly between both sources
+        Assertions.assertEquals(100, shared.getFluidAmount());
+        Assertions.assertEquals(950, first.getFluidAmount());
+        Assertions.assertEquals(950, second.getFluidAmount());
+        Assertions.assertEquals(80, other.getFluidAmount());
+        Assertions.assertEquals(920, third.getFluidAmount());
+    }
+
+    @Test
+    @DisplayName("Test ejections are dropped if the target was replaced before flushing")
+    void testReplacedTarget() {
+        EjectionScheduler scheduler = new EjectionScheduler();
+        BasicFluidTank source = source(1_000);
+        FluidTank target = new FluidTank(10_000);
+        FluidTank replacement = new FluidTank(10_000);
+        scheduler.schedule(EjectionType.FLUID, target, () -> replacement, () -> false, source, 100);
+        scheduler.flush();
+        Assertions.assertTrue(target.isEmpty());
+        Assertions.assertTrue(replacement.isEmpty());
+        Assertions.assertEquals(1_000, source.getFluidAmount());
+    }
+
+    @Test
+    @DisplayName("Test ejections are dropped if the target was removed before flushing")
+    void testRemovedTarget() {
+        EjectionScheduler scheduler = new EjectionScheduler();
+        BasicFluidTank source = source(1_000);
+        FluidTank target = new FluidTank(10_000);
+        scheduler.schedule(EjectionType.FLUID, target, () -> null, () -> false, source, 100);
+        scheduler.flush();
+        Assertions.assertTrue(target.isEmpty());
+        Assertions.assertEquals(1_000, source.getFluidAmount());
+    }
+
+    @Test
+    @DisplayName("Test ejections are dropped if the source was removed before flushing")
+    void testRemovedSource() {
+        EjectionScheduler scheduler = new EjectionScheduler();
+        BasicFluidTank removed = source(1_000);
+        BasicFluidTank present = source(1_000);
+        FluidTank target = new FluidTank(10_000);
+        scheduler.schedule(EjectionType.FLUID, target, () -> target, () -> true, removed, 100);
+        schedule(scheduler, target, present, 100);
+        scheduler.flush();
+        Assertions.assertEquals(1_000, removed.getFluidAmount());
+        Assertions.assertEquals(900, present.getFluidAmount());
+        Assertions.assertEquals(100, target.getFluidAmount());
+    }
+
+    @Test
+    @DisplayName("Test splitting evenly")
+    void testEven() {
+        Assertions.assertArrayEquals(new long[]{5, 5, 5}, EjectionScheduler.split(15, new long[]{10, 10, 10}));
+    }
+
+    @Test
+    @DisplayName("Test splitting with a remainder")
+    void testRemainder() {
+        long[] taken = EjectionScheduler.split(10, new long[]{10, 10, 10});
+        Assertions.assertEquals(10, Arrays.stream(taken).sum());
+        for (long amount : taken) {
+            Assertions.assertTrue(amount == 3 || amount == 4);
+        }
+    }
+
+    @Test
+    @DisplayName("Test small offers are fully used")
+    void testSmallOffers() {
+        Assertions.assertArrayEquals(new long[]{1, 7, 2}, EjectionScheduler.split(10, new long[]{1, 100, 2}));
+    }
+
+    @Test
+    @DisplayName("Test everything that was offered is taken")
+    void testAll() {
+        long[] offers = {3, 0, 17, 5};
+        Assertions.assertArrayEquals(offers, EjectionScheduler.split(25, offers));
+    }
+
+    private static class CountingTank extends FluidTank {
+
+        private int fills;
+
+        private CountingTank(int capacity) {
+            super(capacity);
+        }
+
+        @Override
+        public int fill(FluidStack resource, FluidAction action) {
+            if (action.execute()) {
+                fills++;
+            }
+            return super.fill(resource, action);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package mekanism.common.tile.factory;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import java.util.Arrays;
+import java.util.Set;
+import mekanism.common.tile.factory.FactorySortGroups.Group;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test grouping the processes of factories by their inputs for sorting")
+class FactorySortGroupsTest {
+
+    private static final int PROCESSES = 5;
+
+    private ItemStack[] inputs;
+    private FactorySortGroups<Group> groups;
+
+    @BeforeEach
+    void setup() {
+        inputs = new ItemStack[PROCESSES];
+        Arrays.fill(inputs, ItemStack.EMPTY);
+        groups = new FactorySortGroups<>(PROCESSES, Group::new);
+    }
+
+    private Set<Group> update(int... processes) {
+        Set<Group> affected = new ReferenceLinkedOpenHashSet<>();
+        for (int process : processes) {
+            groups.update(process, inputs[process], affected);
+        }
+        return affected;
+    }
+
+    private void markSorted(Set<Group> affected) {
+        for (Group group : affected) {
+            groups.markSorted(group, process -> inputs[process]);
+        }
+    }
+
+    @Test
+    @DisplayName("Test processes with the same input are grouped together")
+    void testGrouping() {
+        inputs[0] = new ItemStack(Items.COBBLESTONE, 10);
+        inputs[1] = new ItemStack(Items.DIRT, 5);
+        inputs[2] = new ItemStack(Items.COBBLESTONE, 3);
+        Set<Group> affected = update(2, 1, 0);
+        Assertions.assertEquals(2, affected.size());
+        Assertions.assertEquals(2, groups.getGroups().size());
+        Group cobblestone = groups.getGroup(0);
+        Assertions.assertNotNull(cobblestone);
+        Assertions.assertSame(cobblestone, groups.getGroup(2));
+        Assertions.assertNotSame(cobblestone, groups.getGroup(1));
+        //The processes are kept in order regardless of the order they were updated in
+        Assertions.assertEquals(IntList.of(0, 2), cobblestone.processes);
+        Assertions.assertEquals(1, cobblestone.type.getCount());
+        Assertions.assertNull(groups.getGroup(3));
+    }
+
+    @Test
+    @DisplayName("Test groups are only rebalanced if their slots changed")
+    void testUnchanged() {
+        inputs[0] = new ItemStack(Items.COBBLESTONE, 10);
+        inputs[1] = new ItemStack(Items.COBBLESTONE, 10);
+        markSorted(update(0, 1));
+        Assertions.assertTrue(update(0, 1).isEmpty());
+        inputs[1].shrink(1);
+        Set<Group> affected = update(0, 1);
+        Assertions.assertEquals(1, affected.size());
+        Assertions.assertTrue(affected.contains(groups.getGroup(0)));
+    }
+
+    @Test
+    @DisplayName("Test a process that changes input moves to the new group")
+    void testChangedInput() {
+        inputs[0] = new ItemStack(Items.COBBLESTONE, 10);
+        inputs[1] = new ItemStack(Items.COBBLESTONE, 10);
+        markSorted(update(0, 1));
+        Group cobblestone = groups.getGroup(0);
+        inputs[1] = new ItemStack(Items.DIRT, 10);
+        Set<Group> affected = update(1);
+        Group dirt = groups.getGroup(1);
+        Assertions.assertNotNull(dirt);
+        Assertions.assertEquals(Set.of(cobblestone, dirt), affected);
+        Assertions.assertEquals(IntList.of(0), cobblestone.processes);
+        Assertions.assertEquals(IntList.of(1), dirt.processes);
+    }
+
+    @Test
+    @DisplayName("Test emptied processes are removed from their group")
+    void testEmptied() {
+        inputs[0] = new ItemStack(Items.COBBLESTONE, 10);
+        markSorted(update(0));
+        Group cobblestone = groups.getGroup(0);
+        inputs[0] = ItemStack.EMPTY;
+        Set<Group> affected = new ReferenceLinkedOpenHashSet<>();
+        Assertions.assertTrue(groups.update(0, inputs[0], affected));
+        Assertions.assertEquals(Set.of(cobblestone), affected);
+        Assertions.assertNull(groups.getGroup(0));
+        Assertions.assertTrue(groups.getGroups().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test processes that end up empty after distributing are removed from their group")
+    void testMarkSorted() {
+        inputs[0] = new ItemStack(Items.COBBLESTONE, 10);
+        inputs[1] = new ItemStack(Items.COBBLESTONE, 10);
+        Set<Group> affected = update(0, 1);
+        Group cobblestone = groups.getGroup(0);
+        //Simulate distributing all the items into the first slot
+        inputs[0] = new ItemStack(Items.COBBLESTONE, 20);
+        inputs[1] = ItemStack.EMPTY;
+        markSorted(affected);
+        Assertions.assertEquals(IntList.of(0), cobblestone.processes);
+        Assertions.assertNull(groups.getGroup(1));
+        //As the sorted count was recorded, the group doesn't need to be rebalanced again
+        Assertions.assertTrue(update(0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test how many empty slots a group can expand into")
+    void testSlotsToAdd() {
+        Group group = new Group(new ItemStack(Items.COBBLESTONE));
+        group.processes.add(0);
+        group.totalCount = 10;
+        Assertions.assertEquals(2, group.getSlotsToAdd(3));
+        Assertions.assertTrue(group.canExpand);
+        Assertions.assertEquals(9, group.getSlotsToAdd(1));
+        Assertions.assertTrue(group.canExpand);
+        //Not enough for more than a single operation
+        Assertions.assertEquals(0, group.getSlotsToAdd(6));
+        Assertions.assertFalse(group.canExpand);
+        group.reset();
+        Assertions.assertTrue(group.canExpand);
+        //Enough for two operations, but already spread across two slots
+        group.processes.add(1);
+        group.totalCount = 10;
+        Assertions.assertEquals(0, group.getSlotsToAdd(5));
+        Assertions.assertFalse(group.canExpand);
+    }
+
+    @Test
+    @DisplayName("Test only groups that may be able to expand are offered empty slots")
+    void testExpandable() {
+        inputs[0] = new ItemStack(Items.COBBLESTONE, 1);
+        inputs[1] = new ItemStack(Items.DIRT, 64);
+        Set<Group> affected = update(0, 1);
+        Group cobblestone = groups.getGroup(0);
+        Group dirt = groups.getGroup(1);
+        for (Group group : affected) {
+            group.totalCount = inputs[group.processes.getInt(0)].getCount();
+            group.getSlotsToAdd(1);
+        }
+        markSorted(affected);
+        Set<Group> expandable = new ReferenceLinkedOpenHashSet<>();
+        groups.addExpandable(expandable);
+        Assertions.assertEquals(Set.of(dirt), expandable);
+        Assertions.assertFalse(cobblestone.canExpand);
+    }
+}